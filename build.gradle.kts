@@ -29,6 +29,7 @@ val mixinVersion: String by project
 val guavaVersion: String by project
 val junitVersion: String by project
 val mockitoVersion: String by project
+val jmhVersion: String by project
 val checkerVersion: String by project
 
 val commonManifest = the<JavaPluginConvention>().manifest {
@@ -143,6 +144,13 @@ val mixins by sourceSets.registering {
         extendsFrom(mixinsConfig)
     }
 }
+// Microbenchmarks, run with the jmh task
+val jmh by sourceSets.registering {
+    spongeImpl.applyNamedDependencyOnOutput(project, main, this, project, this.implementationConfigurationName)
+    configurations.named(implementationConfigurationName) {
+        extendsFrom(configurations.implementation.get())
+    }
+}
 
 dependencies {
     // api
@@ -208,6 +216,10 @@ dependencies {
     testImplementation("org.mockito:mockito-core:$mockitoVersion")
     testImplementation("org.mockito:mockito-junit-jupiter:$mockitoVersion")
     testImplementation("org.mockito:mockito-inline:$mockitoVersion")
+
+    // Benchmarks
+    add(jmh.get().implementationConfigurationName, "org.openjdk.jmh:jmh-core:$jmhVersion")
+    add(jmh.get().annotationProcessorConfigurationName, "org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
 }
 
 val organization: String by project
@@ -388,6 +400,16 @@ allprojects {
     }
 }
 
+tasks {
+    register("jmh", JavaExec::class) {
+        group = "verification"
+        description = "Runs the microbenchmarks, pass -Pjmh.includes=<regex> to select some"
+        classpath = jmh.get().runtimeClasspath
+        mainClass.set("org.openjdk.jmh.Main")
+        project.findProperty("jmh.includes")?.let { args(it) }
+    }
+}
+
 tasks {
     val jar by existing
     val sourceJar by existing
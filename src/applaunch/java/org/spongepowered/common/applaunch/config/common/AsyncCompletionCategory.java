@@ -0,0 +1,58 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.applaunch.config.common;
+
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@ConfigSerializable
+public final class AsyncCompletionCategory {
+
+    @Setting
+    @Comment("If this is true, tab completions provided by plugin command parameters and raw commands are\n"
+            + "computed on a separate thread pool rather than on the main thread. A new completion request\n"
+            + "from a player cancels any of their requests that are still running.\n\n"
+            + "Completion providers that are not safe to call off the main thread should be listed in\n"
+            + "\"main-thread-completers\".")
+    public boolean enabled = false;
+
+    @Setting
+    @Comment("The number of threads used to compute completions.")
+    public int threads = 2;
+
+    @Setting("queue-size")
+    @Comment("The number of completions that may wait for a thread. Completions submitted while the queue\n"
+            + "is full are skipped.")
+    public int queueSize = 64;
+
+    @Setting("main-thread-completers")
+    @Comment("Class name prefixes of completion providers that must always run on the main thread.")
+    public final List<String> mainThreadCompleters = new ArrayList<>(Arrays.asList("net.minecraft.", "org.spongepowered."));
+}
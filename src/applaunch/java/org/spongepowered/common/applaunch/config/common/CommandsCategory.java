@@ -54,4 +54,8 @@ public final class CommandsCategory {
     @Comment("Defines how Sponge should act when a user tries to access a command they do not have\n"
                      + "permission for")
     public final CommandsHiddenCategory commandsHidden = new CommandsHiddenCategory();
+
+    @Setting("async-completion")
+    @Comment("Controls whether tab completions are computed off the main thread")
+    public final AsyncCompletionCategory asyncCompletion = new AsyncCompletionCategory();
 }
@@ -97,6 +97,10 @@ public final class CommonConfig implements Config {
     @Setting
     public final WorldCategory world = new WorldCategory();
 
+    @Setting
+    @Comment("Configuration options related to the scheduler, such as how asynchronous tasks are executed")
+    public final SchedulerCategory scheduler = new SchedulerCategory();
+
     public static ConfigurationTransformation transformation() {
         return ConfigurationTransformation.versionedBuilder()
             .makeVersion(1, builder -> {
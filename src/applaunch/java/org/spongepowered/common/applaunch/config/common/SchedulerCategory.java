@@ -0,0 +1,70 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.applaunch.config.common;
+
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@ConfigSerializable
+public final class SchedulerCategory {
+
+    @Setting("async-executor")
+    @Comment("The executor used to run asynchronous scheduler tasks. Supported values:\n"
+             + "  - CACHED: Grow an unbounded pool of platform threads as needed\n"
+             + "  - WORK_STEALING: Run tasks on a bounded work-stealing pool, see 'async-parallelism'\n"
+             + "  - VIRTUAL: Run every task on its own virtual thread, best suited to tasks performing\n"
+             + "    blocking I/O. Falls back to CACHED when the JVM does not support virtual threads.\n"
+             + "Changes require a restart.")
+    public ExecutorMode asyncExecutor = ExecutorMode.CACHED;
+
+    @Setting("async-parallelism")
+    @Comment("The number of threads of the WORK_STEALING executor. If '0', the number of available\n"
+             + "processors is used.")
+    public int asyncParallelism = 0;
+
+    @Setting("async-plugin-concurrency")
+    @Comment("The maximum number of asynchronous tasks a single plugin may run at the same time.\n"
+             + "Tasks above this limit are queued until one of the plugin's tasks completes.\n"
+             + "If '0', plugins are not limited.")
+    public int asyncPluginConcurrency = 0;
+
+    @Setting("async-plugin-concurrency-overrides")
+    @Comment("Per plugin overrides of 'async-plugin-concurrency', keyed by plugin id.")
+    public final Map<String, Integer> asyncPluginConcurrencyOverrides = new HashMap<>();
+
+    public int concurrencyLimit(final String pluginId) {
+        return this.asyncPluginConcurrencyOverrides.getOrDefault(pluginId, this.asyncPluginConcurrency);
+    }
+
+    public enum ExecutorMode {
+        CACHED,
+        WORK_STEALING,
+        VIRTUAL
+    }
+}
@@ -56,6 +56,16 @@ public final class WorldCategory {
                                                      + "Note: If you are using SpongeForge, make sure to enter any mod fake player's UUID to this list.")
     public final List<UUID> invalidLookupUuids = new ArrayList<>();
 
+    @Setting(value = "link-region-files-on-copy")
+    @Comment("If 'true', copying a world that is not loaded hard links its region files instead of copying them, where the file \n"
+                                                           + "system supports it. A copy of a linked region file is only made once a world writes to it.")
+    public boolean linkRegionFilesOnCopy = true;
+
+    @Setting(value = "off-heap-archetype-volume-threshold")
+    @Comment("The number of blocks from which archetype volumes, such as regions copied from a world or loaded schematics, keep \n"
+                                                                     + "their block ids outside of the Java heap. Set to 0 to always keep them on the heap. (Default: 16777216)")
+    public int offHeapArchetypeVolumeThreshold = 16777216;
+
     public WorldCategory() {
         this.invalidLookupUuids.add(UUID.fromString("00000000-0000-0000-0000-000000000000"));
         this.invalidLookupUuids.add(UUID.fromString("41c82c87-7afb-4024-ba57-13d2c99cae77")); // Forge FakePlayer
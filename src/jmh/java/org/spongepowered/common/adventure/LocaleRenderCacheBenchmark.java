@@ -0,0 +1,96 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.adventure;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One component shared by players of four locales and rendered from
+ * several threads, like scoreboard lines encoded on the netty threads.
+ * {@code synchronizedSlot} keeps the single last-locale slot that
+ * AdventureTextComponent used before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class LocaleRenderCacheBenchmark {
+
+    private static final Locale[] LOCALES = {Locale.ENGLISH, Locale.GERMAN, Locale.FRENCH, Locale.JAPANESE};
+
+    private final LocaleRenderCache<String> cache = new LocaleRenderCache<>();
+    private @Nullable Locale lastLocale;
+    private @Nullable String lastRendered;
+
+    @State(Scope.Thread)
+    public static class Player {
+
+        private int next;
+
+        Locale locale() {
+            return LocaleRenderCacheBenchmark.LOCALES[this.next++ & 3];
+        }
+    }
+
+    private static String render(final Locale locale) {
+        // Stands in for the translation lookup and the component conversion
+        return String.format(locale, "%s: %,d", locale.getDisplayLanguage(locale), 1_234_567);
+    }
+
+    @Benchmark
+    public String localeRenderCache(final Player player) {
+        final Locale locale = player.locale();
+        final @Nullable String rendered = this.cache.get(locale);
+        return rendered != null ? rendered : this.cache.put(locale, LocaleRenderCacheBenchmark.render(locale));
+    }
+
+    @Benchmark
+    public String synchronizedSlot(final Player player) {
+        final Locale locale = player.locale();
+        synchronized (this) {
+            if (this.lastRendered == null || !locale.equals(this.lastLocale)) {
+                this.lastRendered = LocaleRenderCacheBenchmark.render(locale);
+                this.lastLocale = locale;
+            }
+            return this.lastRendered;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.context.transaction.pipeline;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.common.event.tracking.BlockChangeFlagManager;
+import org.spongepowered.common.event.tracking.context.transaction.effect.ProcessingSideEffect;
+import org.spongepowered.common.util.Constants;
+import org.spongepowered.common.world.SpongeBlockChangeFlag;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of getting the world effects of a block change. Flags outside
+ * of the precomputed range assemble their effect list on every change, as
+ * every flag did before the lists were precomputed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlockChangeEffectsBenchmark {
+
+    private final SpongeBlockChangeFlag precomputed = BlockChangeFlagManager.fromNativeInt(Constants.BlockChangeFlags.DEFAULT);
+    private final SpongeBlockChangeFlag assembled = BlockChangeFlagManager.fromNativeInt(
+        BlockChangeEffects.PRECOMPUTED_FLAGS | Constants.BlockChangeFlags.DEFAULT);
+
+    @Benchmark
+    public List<ProcessingSideEffect> precomputed() {
+        return BlockChangeEffects.worldEffects(this.precomputed);
+    }
+
+    @Benchmark
+    public List<ProcessingSideEffect> assembledPerChange() {
+        return BlockChangeEffects.worldEffects(this.assembled);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.inventory.query;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.item.inventory.Inventory;
+import org.spongepowered.api.item.inventory.Slot;
+import org.spongepowered.api.item.inventory.entity.Hotbar;
+import org.spongepowered.api.item.inventory.entity.PlayerInventory;
+import org.spongepowered.api.item.inventory.entity.PrimaryPlayerInventory;
+import org.spongepowered.api.item.inventory.equipment.EquipmentInventory;
+import org.spongepowered.api.item.inventory.type.GridInventory;
+import org.spongepowered.api.item.inventory.type.InventoryRow;
+import org.spongepowered.common.inventory.fabric.Fabric;
+import org.spongepowered.common.inventory.lens.Lens;
+import org.spongepowered.common.inventory.lens.impl.AbstractLens;
+import org.spongepowered.common.inventory.lens.impl.slot.BasicSlotLens;
+import org.spongepowered.common.inventory.query.type.TypeQuery;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Type queries on a lens tree shaped like the player inventory: a hotbar
+ * and a grid of three rows in the main inventory, armor and the offhand.
+ * The real player lenses attach slot data keys, which need the game
+ * registries, so the tree is built from plain lenses of the same shape.
+ * {@code depthFirstSearch} walks the tree on every query, as queries did
+ * before their plans were cached.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryPlansBenchmark {
+
+    @Param({"hotbar", "row", "slot"})
+    public String target;
+
+    private Lens root;
+    private SpongeDepthQuery query;
+
+    static final class Section extends AbstractLens {
+
+        Section(final int base, final int size, final Class<? extends Inventory> adapterType) {
+            super(base, size, adapterType);
+        }
+
+        Section slots(final int count) {
+            for (int slot = 0; slot < count; slot++) {
+                this.addSpanningChild(new BasicSlotLens(this.base + slot));
+            }
+            return this;
+        }
+
+        Section span(final Lens child) {
+            this.addSpanningChild(child);
+            return this;
+        }
+
+        @Override
+        public Inventory getAdapter(final Fabric fabric, final Inventory parent) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    @Setup
+    public void setup() {
+        final Section grid = new Section(9, 27, GridInventory.class);
+        for (int row = 0; row < 3; row++) {
+            grid.span(new Section(9 + row * 9, 9, InventoryRow.class).slots(9));
+        }
+        final Section main = new Section(0, 36, PrimaryPlayerInventory.class)
+                .span(new Section(0, 9, Hotbar.class).slots(9))
+                .span(grid);
+        this.root = new Section(0, 41, PlayerInventory.class)
+                .span(main)
+                .span(new Section(36, 4, EquipmentInventory.class).slots(4))
+                .span(new Section(40, 1, Inventory.class).slots(1));
+
+        switch (this.target) {
+            case "hotbar":
+                this.query = new TypeQuery(Hotbar.class);
+                break;
+            case "row":
+                this.query = new TypeQuery(InventoryRow.class);
+                break;
+            default:
+                this.query = new TypeQuery(Slot.class);
+        }
+    }
+
+    // TypeQuery does not look at the queried inventory
+
+    @Benchmark
+    public @Nullable Map<Lens, Integer> cachedPlan() {
+        return this.query.findMatches(null, this.root);
+    }
+
+    @Benchmark
+    public @Nullable Map<Lens, Integer> depthFirstSearch() {
+        return this.query.search(null, this.root);
+    }
+}
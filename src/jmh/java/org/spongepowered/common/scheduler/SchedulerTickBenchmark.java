@@ -0,0 +1,108 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of one scheduler tick with many repeating tasks registered,
+ * most of which are not due. {@code mapScan} walks every task like the
+ * schedulers did before the timing wheel.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchedulerTickBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    private int tasks;
+
+    @Param({"20", "1200"})
+    private int interval;
+
+    private TimingWheel<long[]> wheel;
+    private Map<Integer, long[]> map;
+    private final List<long[]> due = new ArrayList<>();
+    private long tick;
+
+    @Setup
+    public void setup() {
+        this.wheel = new TimingWheel<>(0L);
+        this.map = new ConcurrentHashMap<>();
+        for (int i = 0; i < this.tasks; i++) {
+            // Spread the tasks over their interval, element 0 is the next run
+            final long next = 1 + i % this.interval;
+            this.wheel.schedule(new long[] {next}, next);
+            this.map.put(i, new long[] {next});
+        }
+        this.tick = 0L;
+    }
+
+    @Benchmark
+    public int timingWheel() {
+        final long now = ++this.tick;
+        this.wheel.advance(now, this.due::add);
+        final int ran = this.due.size();
+        // Repeating tasks are queued again once the tick is over
+        for (final long[] task : this.due) {
+            task[0] = now + this.interval;
+            this.wheel.schedule(task, task[0]);
+        }
+        this.due.clear();
+        return ran;
+    }
+
+    @Benchmark
+    public int mapScan() {
+        final long now = ++this.tick;
+        int ran = 0;
+        for (final long[] task : this.map.values()) {
+            if (task[0] <= now) {
+                task[0] = now + this.interval;
+                ran++;
+            }
+        }
+        return ran;
+    }
+}
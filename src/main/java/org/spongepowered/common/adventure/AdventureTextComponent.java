@@ -41,7 +41,6 @@
 
 import java.util.List;
 import java.util.Locale;
-import java.util.Objects;
 import java.util.Optional;
 
 public class AdventureTextComponent implements net.minecraft.network.chat.Component, BaseComponentBridge {
@@ -49,12 +48,12 @@ public class AdventureTextComponent implements net.minecraft.network.chat.Compon
     private @Nullable Locale deepConvertedLocalized;
     private final net.kyori.adventure.text.Component wrapped;
     private final @Nullable ComponentRenderer<Locale> renderer;
-    private @Nullable Locale lastLocale;
-    private @Nullable AdventureTextComponent lastRendered;
+    private final @Nullable LocaleRenderCache<AdventureTextComponent> renderCache;
 
     public AdventureTextComponent(final net.kyori.adventure.text.Component wrapped, final @Nullable ComponentRenderer<Locale> renderer) {
         this.wrapped = wrapped;
         this.renderer = renderer;
+        this.renderCache = renderer == null ? null : new LocaleRenderCache<>();
     }
 
     public @Nullable ComponentRenderer<Locale> renderer() {
@@ -65,12 +64,15 @@ public net.kyori.adventure.text.Component wrapped() {
         return this.wrapped;
     }
 
-    public synchronized AdventureTextComponent rendered(final Locale locale) {
-        if (Objects.equals(locale, this.lastLocale)) {
-            return this.lastRendered;
+    public AdventureTextComponent rendered(final Locale locale) {
+        if (this.renderer == null) {
+            return this;
         }
-        this.lastLocale = locale;
-        return this.lastRendered = this.renderer == null ? this : new AdventureTextComponent(this.renderer.render(this.wrapped, locale), null);
+        final @Nullable AdventureTextComponent rendered = this.renderCache.get(locale);
+        if (rendered != null) {
+            return rendered;
+        }
+        return this.renderCache.put(locale, new AdventureTextComponent(this.renderer.render(this.wrapped, locale), null));
     }
 
     net.minecraft.network.chat.Component deepConverted() {
@@ -0,0 +1,133 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.adventure;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A small, lock-free cache of values rendered for a locale.
+ *
+ * <p>Entries are kept in a copy-on-write array, so lookups from any thread
+ * are a plain scan over a handful of locales. Once full, the oldest entry
+ * is evicted.</p>
+ *
+ * @param <V> The rendered value type
+ */
+public final class LocaleRenderCache<V> {
+
+    static final int MAX_SIZE = 8;
+
+    private static final Entry<?>[] EMPTY = new Entry<?>[0];
+
+    @SuppressWarnings("unchecked")
+    private final AtomicReference<Entry<V>[]> entries = new AtomicReference<>((Entry<V>[]) LocaleRenderCache.EMPTY);
+    private final @Nullable Object source;
+
+    public LocaleRenderCache() {
+        this(null);
+    }
+
+    /**
+     * Creates a cache of values rendered from the given source, such as the
+     * immutable part of a component that may be swapped out.
+     *
+     * @param source The source
+     */
+    public LocaleRenderCache(final @Nullable Object source) {
+        this.source = source;
+    }
+
+    /**
+     * Gets whether the cached values were rendered from the given source,
+     * compared by identity.
+     *
+     * @param source The source
+     * @return Whether the values were rendered from the source
+     */
+    public boolean isRenderedFrom(final @Nullable Object source) {
+        return this.source == source;
+    }
+
+    /**
+     * Gets the value rendered for the given locale, if cached.
+     *
+     * @param locale The locale
+     * @return The rendered value, or null
+     */
+    public @Nullable V get(final Locale locale) {
+        for (final Entry<V> entry : this.entries.get()) {
+            if (entry.locale.equals(locale)) {
+                return entry.value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Caches the value rendered for the given locale. If another thread
+     * cached a value for the locale first, that value is returned instead
+     * so all callers observe the same instance.
+     *
+     * @param locale The locale
+     * @param value The rendered value
+     * @return The cached value
+     */
+    @SuppressWarnings("unchecked")
+    public V put(final Locale locale, final V value) {
+        while (true) {
+            final Entry<V>[] current = this.entries.get();
+            for (final Entry<V> entry : current) {
+                if (entry.locale.equals(locale)) {
+                    return entry.value;
+                }
+            }
+            final int kept = Math.min(current.length, LocaleRenderCache.MAX_SIZE - 1);
+            final Entry<V>[] updated = new Entry[kept + 1];
+            System.arraycopy(current, current.length - kept, updated, 0, kept);
+            updated[kept] = new Entry<>(locale, value);
+            if (this.entries.compareAndSet(current, updated)) {
+                return value;
+            }
+        }
+    }
+
+    public int size() {
+        return this.entries.get().length;
+    }
+
+    private static final class Entry<V> {
+
+        final Locale locale;
+        final V value;
+
+        Entry(final Locale locale, final V value) {
+            this.locale = locale;
+            this.value = value;
+        }
+    }
+}
@@ -35,6 +35,7 @@
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.common.adventure.NativeComponentRenderer.SiblingConsumer;
+import org.spongepowered.common.bridge.network.chat.TranslatableComponentBridge;
 
 import java.text.AttributedCharacterIterator;
 import java.text.MessageFormat;
@@ -46,7 +47,8 @@
  *
  * <p>This will perform in-place modification of input components -- use
  * {@link #apply(Component, Locale)} to safely handle copying when
- * necessary.</p>
+ * necessary. Components it returns may be shared between callers, and must
+ * not be modified.</p>
  *
  * @param <C>
  */
@@ -62,6 +64,13 @@ public MessageFormat translate(final @NonNull String key, final @NonNull Locale
     public static @NonNull Component apply(final Component input, final Locale locale) {
         if (input instanceof AdventureTextComponent) {
             return ((AdventureTextComponent) input).rendered(locale);
+        } else if (input instanceof TranslatableComponent) {
+            final @Nullable LocaleRenderCache<Component> cache = ((TranslatableComponentBridge) input).bridge$renderCache();
+            if (cache == null) {
+                return NativeComponentRenderer.get().render(input.copy(), locale);
+            }
+            final @Nullable Component rendered = cache.get(locale);
+            return rendered != null ? rendered : cache.put(locale, NativeComponentRenderer.get().render(input.copy(), locale));
         } else {
             return NativeComponentRenderer.get().render(input.copy(), locale);
         }
@@ -312,6 +312,15 @@ public Optional<CompoundTag> getCompound() {
         return this.compound == null ? Optional.empty() : Optional.of(this.compound.copy());
     }
 
+    static @Nullable CompoundTag save(final BlockEntity blockEntity) {
+        // Some mods like OpenComputers assert if attempting to save robot while moving
+        try {
+            return blockEntity.save(new CompoundTag());
+        } catch (final Throwable t) {
+            return null;
+        }
+    }
+
     public BuilderImpl createBuilder() {
         final BuilderImpl builder = BuilderImpl.pooled();
         builder.blockState(this.blockState)
@@ -644,10 +653,7 @@ public BuilderImpl flag(final BlockChangeFlag flag) {
         }
 
         public BuilderImpl tileEntity(final BlockEntity added) {
-            this.compound = null;
-            final CompoundTag tag = new CompoundTag();
-            added.save(tag);
-            this.compound = tag;
+            this.compound = SpongeBlockSnapshot.save(added);
             return this;
         }
     }
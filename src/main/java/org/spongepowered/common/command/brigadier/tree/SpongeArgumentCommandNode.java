@@ -44,12 +44,15 @@
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.SharedSuggestionProvider;
 import net.minecraft.commands.synchronization.SuggestionProviders;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.command.CommandCompletion;
 import org.spongepowered.api.command.parameter.Parameter;
 import org.spongepowered.api.command.parameter.managed.ValueCompleter;
 import org.spongepowered.api.command.parameter.managed.ValueParameterModifier;
 import org.spongepowered.api.command.parameter.managed.ValueUsage;
+import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.adventure.SpongeAdventure;
 import org.spongepowered.common.bridge.commands.arguments.CompletionsArgumentTypeBridge;
 import org.spongepowered.common.command.SpongeCommandCompletion;
@@ -58,6 +61,7 @@
 import org.spongepowered.common.command.brigadier.argument.ComplexSuggestionNodeProvider;
 import org.spongepowered.common.command.brigadier.argument.ResourceKeyedArgumentValueParser;
 import org.spongepowered.common.command.brigadier.context.SpongeCommandContextBuilder;
+import org.spongepowered.common.command.manager.SpongeCommandManager;
 import org.spongepowered.common.util.CommandUtil;
 import org.spongepowered.common.util.Constants;
 
@@ -85,11 +89,19 @@
         }
 
         return (context, builder) -> {
-            final List<CommandCompletion> suggestions = completer.complete((org.spongepowered.api.command.parameter.CommandContext) context, builder.getRemaining());
-            for (final CommandCompletion suggestion : suggestions) {
-                builder.suggest(suggestion.completion(), suggestion.tooltip().map(SpongeAdventure::asVanilla).orElse(null));
-            }
-            return builder.buildFuture();
+            final @Nullable Entity entity = context.getSource().getEntity();
+            return SpongeCommandManager.get(SpongeCommon.server()).completionExecutor().complete(
+                    entity instanceof ServerPlayer ? entity.getUUID() : null,
+                    completer.getClass(),
+                    () -> {
+                        final List<CommandCompletion> suggestions =
+                                completer.complete((org.spongepowered.api.command.parameter.CommandContext) context, builder.getRemaining());
+                        for (final CommandCompletion suggestion : suggestions) {
+                            builder.suggest(suggestion.completion(), suggestion.tooltip().map(SpongeAdventure::asVanilla).orElse(null));
+                        }
+                        return builder.build();
+                    },
+                    builder::build);
         };
     }
 
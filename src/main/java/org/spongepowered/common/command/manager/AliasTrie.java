@@ -0,0 +1,137 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.command.manager;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * A character trie of command aliases, so that the aliases starting with
+ * some text can be enumerated in time proportional to the number of
+ * matches rather than to the number of registered aliases.
+ *
+ * <p>Children are kept in sorted arrays, so enumeration yields the aliases
+ * in lexicographic order.</p>
+ *
+ * @param <V> The type of value mapped to each alias
+ */
+final class AliasTrie<V> {
+
+    private final Node<V> root = new Node<>();
+    private int size;
+
+    void put(final String alias, final V value) {
+        Node<V> node = this.root;
+        for (int i = 0; i < alias.length(); i++) {
+            node = node.childOrCreate(alias.charAt(i));
+        }
+        if (node.value == null) {
+            this.size++;
+        }
+        node.value = value;
+    }
+
+    @Nullable V get(final String alias) {
+        final @Nullable Node<V> node = this.find(alias);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Hands every alias starting with the given prefix, and its value, to
+     * the consumer.
+     *
+     * @param prefix The prefix
+     * @param consumer The consumer
+     */
+    void forEachStartingWith(final String prefix, final BiConsumer<String, V> consumer) {
+        final @Nullable Node<V> node = this.find(prefix);
+        if (node != null) {
+            node.visit(new StringBuilder(prefix), consumer);
+        }
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    private @Nullable Node<V> find(final String key) {
+        @Nullable Node<V> node = this.root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        return node;
+    }
+
+    private static final class Node<V> {
+
+        private static final char[] NO_KEYS = new char[0];
+
+        private char[] keys = Node.NO_KEYS;
+        private Node<V>[] children = Node.emptyChildren();
+        @Nullable V value;
+
+        @SuppressWarnings("unchecked")
+        private static <V> Node<V>[] emptyChildren() {
+            return (Node<V>[]) new Node<?>[0];
+        }
+
+        @Nullable Node<V> child(final char key) {
+            final int index = Arrays.binarySearch(this.keys, key);
+            return index < 0 ? null : this.children[index];
+        }
+
+        Node<V> childOrCreate(final char key) {
+            final int index = Arrays.binarySearch(this.keys, key);
+            if (index >= 0) {
+                return this.children[index];
+            }
+            final int insertion = -index - 1;
+            final int length = this.keys.length;
+            final char[] keys = Arrays.copyOf(this.keys, length + 1);
+            final Node<V>[] children = Arrays.copyOf(this.children, length + 1);
+            System.arraycopy(keys, insertion, keys, insertion + 1, length - insertion);
+            System.arraycopy(children, insertion, children, insertion + 1, length - insertion);
+            final Node<V> child = new Node<>();
+            keys[insertion] = key;
+            children[insertion] = child;
+            this.keys = keys;
+            this.children = children;
+            return child;
+        }
+
+        void visit(final StringBuilder path, final BiConsumer<String, V> consumer) {
+            if (this.value != null) {
+                consumer.accept(path.toString(), this.value);
+            }
+            for (int i = 0; i < this.keys.length; i++) {
+                path.append(this.keys[i]);
+                this.children[i].visit(path, consumer);
+                path.setLength(path.length() - 1);
+            }
+        }
+    }
+}
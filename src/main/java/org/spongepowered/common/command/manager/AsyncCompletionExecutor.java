@@ -0,0 +1,290 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.command.manager;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.common.AsyncCompletionCategory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs tab completion providers for players off the main thread.
+ *
+ * <p>Providers only leave the main thread if asynchronous completion is
+ * enabled in the config and their class is not listed as main thread only.
+ * Every provider run, wherever it happens, is timed into a per provider
+ * {@link LatencyHistogram}.</p>
+ */
+public final class AsyncCompletionExecutor {
+
+    private final List<String> mainThreadCompleters;
+    private final @Nullable ExecutorService executor;
+    private final Map<UUID, Queue<Task<?>>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+    private final LongAdder rejected = new LongAdder();
+
+    AsyncCompletionExecutor(final AsyncCompletionCategory config) {
+        this.mainThreadCompleters = ImmutableList.copyOf(config.mainThreadCompleters);
+        if (config.enabled && config.threads > 0) {
+            this.executor = new ThreadPoolExecutor(config.threads, config.threads, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(Math.max(1, config.queueSize)),
+                    new ThreadFactoryBuilder()
+                            .setNameFormat("Sponge-Completion-%d")
+                            .setDaemon(true)
+                            .build());
+        } else {
+            this.executor = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return this.executor != null;
+    }
+
+    /**
+     * Marks the start of a new completion request from the given player,
+     * cancelling the completions of their previous request that are still
+     * pending.
+     *
+     * @param owner The player
+     */
+    public void begin(final UUID owner) {
+        final @Nullable Queue<Task<?>> previous = this.inFlight.put(owner, new ConcurrentLinkedQueue<>());
+        if (previous != null) {
+            previous.forEach(Task::cancel);
+        }
+    }
+
+    /**
+     * Cancels any pending completions of the given player and forgets them.
+     *
+     * @param owner The player
+     */
+    public void end(final UUID owner) {
+        final @Nullable Queue<Task<?>> previous = this.inFlight.remove(owner);
+        if (previous != null) {
+            previous.forEach(Task::cancel);
+        }
+    }
+
+    /**
+     * Runs a completion provider, on the completion thread pool if it is
+     * allowed to leave the main thread, or inline otherwise.
+     *
+     * <p>A completion the full thread pool turns away completes with the
+     * fallback, so that it does not fail the other completions of the same
+     * request.</p>
+     *
+     * @param owner The player requesting the completion, if any
+     * @param provider The class of the provider
+     * @param completion The completion
+     * @param fallback The result of a rejected completion
+     * @param <T> The type of result
+     * @return The future result
+     */
+    public <T> CompletableFuture<T> complete(final @Nullable UUID owner, final Class<?> provider, final Supplier<T> completion,
+            final Supplier<T> fallback) {
+        final String name = AsyncCompletionExecutor.providerName(provider);
+        if (this.executor == null || owner == null || this.isMainThreadOnly(name) || !SpongeCommon.server().isSameThread()) {
+            return CompletableFuture.completedFuture(this.timed(name, completion));
+        }
+
+        final Task<T> task = new Task<>(name, completion);
+        final Queue<Task<?>> tasks = this.inFlight.computeIfAbsent(owner, k -> new ConcurrentLinkedQueue<>());
+        tasks.add(task);
+        task.result.whenComplete((result, throwable) -> tasks.remove(task));
+        try {
+            task.future = this.executor.submit(task);
+        } catch (final RejectedExecutionException e) {
+            this.rejected.increment();
+            task.result.complete(fallback.get());
+        }
+        return task.result;
+    }
+
+    public boolean isMainThreadOnly(final String providerName) {
+        for (final String prefix : this.mainThreadCompleters) {
+            if (providerName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the latencies recorded so far, keyed by the class name of the
+     * completion provider.
+     *
+     * @return The latencies
+     */
+    public Map<String, LatencyHistogram> latencies() {
+        return Collections.unmodifiableMap(this.latencies);
+    }
+
+    /**
+     * Gets the number of completions that were turned away by the full
+     * thread pool and completed with their fallback.
+     *
+     * @return The number of rejected completions
+     */
+    public long rejectedCompletions() {
+        return this.rejected.sum();
+    }
+
+    private <T> T timed(final String name, final Supplier<T> completion) {
+        final long start = System.nanoTime();
+        try {
+            return completion.get();
+        } finally {
+            this.latencies.computeIfAbsent(name, k -> new LatencyHistogram()).record(System.nanoTime() - start);
+        }
+    }
+
+    static String providerName(final Class<?> provider) {
+        final String name = provider.getName();
+        final int lambda = name.indexOf("$$Lambda");
+        return lambda < 0 ? name : name.substring(0, lambda);
+    }
+
+    private final class Task<T> implements Runnable {
+
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final String provider;
+        final Supplier<T> completion;
+        volatile @Nullable Future<?> future;
+
+        Task(final String provider, final Supplier<T> completion) {
+            this.provider = provider;
+            this.completion = completion;
+        }
+
+        @Override
+        public void run() {
+            if (this.result.isDone()) {
+                return;
+            }
+            try {
+                this.result.complete(AsyncCompletionExecutor.this.timed(this.provider, this.completion));
+            } catch (final Throwable t) {
+                this.result.completeExceptionally(t);
+            }
+        }
+
+        void cancel() {
+            this.result.cancel(false);
+            final @Nullable Future<?> future = this.future;
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * A histogram of latencies with power of two buckets, bucket {@code i}
+     * counting the runs that took less than {@code 2^i} microseconds.
+     */
+    public static final class LatencyHistogram {
+
+        private static final int BUCKETS = 32;
+
+        private final LongAdder[] buckets = new LongAdder[LatencyHistogram.BUCKETS];
+        private final LongAdder totalNanos = new LongAdder();
+
+        LatencyHistogram() {
+            for (int i = 0; i < this.buckets.length; i++) {
+                this.buckets[i] = new LongAdder();
+            }
+        }
+
+        void record(final long nanos) {
+            final long micros = TimeUnit.NANOSECONDS.toMicros(Math.max(0, nanos));
+            final int bucket = Math.min(LatencyHistogram.BUCKETS - 1, Long.SIZE - Long.numberOfLeadingZeros(micros));
+            this.buckets[bucket].increment();
+            this.totalNanos.add(nanos);
+        }
+
+        public long count() {
+            long count = 0;
+            for (final LongAdder bucket : this.buckets) {
+                count += bucket.sum();
+            }
+            return count;
+        }
+
+        public long averageNanos() {
+            final long count = this.count();
+            return count == 0 ? 0 : this.totalNanos.sum() / count;
+        }
+
+        /**
+         * Gets an upper bound of the given percentile, in microseconds.
+         *
+         * @param percentile The percentile, between 0 and 1
+         * @return The upper bound
+         */
+        public long percentileMicros(final double percentile) {
+            final long[] counts = this.counts();
+            long total = 0;
+            for (final long count : counts) {
+                total += count;
+            }
+            final long target = (long) Math.ceil(total * percentile);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= target && seen > 0) {
+                    return 1L << i;
+                }
+            }
+            return 0;
+        }
+
+        public long[] counts() {
+            final long[] counts = new long[LatencyHistogram.BUCKETS];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = this.buckets[i].sum();
+            }
+            return counts;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.command.manager;
+
+import net.minecraft.network.protocol.game.ClientboundCommandsPacket;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.command.CommandCause;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Shares {@link ClientboundCommandsPacket}s between players who can see
+ * the same command tree.
+ *
+ * <p>Building the tree sent to a player is deterministic once the result
+ * of every requirement checked along the way is known. Each build records
+ * the requirements it checked, in order, and the cache stores these as a
+ * binary decision tree whose leaves are the finished packets. Looking up a
+ * player re-evaluates the same requirements, without building any nodes,
+ * and yields the packet of the first build that saw the same results.</p>
+ *
+ * <p>The cache is only used from the server thread. It is cleared when
+ * commands are registered, when the permission service changes and when
+ * too many distinct trees have been seen.</p>
+ */
+public final class CommandTreePacketCache {
+
+    private static final int MAX_TREES = 64;
+
+    // Requirements are checked deep inside the node trees, which have no
+    // reference to the command manager, so the recording is shared.
+    private static @Nullable List<Check> recording;
+
+    private @Nullable Decision root;
+    private @Nullable List<Check> recorded;
+    private @Nullable Object permissionService;
+    private int trees;
+
+    /**
+     * Tests a requirement of a node being sent to a client, recording the
+     * result if a command tree is currently being built.
+     *
+     * @param requirement The requirement
+     * @param cause The cause the tree is built for
+     * @return Whether the requirement passed
+     */
+    public static boolean test(final Predicate<CommandCause> requirement, final CommandCause cause) {
+        final boolean result = requirement.test(cause);
+        final @Nullable List<Check> recording = CommandTreePacketCache.recording;
+        if (recording != null) {
+            recording.add(new Check(requirement, result));
+        }
+        return result;
+    }
+
+    /**
+     * Gets the packet of a previously built tree that the given cause would
+     * see, if any.
+     *
+     * @param cause The cause to look the tree up for
+     * @param permissionService The current permission service
+     * @return The packet, or null if the tree must be built
+     */
+    public @Nullable ClientboundCommandsPacket find(final CommandCause cause, final Object permissionService) {
+        if (this.permissionService != permissionService) {
+            this.invalidate();
+            this.permissionService = permissionService;
+            return null;
+        }
+        @Nullable Decision decision = this.root;
+        while (decision != null && decision.requirement != null) {
+            decision = decision.requirement.test(cause) ? decision.ifTrue : decision.ifFalse;
+        }
+        return decision == null ? null : decision.packet;
+    }
+
+    public void beginRecording() {
+        CommandTreePacketCache.recording = new ArrayList<>();
+        this.recorded = null;
+    }
+
+    public void endRecording() {
+        this.recorded = CommandTreePacketCache.recording;
+        CommandTreePacketCache.recording = null;
+    }
+
+    /**
+     * Stores the packet built for the requirement results recorded between
+     * the last {@link #beginRecording()} and {@link #endRecording()}.
+     *
+     * @param packet The packet
+     */
+    public void store(final ClientboundCommandsPacket packet) {
+        final @Nullable List<Check> checks = this.recorded;
+        this.recorded = null;
+        if (checks == null) {
+            return;
+        }
+        if (this.trees >= CommandTreePacketCache.MAX_TREES) {
+            this.invalidate();
+        }
+        if (this.root == null) {
+            this.root = new Decision();
+        }
+        Decision decision = this.root;
+        for (final Check check : checks) {
+            if (decision.packet != null) {
+                // A requirement gave a different result when it was
+                // replayed, the recorded trees can't be trusted.
+                this.invalidate();
+                return;
+            }
+            if (decision.requirement == null) {
+                decision.requirement = check.requirement;
+            }
+            if (check.result) {
+                decision = decision.ifTrue == null ? (decision.ifTrue = new Decision()) : decision.ifTrue;
+            } else {
+                decision = decision.ifFalse == null ? (decision.ifFalse = new Decision()) : decision.ifFalse;
+            }
+        }
+        if (decision.requirement != null) {
+            this.invalidate();
+            return;
+        }
+        if (decision.packet == null) {
+            this.trees++;
+        }
+        decision.packet = packet;
+    }
+
+    public void invalidate() {
+        this.root = null;
+        this.recorded = null;
+        this.trees = 0;
+    }
+
+    public int size() {
+        return this.trees;
+    }
+
+    private static final class Check {
+
+        final Predicate<CommandCause> requirement;
+        final boolean result;
+
+        Check(final Predicate<CommandCause> requirement, final boolean result) {
+            this.requirement = requirement;
+            this.result = result;
+        }
+    }
+
+    private static final class Decision {
+
+        @Nullable Predicate<CommandCause> requirement;
+        @Nullable Decision ifTrue;
+        @Nullable Decision ifFalse;
+        @Nullable ClientboundCommandsPacket packet;
+    }
+}
@@ -122,11 +122,14 @@ public abstract class SpongeCommandManager implements CommandManager.Mutable {
     private final Game game;
     private final Provider<SpongeCommand> spongeCommand;
     private final Map<String, SpongeCommandMapping> commandMappings = new HashMap<>();
+    private final AliasTrie<SpongeCommandMapping> aliasTrie = new AliasTrie<>();
     private final Multimap<SpongeCommandMapping, String> inverseCommandMappings = HashMultimap.create();
     private final Multimap<PluginContainer, SpongeCommandMapping> pluginToCommandMap = HashMultimap.create();
     private final LinkedHashMap<SpongeCommandMapping, RootCommandTreeNode> mappingToSuggestionNodes = new LinkedHashMap<>();
     private final Map<Class<?>, CommandRegistrar<?>> knownRegistrars = new ConcurrentHashMap<>();
+    private final CommandTreePacketCache commandTreePacketCache = new CommandTreePacketCache();
     private BrigadierCommandRegistrar brigadierRegistrar;
+    private @Nullable AsyncCompletionExecutor completionExecutor;
 
     public static SpongeCommandManager get(final MinecraftServer server) {
         return ((CommandsBridge) server.getCommands()).bridge$commandManager();
@@ -142,6 +145,17 @@ public SpongeCommandDispatcher getDispatcher() {
         return this.brigadierRegistrar.getDispatcher();
     }
 
+    public CommandTreePacketCache commandTreePacketCache() {
+        return this.commandTreePacketCache;
+    }
+
+    public AsyncCompletionExecutor completionExecutor() {
+        if (this.completionExecutor == null) {
+            this.completionExecutor = new AsyncCompletionExecutor(SpongeConfigs.getCommon().get().commands.asyncCompletion);
+        }
+        return this.completionExecutor;
+    }
+
     public BrigadierCommandRegistrar getBrigadierRegistrar() {
         return this.brigadierRegistrar;
     }
@@ -261,11 +275,13 @@ public BrigadierCommandRegistrar getBrigadierRegistrar() {
         }
         aliases.forEach(key -> {
             this.commandMappings.put(key, mapping);
+            this.aliasTrie.put(key, mapping);
             this.inverseCommandMappings.put(mapping, key);
         });
         if (parameterTree instanceof RootCommandTreeNode) {
             this.mappingToSuggestionNodes.put(mapping, (RootCommandTreeNode) parameterTree);
         }
+        this.commandTreePacketCache.invalidate();
         return mapping;
     }
 
@@ -635,25 +651,18 @@ public Collection<CommandNode<SharedSuggestionProvider>> getNonBrigadierSuggesti
     public Collection<String> getAliasesThatStartWithForCause(final CommandCause cause, final String startingText) {
         final String toCompare = startingText.toLowerCase(Locale.ROOT);
         final List<String> aliases = new ArrayList<>();
+        // canExecute is only asked once per mapping for this request, however many of its aliases match
         final Object2BooleanMap<CommandMapping> testedMappings = new Object2BooleanOpenHashMap<>();
-        for (final Map.Entry<String, SpongeCommandMapping> mappingEntry : this.commandMappings.entrySet()) {
-            if (mappingEntry.getKey().startsWith(toCompare)) {
-                if (testedMappings.computeBooleanIfAbsent(mappingEntry.getValue(), mapping -> mapping.registrar().canExecute(cause, mapping))) {
-                    aliases.add(toCompare);
-                }
+        this.aliasTrie.forEachStartingWith(toCompare, (alias, mapping) -> {
+            if (testedMappings.computeBooleanIfAbsent(mapping, m -> mapping.registrar().canExecute(cause, mapping))) {
+                aliases.add(alias);
             }
-        }
+        });
         return aliases;
     }
 
     public Collection<String> getAliasesForCause(final CommandCause cause) {
-        final List<String> aliases = new ArrayList<>();
-        for (final SpongeCommandMapping mapping : this.inverseCommandMappings.keySet()) {
-            if (mapping.registrar().canExecute(cause, mapping)) {
-                aliases.addAll(this.inverseCommandMappings.get(mapping));
-            }
-        }
-        return aliases;
+        return this.getAliasesThatStartWithForCause(cause, "");
     }
 
     private <C, R extends CommandRegistrar<C>> RegisterCommandEventImpl<C, R> createEvent(final Cause cause, final Game game, final R registrar) {
@@ -36,6 +36,7 @@
 import org.spongepowered.api.command.registrar.tree.CommandCompletionProvider;
 import org.spongepowered.api.command.registrar.tree.CommandTreeNode;
 import org.spongepowered.common.command.brigadier.tree.ForcedRedirectNode;
+import org.spongepowered.common.command.manager.CommandTreePacketCache;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -141,7 +142,7 @@ protected final void addChildNodesToTree(
             final Map<AbstractCommandTreeNode<?, ?>, CommandNode<SharedSuggestionProvider>> nodeToSuggestionProvider,
             final Map<ForcedRedirectNode, AbstractCommandTreeNode<?, ?>> redirectsToApply) {
         this.getChildren().forEach((key, value) -> {
-            if (value.requirement.test(cause)) {
+            if (CommandTreePacketCache.test(value.requirement, cause)) {
                 final CommandNode<SharedSuggestionProvider> providerCommandNode =
                         nodeToSuggestionProvider.computeIfAbsent(value, k -> {
                             final CommandNode<SharedSuggestionProvider> ret = k.createElement(key);
@@ -33,6 +33,7 @@
 import org.spongepowered.api.command.CommandCause;
 import org.spongepowered.api.command.registrar.tree.CommandTreeNode;
 import org.spongepowered.common.command.brigadier.tree.ForcedRedirectNode;
+import org.spongepowered.common.command.manager.CommandTreePacketCache;
 
 import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
@@ -42,7 +43,7 @@ public final class RootCommandTreeNode extends AbstractCommandTreeNode<CommandTr
         implements CommandTreeNode.Root {
 
     public @Nullable CommandNode<SharedSuggestionProvider> createArgumentTree(final CommandCause cause, final LiteralArgumentBuilder<SharedSuggestionProvider> rootBuilder) {
-        if (this.getRequirement().test(cause)) {
+        if (CommandTreePacketCache.test(this.getRequirement(), cause)) {
             final Map<AbstractCommandTreeNode<?, ?>, CommandNode<SharedSuggestionProvider>> nodeToSuggestionProvider = new IdentityHashMap<>();
             // this is going to be iterated only.
             final Map<ForcedRedirectNode, AbstractCommandTreeNode<?, ?>> redirectsToApply = new LinkedHashMap<>();
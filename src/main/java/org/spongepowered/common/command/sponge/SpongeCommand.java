@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.command.sponge;
 
+import com.google.gson.JsonParseException;
 import net.kyori.adventure.identity.Identity;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.JoinConfiguration;
@@ -59,31 +60,48 @@
 import org.spongepowered.api.world.server.ServerLocation;
 import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.SpongeServer;
 import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.bridge.activation.ActivationTimingsBridge;
 import org.spongepowered.common.bridge.server.level.ServerLevelBridge;
 import org.spongepowered.common.bridge.world.level.LevelBridge;
+import org.spongepowered.common.command.manager.AsyncCompletionExecutor;
+import org.spongepowered.common.command.manager.SpongeCommandManager;
 import org.spongepowered.common.config.SpongeGameConfigs;
+import org.spongepowered.common.entity.activation.EntityActivationTimings;
+import org.spongepowered.common.event.manager.ListenerTimings;
 import org.spongepowered.common.event.manager.SpongeEventManager;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.launch.Launch;
+import org.spongepowered.common.scheduler.AsyncScheduler;
+import org.spongepowered.common.scheduler.SpongeTaskMetrics;
+import org.spongepowered.common.user.SpongeUserManager;
+import org.spongepowered.common.user.UserDataSaveQueue;
+import org.spongepowered.common.util.UsernameCache;
 import org.spongepowered.plugin.PluginContainer;
 import org.spongepowered.plugin.metadata.PluginMetadata;
 import org.spongepowered.plugin.metadata.model.PluginContributor;
 
 import java.io.File;
+import java.io.IOException;
 import java.lang.management.ManagementFactory;
 import java.lang.reflect.Method;
 import java.net.URL;
+import java.nio.file.Path;
 import java.text.DecimalFormat;
 import java.text.MessageFormat;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import javax.management.MBeanServer;
@@ -112,6 +130,13 @@ public class SpongeCommand {
     private @Nullable Component versionText = null;
 
     public Command.Parameterized createSpongeCommand() {
+        // /sponge activation
+        final Command.Parameterized activationCommand = Command.builder()
+                .permission("sponge.command.activation")
+                .shortDescription(Component.text("Provides timings of the entity activation range checks."))
+                .executor(this::activationExecutor)
+                .build();
+
         // /sponge audit
         final Command.Parameterized auditCommand = Command.builder()
                 .permission("sponge.command.audit")
@@ -122,6 +147,13 @@ public Command.Parameterized createSpongeCommand() {
         // /sponge chunks
         final Command.Parameterized chunksCommand = this.chunksSubcommand();
 
+        // /sponge completions
+        final Command.Parameterized completionsCommand = Command.builder()
+                .permission("sponge.command.completions")
+                .shortDescription(Component.text("Provides latencies of tab completion providers."))
+                .executor(this::completionsExecutor)
+                .build();
+
         // /sponge heap
         final Command.Parameterized heapCommand = Command.builder()
                 .permission("sponge.command.heap")
@@ -158,6 +190,28 @@ public Command.Parameterized createSpongeCommand() {
                 .addChild(pluginsInfoCommand, "info")
                 .build();
 
+        // /sponge scheduler
+        final Command.Parameterized schedulerCommand = Command.builder()
+                .permission("sponge.command.scheduler")
+                .shortDescription(Component.text("Provides metrics of the asynchronous scheduler per plugin."))
+                .executor(this::schedulerExecutor)
+                .build();
+
+        // /sponge usernamecache import|export [file]
+        final Command.Parameterized usernameCacheCommand = this.usernameCacheSubcommand();
+
+        // /sponge userdata
+        final Command.Parameterized userDataCommand = Command.builder()
+                .permission("sponge.command.userdata")
+                .shortDescription(Component.text("Provides metrics of the offline user data save queue."))
+                .executor(this::userDataExecutor)
+                .build();
+
+        // /sponge timings events
+        final Command.Parameterized timingsCommand = Command.builder()
+                .addChild(this.timingsEventsSubcommand(), "events")
+                .build();
+
         // /sponge tps
         final Command.Parameterized tpsCommand = Command.builder()
                 .permission("sponge.command.tps")
@@ -206,11 +260,17 @@ public Command.Parameterized createSpongeCommand() {
         final Command.Builder commandBuilder = Command.builder()
                 .permission("sponge.command.root")
                 .executor(this::rootCommand)
+                .addChild(activationCommand, "activation")
                 .addChild(auditCommand, "audit")
                 .addChild(chunksCommand, "chunks")
+                .addChild(completionsCommand, "completions")
                 .addChild(heapCommand, "heap")
                 .addChild(pluginsCommand, "plugins")
+                .addChild(schedulerCommand, "scheduler")
+                .addChild(timingsCommand, "timings")
                 .addChild(tpsCommand, "tps")
+                .addChild(usernameCacheCommand, "usernamecache")
+                .addChild(userDataCommand, "userdata")
                 .addChild(versionCommand, "version")
                 .addChild(whichCommand, "which")
                 .addChild(reloadCommand, "reload")
@@ -427,6 +487,170 @@ private Command.Parameterized chunksSubcommand() {
                 .build();
     }
 
+    private Command.Parameterized usernameCacheSubcommand() {
+        final Parameter.Value<String> fileParameter = Parameter.string().key("file").optional().build();
+        final Command.Parameterized importCommand = Command.builder()
+                .shortDescription(Component.text("Merges the entries of a json username cache file into the username cache"))
+                .addParameter(fileParameter)
+                .executor(context -> {
+                    final @Nullable Path file = this.usernameCacheFile(context, fileParameter);
+                    if (file == null) {
+                        return CommandResult.error(Component.text("The file must be within the game directory.", NamedTextColor.RED));
+                    }
+                    final UsernameCache cache = ((SpongeServer) SpongeCommon.server()).getUsernameCache();
+                    try {
+                        cache.importJson(file);
+                    } catch (final IOException | JsonParseException e) {
+                        SpongeCommon.logger().error("Could not import the username cache from {}", file, e);
+                        return CommandResult.error(Component.text("Could not import the username cache. See the console for details.",
+                                NamedTextColor.RED));
+                    }
+                    cache.save();
+                    context.sendMessage(Identity.nil(), Component.text("Imported the username cache from: " + file));
+                    return CommandResult.success();
+                })
+                .build();
+        final Command.Parameterized exportCommand = Command.builder()
+                .shortDescription(Component.text("Writes the username cache to a json file"))
+                .addParameter(fileParameter)
+                .executor(context -> {
+                    final @Nullable Path file = this.usernameCacheFile(context, fileParameter);
+                    if (file == null) {
+                        return CommandResult.error(Component.text("The file must be within the game directory.", NamedTextColor.RED));
+                    }
+                    try {
+                        ((SpongeServer) SpongeCommon.server()).getUsernameCache().exportJson(file);
+                    } catch (final IOException e) {
+                        SpongeCommon.logger().error("Could not export the username cache to {}", file, e);
+                        return CommandResult.error(Component.text("Could not export the username cache. See the console for details.",
+                                NamedTextColor.RED));
+                    }
+                    context.sendMessage(Identity.nil(), Component.text("Exported the username cache to: " + file));
+                    return CommandResult.success();
+                })
+                .build();
+        return Command.builder()
+                .permission("sponge.command.usernamecache")
+                .shortDescription(Component.text("Imports or exports the username cache as json"))
+                .addChild(importCommand, "import")
+                .addChild(exportCommand, "export")
+                .build();
+    }
+
+    private @Nullable Path usernameCacheFile(final CommandContext context, final Parameter.Value<String> fileParameter) {
+        final Path gameDirectory = SpongeCommon.game().gameDirectory().toAbsolutePath().normalize();
+        final Path file = gameDirectory.resolve(context.one(fileParameter).orElse("usernamecache.json")).normalize();
+        return file.startsWith(gameDirectory) ? file : null;
+    }
+
+    private Command.Parameterized timingsEventsSubcommand() {
+        final SpongeEventManager eventManager = (SpongeEventManager) SpongeCommon.game().eventManager();
+        final Command.Parameterized startCommand = Command.builder()
+                .shortDescription(Component.text("Starts recording the time spent in every event listener"))
+                .executor(context -> {
+                    eventManager.setTimingsEnabled(true);
+                    context.sendMessage(Identity.nil(), Component.text("Event listener timings enabled.", NamedTextColor.GREEN));
+                    return CommandResult.success();
+                })
+                .build();
+        final Command.Parameterized stopCommand = Command.builder()
+                .shortDescription(Component.text("Stops recording event listener timings, keeping the results"))
+                .executor(context -> {
+                    eventManager.setTimingsEnabled(false);
+                    context.sendMessage(Identity.nil(), Component.text("Event listener timings disabled.", NamedTextColor.GREEN));
+                    return CommandResult.success();
+                })
+                .build();
+        final Command.Parameterized resetCommand = Command.builder()
+                .shortDescription(Component.text("Clears the recorded event listener timings"))
+                .executor(context -> {
+                    eventManager.timings().ifPresent(ListenerTimings::reset);
+                    context.sendMessage(Identity.nil(), Component.text("Event listener timings reset.", NamedTextColor.GREEN));
+                    return CommandResult.success();
+                })
+                .build();
+        final Command.Parameterized exportCommand = Command.builder()
+                .shortDescription(Component.text("Writes the recorded event listener timings to a JSON file"))
+                .executor(context -> {
+                    final Optional<ListenerTimings> timings = eventManager.timings();
+                    if (!timings.isPresent()) {
+                        return CommandResult.error(Component.text("Event listener timings were never enabled.", NamedTextColor.RED));
+                    }
+                    final File file = new File(new File(new File("."), "timings"),
+                            "event-timings-" + DateTimeFormatter.ofPattern("yyyy-MM-dd_HH.mm.ss").format(LocalDateTime.now()) + ".json");
+                    try {
+                        timings.get().export(file.toPath());
+                    } catch (final IOException e) {
+                        SpongeCommon.logger().error("Could not write event listener timings to {}", file.getAbsolutePath(), e);
+                        return CommandResult.error(Component.text("Could not write event listener timings. See the console for details.",
+                                NamedTextColor.RED));
+                    }
+                    context.sendMessage(Identity.nil(), Component.text("Wrote event listener timings to: " + file.getAbsolutePath()));
+                    return CommandResult.success();
+                })
+                .build();
+        return Command.builder()
+                .permission("sponge.command.timings.events")
+                .shortDescription(Component.text("Displays the time spent in event listeners per plugin"))
+                .executor(context -> {
+                    final Optional<ListenerTimings> timings = eventManager.timings();
+                    if (!timings.isPresent()) {
+                        context.sendMessage(Identity.nil(), Component.text("Event listener timings were never enabled, use ")
+                                .append(Component.text("/sponge timings events start", NamedTextColor.YELLOW)));
+                        return CommandResult.success();
+                    }
+                    this.sendEventTimings(context, timings.get(), eventManager.timingsEnabled());
+                    return CommandResult.success();
+                })
+                .addChild(startCommand, "start")
+                .addChild(stopCommand, "stop")
+                .addChild(resetCommand, "reset")
+                .addChild(exportCommand, "export")
+                .build();
+    }
+
+    private void sendEventTimings(final CommandContext context, final ListenerTimings timings, final boolean enabled) {
+        final List<Component> contents = new ArrayList<>();
+        final double seconds = (System.nanoTime() - timings.startTime()) * 1.0E-9D;
+        contents.add(LinearComponents.linear(
+                this.key("Recording: "), Component.text(enabled ? "yes" : "no", enabled ? NamedTextColor.GREEN : NamedTextColor.RED),
+                this.key(" Period: "), Component.text(SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(seconds) + "s", NamedTextColor.GRAY)
+        ));
+        final Map<String, List<ListenerTimings.Entry>> byPlugin = timings.entries().stream()
+                .filter(entry -> entry.calls() > 0)
+                .collect(Collectors.groupingBy(entry -> entry.listener().getPlugin().metadata().id()));
+        byPlugin.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, List<ListenerTimings.Entry>> e) ->
+                        e.getValue().stream().mapToLong(ListenerTimings.Entry::totalTime).sum()).reversed())
+                .forEach(plugin -> {
+                    final long total = plugin.getValue().stream().mapToLong(ListenerTimings.Entry::totalTime).sum();
+                    contents.add(LinearComponents.linear(
+                            Component.newline(), this.title(plugin.getKey()),
+                            Component.text(" " + SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(total * 1.0E-6D) + "ms", NamedTextColor.GRAY)));
+                    plugin.getValue().stream()
+                            .sorted(Comparator.comparingLong(ListenerTimings.Entry::totalTime).reversed())
+                            .forEach(entry -> contents.add(LinearComponents.linear(
+                                    SpongeCommand.INDENT_COMPONENT,
+                                    Component.text(entry.listener().getEventType().getType().getSimpleName(), NamedTextColor.YELLOW)
+                                            .hoverEvent(HoverEvent.showText(Component.text(entry.listener().getEventType().toString()
+                                                    + "\n" + entry.listener().getHandle().getClass().getName()))),
+                                    this.key(" calls: "), Component.text(entry.calls(), NamedTextColor.GRAY),
+                                    this.key(" total: "), Component.text(SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(
+                                            entry.totalTime() * 1.0E-6D) + "ms", NamedTextColor.GRAY),
+                                    this.key(" max: "), Component.text(SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(
+                                            entry.maxTime() * 1.0E-6D) + "ms", NamedTextColor.GRAY),
+                                    this.key(" alloc: "), Component.text(entry.allocatedBytes() / 1024 + "KiB", NamedTextColor.GRAY)
+                            )));
+                });
+        SpongeCommon.game().serviceProvider()
+                .paginationService()
+                .builder()
+                .contents(contents)
+                .title(Component.text("Event Listener Timings", NamedTextColor.WHITE))
+                .padding(Component.text("-", NamedTextColor.WHITE))
+                .sendTo(context.cause().audience());
+    }
+
     private @NonNull CommandResult heapSubcommandExecutor(final CommandContext context) {
         final File file = new File(new File(new File("."), "dumps"),
                 "heap-dump-" + DateTimeFormatter.ofPattern("yyyy-MM-dd_HH.mm.ss").format(LocalDateTime.now()) + "-server.hprof");
@@ -517,6 +741,145 @@ private Command.Parameterized chunksSubcommand() {
         return CommandResult.success();
     }
 
+    private @NonNull CommandResult schedulerExecutor(final CommandContext context) {
+        final AsyncScheduler scheduler = SpongeCommon.asyncScheduler();
+        final List<Component> contents = new ArrayList<>();
+        contents.add(LinearComponents.linear(
+                this.key("Executor: "), Component.text(scheduler.executorMode().name(), NamedTextColor.GRAY),
+                Component.newline(),
+                this.key("Active threads: "), this.value(scheduler.activeThreads())
+        ));
+        scheduler.metrics().stream()
+                .sorted(Comparator.comparing(SpongeTaskMetrics::pluginId))
+                .forEach(metrics -> contents.add(LinearComponents.linear(
+                        Component.newline(),
+                        this.title(metrics.pluginId()),
+                        Component.newline(),
+                        SpongeCommand.INDENT_COMPONENT, this.key("Queued: "), this.value(metrics.queueDepth()),
+                        this.key(" Active: "), this.value(metrics.activeTasks()),
+                        this.key(" Completed: "), Component.text(metrics.completedTasks(), NamedTextColor.GRAY),
+                        this.key(" Rejected: "), Component.text(metrics.rejectedTasks(), NamedTextColor.GRAY),
+                        Component.newline(),
+                        SpongeCommand.INDENT_COMPONENT, this.key("Latency: "), this.millis(metrics.averageLatency()),
+                        Component.text(" avg, ", NamedTextColor.GRAY), this.millis(metrics.maxLatency()),
+                        Component.text(" max", NamedTextColor.GRAY),
+                        this.key(" Execution: "), this.millis(metrics.averageExecutionTime()),
+                        Component.text(" avg", NamedTextColor.GRAY)
+                )));
+        SpongeCommon.game().serviceProvider()
+                .paginationService()
+                .builder()
+                .contents(contents)
+                .title(Component.text("Async Scheduler", NamedTextColor.WHITE))
+                .padding(Component.text("-", NamedTextColor.WHITE))
+                .sendTo(context.cause().audience());
+        return CommandResult.success();
+    }
+
+    private @NonNull CommandResult activationExecutor(final CommandContext context) {
+        if (!SpongeCommon.game().isServerAvailable()) {
+            context.sendMessage(Identity.nil(), Component.text("Server is not running."));
+            return CommandResult.success();
+        }
+        final List<Component> contents = new ArrayList<>();
+        for (final ServerWorld world : Sponge.server().worldManager().worlds()) {
+            if (!(world instanceof ActivationTimingsBridge)) {
+                // The entity activation mixins are disabled
+                continue;
+            }
+            final EntityActivationTimings timings = ((ActivationTimingsBridge) world).activation$getTimings();
+            contents.add(LinearComponents.linear(
+                    this.title(world.key().asString()),
+                    Component.newline(),
+                    SpongeCommand.INDENT_COMPONENT, this.key("Runs: "), Component.text(timings.runs(), NamedTextColor.GRAY),
+                    this.key(" Average: "), this.millis(Duration.ofNanos(timings.averageNanos())),
+                    this.key(" Last: "), this.millis(Duration.ofNanos(timings.lastNanos())),
+                    Component.newline(),
+                    SpongeCommand.INDENT_COMPONENT, this.key("Chunks: "), this.value(timings.lastChunks()),
+                    this.key(" Entities: "), this.value(timings.lastEntities()),
+                    this.key(" Activated: "), this.value(timings.lastActivated())
+            ));
+        }
+        if (contents.isEmpty()) {
+            context.sendMessage(Identity.nil(), Component.text("Entity activation range is disabled."));
+            return CommandResult.success();
+        }
+        SpongeCommon.game().serviceProvider()
+                .paginationService()
+                .builder()
+                .contents(contents)
+                .title(Component.text("Entity Activation", NamedTextColor.WHITE))
+                .padding(Component.text("-", NamedTextColor.WHITE))
+                .sendTo(context.cause().audience());
+        return CommandResult.success();
+    }
+
+    private @NonNull CommandResult completionsExecutor(final CommandContext context) {
+        if (!SpongeCommon.game().isServerAvailable()) {
+            context.sendMessage(Identity.nil(), Component.text("Server is not running."));
+            return CommandResult.success();
+        }
+        final AsyncCompletionExecutor executor = SpongeCommandManager.get(SpongeCommon.server()).completionExecutor();
+        final List<Component> contents = new ArrayList<>();
+        contents.add(LinearComponents.linear(
+                this.key("Asynchronous: "), Component.text(executor.isEnabled(), NamedTextColor.GRAY),
+                this.key(" Rejected: "), Component.text(executor.rejectedCompletions(), NamedTextColor.GRAY)
+        ));
+        executor.latencies().entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> {
+                    final AsyncCompletionExecutor.LatencyHistogram histogram = entry.getValue();
+                    contents.add(LinearComponents.linear(
+                            Component.newline(),
+                            this.title(entry.getKey()),
+                            Component.newline(),
+                            SpongeCommand.INDENT_COMPONENT, this.key("Runs: "), Component.text(histogram.count(), NamedTextColor.GRAY),
+                            this.key(" Latency: "), this.millis(Duration.ofNanos(histogram.averageNanos())),
+                            Component.text(" avg, < ", NamedTextColor.GRAY),
+                            this.millis(Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(histogram.percentileMicros(0.99D)))),
+                            Component.text(" p99", NamedTextColor.GRAY)
+                    ));
+                });
+        SpongeCommon.game().serviceProvider()
+                .paginationService()
+                .builder()
+                .contents(contents)
+                .title(Component.text("Tab Completions", NamedTextColor.WHITE))
+                .padding(Component.text("-", NamedTextColor.WHITE))
+                .sendTo(context.cause().audience());
+        return CommandResult.success();
+    }
+
+    private @NonNull CommandResult userDataExecutor(final CommandContext context) {
+        if (!SpongeCommon.game().isServerAvailable()) {
+            context.sendMessage(Identity.nil(), Component.text("Server is not running."));
+            return CommandResult.success();
+        }
+        final UserDataSaveQueue saveQueue = ((SpongeUserManager) Sponge.server().userManager()).saveQueue();
+        final List<Component> contents = new ArrayList<>();
+        contents.add(LinearComponents.linear(
+                this.key("Queued: "), this.value(saveQueue.depth()),
+                this.key(" Saved: "), Component.text(saveQueue.saves(), NamedTextColor.GRAY),
+                this.key(" Failed: "), Component.text(saveQueue.failures(), NamedTextColor.GRAY),
+                Component.newline(),
+                this.key("Save time: "), this.millis(Duration.ofNanos(saveQueue.averageSaveNanos())),
+                Component.text(" avg, ", NamedTextColor.GRAY), this.millis(Duration.ofNanos(saveQueue.lastSaveNanos())),
+                Component.text(" last", NamedTextColor.GRAY)
+        ));
+        SpongeCommon.game().serviceProvider()
+                .paginationService()
+                .builder()
+                .contents(contents)
+                .title(Component.text("User Data", NamedTextColor.WHITE))
+                .padding(Component.text("-", NamedTextColor.WHITE))
+                .sendTo(context.cause().audience());
+        return CommandResult.success();
+    }
+
+    private Component millis(final Duration duration) {
+        return Component.text(SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(duration.toNanos() * 1.0E-6D) + "ms", NamedTextColor.GRAY);
+    }
+
     private TextComponent.Builder appendTickTime(final long[] tickTimes, final TextComponent.Builder builder) {
         final double averageTickTime = Mth.average(tickTimes) * 1.0E-6D;
         final double tps = Math.min(1000.0 / (averageTickTime), 20);
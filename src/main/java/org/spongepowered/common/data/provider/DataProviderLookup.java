@@ -36,9 +36,19 @@
 public final class DataProviderLookup {
 
     private final Map<Key<?>, DataProvider<?, ?>> providerMap;
+    // Indexed by SpongeKey#index, null where there is no provider
+    private final DataProvider<?, ?>[] providers;
 
     DataProviderLookup(Map<Key<?>, DataProvider<?, ?>> providerMap) {
         this.providerMap = ImmutableMap.copyOf(providerMap);
+        int size = 0;
+        for (final Key<?> key : this.providerMap.keySet()) {
+            size = Math.max(size, ((SpongeKey<?, ?>) key).index() + 1);
+        }
+        this.providers = new DataProvider<?, ?>[size];
+        for (final Map.Entry<Key<?>, DataProvider<?, ?>> entry : this.providerMap.entrySet()) {
+            this.providers[((SpongeKey<?, ?>) entry.getKey()).index()] = entry.getValue();
+        }
     }
 
     /**
@@ -60,6 +70,14 @@ public final class DataProviderLookup {
      */
     @SuppressWarnings("unchecked")
     public <V extends Value<E>, E> DataProvider<V, E> getProvider(Key<V> key) {
-        return (DataProvider<V, E>) this.providerMap.getOrDefault(key, ((SpongeKey<V, E>) key).getEmptyDataProvider());
+        final SpongeKey<V, E> spongeKey = (SpongeKey<V, E>) key;
+        final int index = spongeKey.index();
+        if (index < this.providers.length) {
+            final DataProvider<?, ?> provider = this.providers[index];
+            if (provider != null) {
+                return (DataProvider<V, E>) provider;
+            }
+        }
+        return spongeKey.getEmptyDataProvider();
     }
 }
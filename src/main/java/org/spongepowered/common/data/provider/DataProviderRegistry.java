@@ -41,10 +41,10 @@
 import org.spongepowered.common.data.provider.map.MapInfoDataProviders;
 import org.spongepowered.common.data.provider.nbt.NBTDataProviders;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -52,37 +52,18 @@
 
 public final class DataProviderRegistry {
 
-    private static class LookupKey {
-
-        final Class<?> holderType;
-
-        final Key<?> key;
-        private LookupKey(final Class<?> holderType, final Key<?> key) {
-            this.holderType = holderType;
-            this.key = key;
-        }
-
-        @Override
-        public boolean equals(final Object o) {
-            if (this == o) {
-                return true;
-            }
-            if (o == null || this.getClass() != o.getClass()) {
-                return false;
-            }
-            final LookupKey lookupKey = (LookupKey) o;
-            return this.holderType.equals(lookupKey.holderType) &&
-                    this.key.equals(lookupKey.key);
-        }
+    /**
+     * The delegate providers of a single data holder type, indexed by
+     * {@link SpongeKey#index()}. Filled lazily and replaced copy-on-write.
+     */
+    private static final class HolderProviders {
 
-        @Override
-        public int hashCode() {
-            return Objects.hash(this.holderType, this.key);
-        }
+        volatile DataProvider<?, ?>[] providers = new DataProvider<?, ?>[0];
 
     }
+
     private final Multimap<Key<?>, DataProvider<?,?>> dataProviders = HashMultimap.create();
-    private final Map<LookupKey, DataProvider<?,?>> dataProviderCache = new ConcurrentHashMap<>();
+    private final Map<Class<?>, HolderProviders> dataProviderCache = new ConcurrentHashMap<>();
     private final Map<Class<?>, DataProviderLookup> dataProviderLookupCache = new ConcurrentHashMap<>();
 
     private static boolean filterHolderType(final DataProvider<?,?> provider, final Class<?> holderType) {
@@ -95,8 +76,8 @@ private static boolean filterHolderType(final DataProvider<?,?> provider, final
     }
 
     @SuppressWarnings("unchecked")
-    private DataProvider<?,?> loadProvider(final LookupKey key) {
-        return this.buildDelegate((Key<Value<Object>>) key.key, provider -> DataProviderRegistry.filterHolderType(provider, key.holderType));
+    private DataProvider<?,?> loadProvider(final Key<?> key, final Class<?> holderType) {
+        return this.buildDelegate((Key<Value<Object>>) key, provider -> DataProviderRegistry.filterHolderType(provider, holderType));
     }
 
     @SuppressWarnings(value = {"unchecked", "rawtypes"})
@@ -191,7 +172,23 @@ public Collection<DataProvider<?,?>> getAllProviders(final Class<?> dataHolderTy
      */
     @SuppressWarnings({"unchecked"})
     public <V extends Value<E>, E> DataProvider<V, E> getProvider(final Key<V> key, final Class<?> dataHolderType) {
-        return (DataProvider<V, E>) this.dataProviderCache.computeIfAbsent(new LookupKey(dataHolderType, key), this::loadProvider);
+        HolderProviders holderProviders = this.dataProviderCache.get(dataHolderType);
+        if (holderProviders == null) {
+            holderProviders = this.dataProviderCache.computeIfAbsent(dataHolderType, type -> new HolderProviders());
+        }
+        final int index = ((SpongeKey<V, E>) key).index();
+        final DataProvider<?, ?>[] providers = holderProviders.providers;
+        if (index < providers.length && providers[index] != null) {
+            return (DataProvider<V, E>) providers[index];
+        }
+        final DataProvider<?, ?> provider = this.loadProvider(key, dataHolderType);
+        synchronized (holderProviders) {
+            final DataProvider<?, ?>[] current = holderProviders.providers;
+            final DataProvider<?, ?>[] updated = Arrays.copyOf(current, Math.max(current.length, index + 1));
+            updated[index] = provider;
+            holderProviders.providers = updated;
+        }
+        return (DataProvider<V, E>) provider;
     }
 
     /**
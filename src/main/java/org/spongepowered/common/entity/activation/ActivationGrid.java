@@ -0,0 +1,81 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity.activation;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.phys.AABB;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Indexes the players of a world by the chunks their activation range
+ * reaches, so that chunks and their entities are only visited once no
+ * matter how many players are nearby.
+ */
+public final class ActivationGrid {
+
+    private final Long2ObjectMap<ActivationVolumes> volumesByChunk = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Adds the bounding box of a player to every chunk within the given
+     * range of it.
+     *
+     * @param box The bounding box of the player
+     * @param range The maximum activation range
+     */
+    public void add(final AABB box, final int range) {
+        final int minX = Mth.floor((box.minX - range) / 16.0D);
+        final int maxX = Mth.floor((box.maxX + range) / 16.0D);
+        final int minZ = Mth.floor((box.minZ - range) / 16.0D);
+        final int maxZ = Mth.floor((box.maxZ + range) / 16.0D);
+
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                ActivationVolumes volumes = this.volumesByChunk.get(ChunkPos.asLong(x, z));
+                if (volumes == null) {
+                    volumes = new ActivationVolumes();
+                    this.volumesByChunk.put(ChunkPos.asLong(x, z), volumes);
+                }
+                volumes.add(box);
+            }
+        }
+    }
+
+    public @Nullable ActivationVolumes volumes(final int chunkX, final int chunkZ) {
+        return this.volumesByChunk.get(ChunkPos.asLong(chunkX, chunkZ));
+    }
+
+    /**
+     * Gets the players in range of each chunk, keyed by the packed chunk
+     * position.
+     *
+     * @return The volumes by chunk
+     */
+    public Long2ObjectMap<ActivationVolumes> chunks() {
+        return this.volumesByChunk;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity.activation;
+
+import net.minecraft.world.phys.AABB;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The bounding boxes of every player whose activation range reaches a
+ * chunk, so the entities of that chunk can be checked against all of them
+ * in a single pass. Boxes contained in a box already added are skipped,
+ * as they can never activate anything the larger box does not.
+ *
+ * <p>Boxes close to each other are merged into clusters. An entity out of
+ * range of the bounds of a cluster is out of range of all of its boxes,
+ * so crowds of players cost a single check for most entities.</p>
+ */
+public final class ActivationVolumes {
+
+    private static final int STRIDE = 6;
+    private static final double CLUSTER_DISTANCE = 8.0D;
+
+    private final List<Cluster> clusters = new ArrayList<>(1);
+    private int count;
+
+    public void add(final AABB box) {
+        Cluster target = null;
+        for (final Cluster cluster : this.clusters) {
+            if (cluster.contains(box)) {
+                return;
+            }
+            if (target == null && cluster.isNear(box)) {
+                target = cluster;
+            }
+        }
+        if (target == null) {
+            target = new Cluster(box);
+            this.clusters.add(target);
+        }
+        target.add(box);
+        this.count++;
+    }
+
+    public int count() {
+        return this.count;
+    }
+
+    /**
+     * Gets whether any of the boxes, grown horizontally by the given range
+     * and vertically by the given height, intersects the target.
+     *
+     * @param target The bounding box of the entity
+     * @param range The horizontal activation range
+     * @param height The vertical activation range
+     * @return Whether the target is within range
+     */
+    public boolean intersects(final AABB target, final int range, final int height) {
+        for (final Cluster cluster : this.clusters) {
+            if (ActivationVolumes.reaches(cluster.bounds, 0, target, range, height) && cluster.intersects(target, range, height)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean reaches(final double[] boxes, final int i, final AABB target, final double range, final double height) {
+        return boxes[i] - range < target.maxX && boxes[i + 3] + range > target.minX
+            && boxes[i + 1] - height < target.maxY && boxes[i + 4] + height > target.minY
+            && boxes[i + 2] - range < target.maxZ && boxes[i + 5] + range > target.minZ;
+    }
+
+    static final class Cluster {
+
+        final double[] bounds;
+        private double[] boxes = new double[ActivationVolumes.STRIDE * 4];
+        private int size;
+
+        Cluster(final AABB box) {
+            this.bounds = new double[] {box.minX, box.minY, box.minZ, box.maxX, box.maxY, box.maxZ};
+        }
+
+        boolean isNear(final AABB box) {
+            return this.bounds[0] - ActivationVolumes.CLUSTER_DISTANCE <= box.maxX && this.bounds[3] + ActivationVolumes.CLUSTER_DISTANCE >= box.minX
+                && this.bounds[2] - ActivationVolumes.CLUSTER_DISTANCE <= box.maxZ && this.bounds[5] + ActivationVolumes.CLUSTER_DISTANCE >= box.minZ;
+        }
+
+        boolean contains(final AABB box) {
+            for (int i = 0; i < this.size; i += ActivationVolumes.STRIDE) {
+                if (this.boxes[i] <= box.minX && this.boxes[i + 1] <= box.minY && this.boxes[i + 2] <= box.minZ
+                    && this.boxes[i + 3] >= box.maxX && this.boxes[i + 4] >= box.maxY && this.boxes[i + 5] >= box.maxZ) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void add(final AABB box) {
+            if (this.size == this.boxes.length) {
+                this.boxes = Arrays.copyOf(this.boxes, this.size * 2);
+            }
+            this.boxes[this.size++] = box.minX;
+            this.boxes[this.size++] = box.minY;
+            this.boxes[this.size++] = box.minZ;
+            this.boxes[this.size++] = box.maxX;
+            this.boxes[this.size++] = box.maxY;
+            this.boxes[this.size++] = box.maxZ;
+            this.bounds[0] = Math.min(this.bounds[0], box.minX);
+            this.bounds[1] = Math.min(this.bounds[1], box.minY);
+            this.bounds[2] = Math.min(this.bounds[2], box.minZ);
+            this.bounds[3] = Math.max(this.bounds[3], box.maxX);
+            this.bounds[4] = Math.max(this.bounds[4], box.maxY);
+            this.bounds[5] = Math.max(this.bounds[5], box.maxZ);
+        }
+
+        boolean intersects(final AABB target, final int range, final int height) {
+            for (int i = 0; i < this.size; i += ActivationVolumes.STRIDE) {
+                if (ActivationVolumes.reaches(this.boxes, i, target, range, height)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
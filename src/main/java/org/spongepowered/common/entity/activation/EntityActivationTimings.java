@@ -0,0 +1,88 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity.activation;
+
+/**
+ * Timings of the entity activation pass of a single world.
+ */
+public final class EntityActivationTimings {
+
+    private long runs;
+    private long totalNanos;
+    private long lastNanos;
+    private int lastChunks;
+    private int lastEntities;
+    private int lastActivated;
+
+    public void record(final long nanos, final int chunks, final int entities, final int activated) {
+        this.runs++;
+        this.totalNanos += nanos;
+        this.lastNanos = nanos;
+        this.lastChunks = chunks;
+        this.lastEntities = entities;
+        this.lastActivated = activated;
+    }
+
+    public long runs() {
+        return this.runs;
+    }
+
+    public long averageNanos() {
+        return this.runs == 0 ? 0 : this.totalNanos / this.runs;
+    }
+
+    public long lastNanos() {
+        return this.lastNanos;
+    }
+
+    /**
+     * Gets the number of chunks visited by the last pass.
+     *
+     * @return The number of chunks
+     */
+    public int lastChunks() {
+        return this.lastChunks;
+    }
+
+    /**
+     * Gets the number of entities checked against player ranges by the
+     * last pass.
+     *
+     * @return The number of entities
+     */
+    public int lastEntities() {
+        return this.lastEntities;
+    }
+
+    public int lastActivated() {
+        return this.lastActivated;
+    }
+
+    @Override
+    public String toString() {
+        return "EntityActivationTimings{runs=" + this.runs + ", averageNanos=" + this.averageNanos() + ", lastNanos=" + this.lastNanos
+            + ", lastChunks=" + this.lastChunks + ", lastEntities=" + this.lastEntities + ", lastActivated=" + this.lastActivated + "}";
+    }
+}
@@ -81,7 +81,6 @@
 import org.spongepowered.common.profile.SpongeGameProfile;
 import org.spongepowered.common.service.server.permission.BridgeSubject;
 import org.spongepowered.common.service.server.permission.SubjectHelper;
-import org.spongepowered.common.user.SpongeUserManager;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.FileUtil;
 import org.spongepowered.common.util.MissingImplementationException;
@@ -89,9 +88,10 @@
 
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -417,20 +417,41 @@ public void markDirty() {
         ((SpongeServer) SpongeCommon.server()).userManager().markDirty(this);
     }
 
-    public void save() throws IOException {
+    /**
+     * Writes the current state of this user to its compound and returns a
+     * copy of it, which is safe to hand to another thread for saving.
+     *
+     * @return The copied compound
+     */
+    public CompoundTag snapshot() {
         synchronized (this) {
-            final SpongeUserManager userManager = ((SpongeServer) SpongeCommon.server()).userManager();
-            final LevelStorageSource.LevelStorageAccess storageSource = ((MinecraftServerAccessor) Sponge.server()).accessor$storageSource();
-            final File file = storageSource.getLevelPath(LevelResource.PLAYER_DATA_DIR).resolve(this.uniqueId() + ".dat").toFile();
             this.writeCompound(this.compound);
-            try (final FileOutputStream out = new FileOutputStream(file)) {
-                NbtIo.writeCompressed(this.compound, out);
-                userManager.unmarkDirty(this);
-            } catch (final IOException e) {
-                // We log the message here because the error may be swallowed by a completable future.
-                SpongeCommon.logger().warn("Failed to save user file [{}]!", file, e);
-                throw e;
-            }
+            return this.compound.copy();
+        }
+    }
+
+    /**
+     * Writes the compound to the data file of the given user. The data is
+     * written to a temporary file first which then replaces the data file
+     * atomically, so a failed write never leaves a truncated file behind.
+     *
+     * @param uniqueId The unique id of the user
+     * @param compound The compound to write
+     * @throws IOException If the file could not be written
+     */
+    public static void write(final UUID uniqueId, final CompoundTag compound) throws IOException {
+        final LevelStorageSource.LevelStorageAccess storageSource = ((MinecraftServerAccessor) Sponge.server()).accessor$storageSource();
+        final File directory = storageSource.getLevelPath(LevelResource.PLAYER_DATA_DIR).toFile();
+        final File file = new File(directory, uniqueId + ".dat");
+        final File temp = File.createTempFile(uniqueId + "-", ".dat", directory);
+        try {
+            NbtIo.writeCompressed(compound, temp);
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            Files.deleteIfExists(temp.toPath());
+            // We log the message here because the error may be swallowed by a completable future.
+            SpongeCommon.logger().warn("Failed to save user file [{}]!", file, e);
+            throw e;
         }
     }
 
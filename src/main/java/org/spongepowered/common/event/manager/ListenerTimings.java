@@ -0,0 +1,223 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.manager;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.common.event.SpongeEventListener;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per listener timings of event dispatch. Listeners are only wrapped in a
+ * {@link TimedEventListener} while the handler caches are baked with timings
+ * enabled, the regular dispatch path is left untouched otherwise.
+ */
+public final class ListenerTimings {
+
+    private static final com.sun.management.@Nullable ThreadMXBean ALLOCATIONS = ListenerTimings.allocationBean();
+
+    private final Map<RegisteredListener<?>, Entry> entries = new ConcurrentHashMap<>();
+    private volatile long startTime = System.nanoTime();
+
+    private static com.sun.management.@Nullable ThreadMXBean allocationBean() {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            final com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) bean;
+            if (allocations.isThreadAllocatedMemorySupported() && allocations.isThreadAllocatedMemoryEnabled()) {
+                return allocations;
+            }
+        }
+        return null;
+    }
+
+    public static boolean isAllocationTrackingSupported() {
+        return ListenerTimings.ALLOCATIONS != null;
+    }
+
+    /**
+     * Gets the time the timings were last reset.
+     *
+     * @return The start time, in {@link System#nanoTime()}
+     */
+    public long startTime() {
+        return this.startTime;
+    }
+
+    public Collection<Entry> entries() {
+        return Collections.unmodifiableCollection(new ArrayList<>(this.entries.values()));
+    }
+
+    public void reset() {
+        this.entries.values().forEach(Entry::reset);
+        this.startTime = System.nanoTime();
+    }
+
+    /**
+     * Writes the timings as JSON, grouped by plugin.
+     *
+     * @param file The file to write to
+     * @throws IOException If the file could not be written
+     */
+    public void export(final Path file) throws IOException {
+        final Map<String, JsonArray> byPlugin = new TreeMap<>();
+        for (final Entry entry : this.entries.values()) {
+            final RegisteredListener<?> listener = entry.listener;
+            final JsonObject object = new JsonObject();
+            object.addProperty("event", listener.getEventType().toString());
+            object.addProperty("listener", listener.getHandle().getClass().getName());
+            object.addProperty("order", listener.getOrder().name());
+            object.addProperty("calls", entry.calls());
+            object.addProperty("totalNanos", entry.totalTime());
+            object.addProperty("maxNanos", entry.maxTime());
+            object.addProperty("allocatedBytes", entry.allocatedBytes());
+            byPlugin.computeIfAbsent(listener.getPlugin().metadata().id(), id -> new JsonArray()).add(object);
+        }
+        final JsonObject root = new JsonObject();
+        root.addProperty("periodNanos", System.nanoTime() - this.startTime);
+        root.addProperty("allocationTracking", ListenerTimings.isAllocationTrackingSupported());
+        final JsonObject plugins = new JsonObject();
+        byPlugin.forEach(plugins::add);
+        root.add("plugins", plugins);
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (final Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            new GsonBuilder().setPrettyPrinting().create().toJson(root, writer);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    <T extends Event> RegisteredListener<T> instrument(final RegisteredListener<T> listener) {
+        final Entry entry = this.entries.computeIfAbsent(listener, Entry::new);
+        return new RegisteredListener(listener.getPlugin(), listener.getEventType(), listener.getOrder(),
+                new TimedEventListener<>(listener, entry), listener.isBeforeModifications());
+    }
+
+    void remove(final RegisteredListener<?> listener) {
+        this.entries.remove(listener);
+    }
+
+    public static final class Entry {
+
+        private final RegisteredListener<?> listener;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder totalTime = new LongAdder();
+        private final AtomicLong maxTime = new AtomicLong();
+        private final LongAdder allocatedBytes = new LongAdder();
+
+        Entry(final RegisteredListener<?> listener) {
+            this.listener = listener;
+        }
+
+        public RegisteredListener<?> listener() {
+            return this.listener;
+        }
+
+        public long calls() {
+            return this.calls.sum();
+        }
+
+        public long totalTime() {
+            return this.totalTime.sum();
+        }
+
+        public long maxTime() {
+            return this.maxTime.get();
+        }
+
+        /**
+         * Gets the bytes allocated by the listener, always {@code 0} if
+         * {@link #isAllocationTrackingSupported()} is false.
+         *
+         * @return The allocated bytes
+         */
+        public long allocatedBytes() {
+            return this.allocatedBytes.sum();
+        }
+
+        void record(final long time, final long allocated) {
+            this.calls.increment();
+            this.totalTime.add(time);
+            this.maxTime.accumulateAndGet(time, Math::max);
+            this.allocatedBytes.add(allocated);
+        }
+
+        void reset() {
+            this.calls.reset();
+            this.totalTime.reset();
+            this.maxTime.set(0);
+            this.allocatedBytes.reset();
+        }
+    }
+
+    private static final class TimedEventListener<T extends Event> implements SpongeEventListener<T> {
+
+        private final RegisteredListener<T> listener;
+        private final Entry entry;
+
+        TimedEventListener(final RegisteredListener<T> listener, final Entry entry) {
+            this.listener = listener;
+            this.entry = entry;
+        }
+
+        @Override
+        public Object getHandle() {
+            return this.listener.getHandle();
+        }
+
+        @Override
+        public void handle(final T event) throws Exception {
+            final com.sun.management.@Nullable ThreadMXBean allocations = ListenerTimings.ALLOCATIONS;
+            final long allocatedBefore = allocations == null ? 0 : allocations.getCurrentThreadAllocatedBytes();
+            final long start = System.nanoTime();
+            try {
+                this.listener.handle(event);
+            } finally {
+                final long time = System.nanoTime() - start;
+                final long allocated = allocations == null ? 0 : allocations.getCurrentThreadAllocatedBytes() - allocatedBefore;
+                this.entry.record(time, allocated);
+            }
+        }
+    }
+}
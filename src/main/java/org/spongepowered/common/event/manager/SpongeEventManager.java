@@ -24,10 +24,6 @@
  */
 package org.spongepowered.common.event.manager;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.LoadingCache;
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Multimap;
 import io.leangen.geantyref.GenericTypeReflector;
 import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -57,18 +53,18 @@
 import org.spongepowered.plugin.PluginContainer;
 
 import java.io.IOException;
-import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
@@ -80,48 +76,31 @@ public abstract class SpongeEventManager implements EventManager {
     private static final NoExceptionClosable NULL_CLOSABLE = new NoExceptionClosable();
 
     public final ListenerChecker checker;
+    // Guards writers only, readers work off the published snapshot
     private final Object lock;
-    private final Multimap<Class<?>, RegisteredListener<?>> handlersByEvent;
+    /**
+     * An immutable snapshot of all registered handlers by their raw event
+     * type. Registrations publish a modified copy.
+     */
+    private volatile Map<Class<?>, List<RegisteredListener<?>>> handlersByEvent;
     /**
      * A cache of all the handlers for an event type for quick event posting.
-     * <p>The cache is currently entirely invalidated if handlers are added or
-     * removed.</p>
+     * <p>Only the entries of event types that are a subtype of a changed
+     * registration are invalidated when handlers are added or removed.</p>
      */
-    protected final LoadingCache<EventType<?>, RegisteredListener.Cache> handlersCache =
-            Caffeine.newBuilder().initialCapacity(150).build(this::bakeHandlers);
+    protected final Map<EventType<?>, RegisteredListener.Cache> handlersCache = new ConcurrentHashMap<>(150);
     private final Map<ClassLoader, AnnotatedEventListener.Factory> classLoaders;
     private final Set<Object> registeredListeners;
+    // Kept after timings are stopped so the results remain viewable
+    private @Nullable ListenerTimings timings;
+    private volatile boolean timingsEnabled;
 
     public SpongeEventManager() {
         this.lock = new Object();
-        this.handlersByEvent = HashMultimap.create();
+        this.handlersByEvent = Collections.emptyMap();
         this.classLoaders = new IdentityHashMap<>();
         this.registeredListeners = new ReferenceOpenHashSet<>();
         this.checker = new ListenerChecker(ShouldFire.class);
-
-        // Caffeine offers no control over the concurrency level of the
-        // ConcurrentHashMap which backs the cache. By default this concurrency
-        // level is 16. We replace the backing map before any use can occur
-        // a new ConcurrentHashMap with a concurrency level of 1
-        try {
-            // Cache impl class is UnboundedLocalLoadingCache which extends
-            // UnboundedLocalManualCache
-
-            // UnboundedLocalManualCache has a field 'cache' with an
-            // UnboundedLocalCache which contains the actual backing map
-            final Field innerCache = this.handlersCache.getClass().getSuperclass().getDeclaredField("cache");
-            innerCache.setAccessible(true);
-            final Object innerCacheValue = innerCache.get(this.handlersCache);
-            final Class<?> innerCacheClass = innerCacheValue.getClass(); // UnboundedLocalCache
-            final Field cacheData = innerCacheClass.getDeclaredField("data");
-            cacheData.setAccessible(true);
-            final ConcurrentHashMap<Class<? extends Event>, RegisteredListener.Cache> newBackingData =
-                    new ConcurrentHashMap<>(150, 0.75f, 1);
-            cacheData.set(innerCacheValue, newBackingData);
-        } catch (final NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
-            SpongeCommon.logger().warn("Failed to set event cache backing array, type was " + this.handlersCache.getClass().getName());
-            SpongeCommon.logger().warn("  Caused by: " + e.getClass().getName() + ": " + e.getMessage());
-        }
     }
 
     private static @Nullable String getHandlerErrorOrNull(final ListenerClassVisitor.DiscoveredMethod method) throws
@@ -165,6 +144,11 @@ private static <T extends Event> RegisteredListener<T> createRegistration(final
     }
 
     <T extends Event> RegisteredListener.Cache bakeHandlers(final EventType<T> eventType) {
+        return this.bakeHandlers(eventType, this.handlersByEvent);
+    }
+
+    private <T extends Event> RegisteredListener.Cache bakeHandlers(final EventType<T> eventType,
+            final Map<Class<?>, List<RegisteredListener<?>>> handlersByEvent) {
         final List<RegisteredListener<?>> handlers = new ArrayList<>();
         final Stream<? extends Class<?>> types = Types.allSuperTypesAndInterfaces(eventType.getType())
                 .map(GenericTypeReflector::erase)
@@ -172,62 +156,133 @@ <T extends Event> RegisteredListener.Cache bakeHandlers(final EventType<T> event
 
         // TODO: Move @Includes and @Excludes from filters to the baking process, this simplifies the generated
         //       filter code and makes the filter baking target more specific handlers.
-        synchronized (this.lock) {
-            for (final Iterator<? extends Class<?>> it = types.iterator(); it.hasNext(); ) {
-                final Class<?> type = it.next();
-                final Collection<RegisteredListener<?>> listeners = this.handlersByEvent.get(type);
-                if (GenericEvent.class.isAssignableFrom(type)) {
-                    final Type genericType = Objects.requireNonNull(eventType.getGenericType());
-                    for (final RegisteredListener<?> listener : listeners) {
-                        final Type genericType1 = Objects.requireNonNull(listener.getEventType().getGenericType());
-                        if (TypeTokenUtil.isAssignable(genericType, genericType1)) {
-                            handlers.add(listener);
-                        }
+        for (final Iterator<? extends Class<?>> it = types.iterator(); it.hasNext(); ) {
+            final Class<?> type = it.next();
+            final List<RegisteredListener<?>> listeners = handlersByEvent.getOrDefault(type, Collections.emptyList());
+            if (GenericEvent.class.isAssignableFrom(type)) {
+                final Type genericType = Objects.requireNonNull(eventType.getGenericType());
+                for (final RegisteredListener<?> listener : listeners) {
+                    final Type genericType1 = Objects.requireNonNull(listener.getEventType().getGenericType());
+                    if (TypeTokenUtil.isAssignable(genericType, genericType1)) {
+                        handlers.add(listener);
                     }
-                } else {
-                    handlers.addAll(listeners);
                 }
+            } else {
+                handlers.addAll(listeners);
             }
         }
 
         Collections.sort(handlers);
+        if (this.timingsEnabled) {
+            final @Nullable ListenerTimings timings = this.timings;
+            if (timings != null) {
+                handlers.replaceAll(timings::instrument);
+            }
+        }
         return new RegisteredListener.Cache(handlers);
     }
 
-    private void register(final List<RegisteredListener<? extends Event>> handlers) {
-        boolean changed = false;
+    private RegisteredListener.Cache getOrBakeHandlers(final EventType<?> eventType) {
+        final RegisteredListener.@Nullable Cache cache = this.handlersCache.get(eventType);
+        if (cache != null) {
+            return cache;
+        }
+        final Map<Class<?>, List<RegisteredListener<?>>> snapshot = this.handlersByEvent;
+        final RegisteredListener.Cache baked = this.bakeHandlers(eventType, snapshot);
+        final RegisteredListener.@Nullable Cache existing = this.handlersCache.putIfAbsent(eventType, baked);
+        if (existing != null) {
+            return existing;
+        }
+        // A registration published while baking may have missed our entry
+        // when invalidating, so don't keep what was baked from the old state.
+        if (this.handlersByEvent != snapshot) {
+            this.handlersCache.remove(eventType, baked);
+        }
+        return baked;
+    }
 
-        synchronized (this.lock) {
-            for (final RegisteredListener<?> handler : handlers) {
-                final Class<?> raw = handler.getEventType().getType();
-                if (this.handlersByEvent.put(raw, handler)) {
-                    changed = true;
-                    this.checker.registerListenerFor(raw);
+    /**
+     * Publishes the new handlers and invalidates the cached handlers of every
+     * event type that is a subtype of one of the changed types. Must be
+     * called while holding the lock.
+     *
+     * @param handlersByEvent The new handlers
+     * @param changedTypes The raw event types whose handlers changed
+     */
+    private void publish(final Map<Class<?>, List<RegisteredListener<?>>> handlersByEvent, final Set<Class<?>> changedTypes) {
+        this.handlersByEvent = Collections.unmodifiableMap(handlersByEvent);
+        this.handlersCache.keySet().removeIf(eventType -> {
+            for (final Class<?> changedType : changedTypes) {
+                if (changedType.isAssignableFrom(eventType.getType())) {
+                    return true;
                 }
             }
-        }
+            return false;
+        });
+    }
 
-        if (changed) {
-            this.handlersCache.invalidateAll();
-        }
+    /**
+     * Gets the listener timings, if they were ever started.
+     *
+     * @return The timings
+     */
+    public Optional<ListenerTimings> timings() {
+        return Optional.ofNullable(this.timings);
     }
 
-    private void register(final RegisteredListener<? extends Event> handler) {
-        boolean changed = false;
+    public boolean timingsEnabled() {
+        return this.timingsEnabled;
+    }
 
+    /**
+     * Enables or disables the listener timings. The handler caches are re-baked
+     * with instrumented listeners while timings are enabled, so posting
+     * events is not affected while they are disabled.
+     *
+     * @param enabled Whether timings should be recorded
+     */
+    public void setTimingsEnabled(final boolean enabled) {
         synchronized (this.lock) {
-            final Class<?> raw = handler.getEventType().getType();
-            if (this.handlersByEvent.put(raw, handler)) {
-                changed = true;
-                this.checker.registerListenerFor(raw);
+            if (this.timingsEnabled == enabled) {
+                return;
             }
+            if (enabled && this.timings == null) {
+                this.timings = new ListenerTimings();
+            }
+            this.timingsEnabled = enabled;
+            // Republish so anything baked with the previous state is discarded
+            this.handlersByEvent = Collections.unmodifiableMap(new HashMap<>(this.handlersByEvent));
+            this.handlersCache.clear();
         }
+    }
 
-        if (changed) {
-            this.handlersCache.invalidateAll();
+    private void register(final List<RegisteredListener<? extends Event>> handlers) {
+        synchronized (this.lock) {
+            final Map<Class<?>, List<RegisteredListener<?>>> handlersByEvent = new HashMap<>(this.handlersByEvent);
+            final Set<Class<?>> changedTypes = new HashSet<>();
+            for (final RegisteredListener<?> handler : handlers) {
+                final Class<?> raw = handler.getEventType().getType();
+                final List<RegisteredListener<?>> current = handlersByEvent.getOrDefault(raw, Collections.emptyList());
+                if (current.contains(handler)) {
+                    continue;
+                }
+                final List<RegisteredListener<?>> updated = new ArrayList<>(current.size() + 1);
+                updated.addAll(current);
+                updated.add(handler);
+                handlersByEvent.put(raw, Collections.unmodifiableList(updated));
+                changedTypes.add(raw);
+                this.checker.registerListenerFor(raw);
+            }
+            if (!changedTypes.isEmpty()) {
+                this.publish(handlersByEvent, changedTypes);
+            }
         }
     }
 
+    private void register(final RegisteredListener<? extends Event> handler) {
+        this.register(Collections.singletonList(handler));
+    }
+
     private void registerListener(final PluginContainer plugin, final Object listenerObject) {
         Objects.requireNonNull(plugin, "plugin");
         Objects.requireNonNull(listenerObject, "listener");
@@ -330,23 +385,37 @@ public SpongeEventManager registerListeners(final PluginContainer plugin, final
     }
 
     private void unregister(final Predicate<RegisteredListener<?>> unregister) {
-        boolean changed = false;
-
         synchronized (this.lock) {
-            final Iterator<RegisteredListener<?>> itr = this.handlersByEvent.values().iterator();
-            while (itr.hasNext()) {
-                final RegisteredListener<?> handler = itr.next();
-                if (unregister.test(handler)) {
-                    itr.remove();
-                    changed = true;
-                    this.checker.unregisterListenerFor(handler.getEventType().getType());
-                    this.registeredListeners.remove(handler.getHandle());
+            final Map<Class<?>, List<RegisteredListener<?>>> handlersByEvent = new HashMap<>(this.handlersByEvent);
+            final Set<Class<?>> changedTypes = new HashSet<>();
+            for (final Iterator<Map.Entry<Class<?>, List<RegisteredListener<?>>>> it = handlersByEvent.entrySet().iterator(); it.hasNext(); ) {
+                final Map.Entry<Class<?>, List<RegisteredListener<?>>> entry = it.next();
+                List<RegisteredListener<?>> remaining = null;
+                for (final RegisteredListener<?> handler : entry.getValue()) {
+                    if (unregister.test(handler)) {
+                        if (remaining == null) {
+                            remaining = new ArrayList<>(entry.getValue());
+                        }
+                        remaining.remove(handler);
+                        this.checker.unregisterListenerFor(handler.getEventType().getType());
+                        this.registeredListeners.remove(handler.getHandle());
+                        if (this.timings != null) {
+                            this.timings.remove(handler);
+                        }
+                    }
+                }
+                if (remaining != null) {
+                    changedTypes.add(entry.getKey());
+                    if (remaining.isEmpty()) {
+                        it.remove();
+                    } else {
+                        entry.setValue(Collections.unmodifiableList(remaining));
+                    }
                 }
             }
-        }
-
-        if (changed) {
-            this.handlersCache.invalidateAll();
+            if (!changedTypes.isEmpty()) {
+                this.publish(handlersByEvent, changedTypes);
+            }
         }
     }
 
@@ -370,7 +439,7 @@ protected RegisteredListener.Cache getHandlerCache(final Event event) {
         } else {
             eventType = new EventType(eventClass, null);
         }
-        return this.handlersCache.get(eventType);
+        return this.getOrBakeHandlers(eventType);
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
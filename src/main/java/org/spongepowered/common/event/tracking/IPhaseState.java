@@ -74,6 +74,7 @@
 import org.spongepowered.common.event.tracking.phase.tick.LocationBasedTickContext;
 import org.spongepowered.common.event.tracking.phase.tick.TickPhase;
 import org.spongepowered.common.world.BlockChange;
+import org.spongepowered.common.world.volume.BulkBlockWriter;
 
 import java.util.ArrayDeque;
 import java.util.List;
@@ -404,6 +405,20 @@ default boolean isApplyingStreams() {
         return false;
     }
 
+    /**
+     * Gets the writer that collects the block changes made to the given
+     * world with the given flag, if this context writes them in bulk once
+     * it is done. Such changes are not visible in the world until then.
+     *
+     * @param context The context
+     * @param level The world being changed
+     * @param flag The flag of the changes
+     * @return The writer, or null to change the world directly
+     */
+    default @Nullable BulkBlockWriter getBulkBlockWriter(final C context, final ServerLevel level, final BlockChangeFlag flag) {
+        return null;
+    }
+
     default Supplier<ResourceKey> attemptWorldKey(final C context) {
         return () -> {
             throw new IllegalStateException("Unable to provide a ServerLevel");
@@ -63,6 +63,7 @@
 import org.spongepowered.common.event.tracking.phase.general.ExplosionContext;
 import org.spongepowered.common.event.tracking.phase.tick.LocationBasedTickContext;
 import org.spongepowered.common.world.BlockChange;
+import org.spongepowered.common.world.volume.BulkBlockWriter;
 
 import java.util.List;
 import java.util.function.Consumer;
@@ -314,6 +315,10 @@ default boolean isApplyingStreams() {
         return this.getState().isApplyingStreams();
     }
 
+    default @Nullable BulkBlockWriter getBulkBlockWriter(final ServerLevel level, final BlockChangeFlag flag) {
+        return this.getState().getBulkBlockWriter(this.asContext(), level, flag);
+    }
+
     default Supplier<ResourceKey> attemptWorldKey() {
         return this.getState().attemptWorldKey(this.asContext());
     }
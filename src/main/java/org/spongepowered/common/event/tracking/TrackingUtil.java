@@ -28,7 +28,6 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import net.minecraft.core.BlockPos;
-import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.BlockEventData;
@@ -477,14 +476,7 @@ public static void setCreatorReference(List<Entity> entities, ServerPlayer playe
     public static void addTileEntityToBuilder(final net.minecraft.world.level.block.entity.BlockEntity existing,
         final SpongeBlockSnapshot.BuilderImpl builder) {
         // TODO - gather custom data.
-        final CompoundTag compound = new CompoundTag();
-        try {
-            existing.save(compound);
-            builder.addUnsafeCompound(compound);
-        }
-        catch (final Throwable t) {
-            // ignore
-        }
+        builder.tileEntity(existing);
     }
 
     public static String phaseStateToString(final String type, final IPhaseState<?> state) {
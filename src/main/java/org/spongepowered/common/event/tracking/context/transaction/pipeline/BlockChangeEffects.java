@@ -0,0 +1,138 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.context.transaction.pipeline;
+
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.common.event.tracking.BlockChangeFlagManager;
+import org.spongepowered.common.event.tracking.context.transaction.effect.CheckBlockPostPlacementIsSameEffect;
+import org.spongepowered.common.event.tracking.context.transaction.effect.EffectResult;
+import org.spongepowered.common.event.tracking.context.transaction.effect.NotifyClientEffect;
+import org.spongepowered.common.event.tracking.context.transaction.effect.NotifyNeighborSideEffect;
+import org.spongepowered.common.event.tracking.context.transaction.effect.ProcessingSideEffect;
+import org.spongepowered.common.event.tracking.context.transaction.effect.UpdateConnectingBlocksEffect;
+import org.spongepowered.common.event.tracking.context.transaction.effect.UpdateLightSideEffect;
+import org.spongepowered.common.event.tracking.context.transaction.effect.UpdateWorldRendererEffect;
+import org.spongepowered.common.event.tracking.context.transaction.effect.WorldBlockChangeCompleteEffect;
+import org.spongepowered.common.world.SpongeBlockChangeFlag;
+
+import java.util.List;
+
+/**
+ * The world side effects of a block change, assembled once per
+ * {@link SpongeBlockChangeFlag}.
+ *
+ * <p>Effects that would do nothing for a flag, such as client notifications
+ * for a flag without {@link SpongeBlockChangeFlag#notifyClients()}, are left
+ * out of its effect list entirely.</p>
+ */
+public final class BlockChangeEffects {
+
+    static final int PRECOMPUTED_FLAGS = 1 << 10;
+
+    private static final ProcessingSideEffect CHECK_CHUNK_CHANGE = (pipeline, oldState, newState, flag, limit) -> {
+        if (oldState == null) {
+            return EffectResult.NULL_RETURN;
+        }
+        return EffectResult.NULL_PASS;
+    };
+
+    private static final List<List<ProcessingSideEffect>> WORLD_EFFECTS;
+    private static final List<List<ProcessingSideEffect>> SET_BLOCK_EFFECTS;
+
+    static {
+        final ImmutableList.Builder<List<ProcessingSideEffect>> worldEffects = ImmutableList.builder();
+        final ImmutableList.Builder<List<ProcessingSideEffect>> setBlockEffects = ImmutableList.builder();
+        for (int i = 0; i < BlockChangeEffects.PRECOMPUTED_FLAGS; i++) {
+            final List<ProcessingSideEffect> effects = BlockChangeEffects.createWorldEffects(BlockChangeFlagManager.fromNativeInt(i));
+            worldEffects.add(effects);
+            setBlockEffects.add(BlockChangeEffects.createSetBlockEffects(effects));
+        }
+        WORLD_EFFECTS = worldEffects.build();
+        SET_BLOCK_EFFECTS = setBlockEffects.build();
+    }
+
+    private static List<ProcessingSideEffect> createWorldEffects(final SpongeBlockChangeFlag flag) {
+        final ImmutableList.Builder<ProcessingSideEffect> effects = ImmutableList.builder();
+        effects.add(BlockChangeEffects.CHECK_CHUNK_CHANGE);
+        if (flag.updateLighting()) {
+            effects.add(UpdateLightSideEffect.getInstance());
+        }
+        effects.add(CheckBlockPostPlacementIsSameEffect.getInstance());
+        effects.add(UpdateWorldRendererEffect.getInstance());
+        if (flag.notifyClients()) {
+            effects.add(NotifyClientEffect.getInstance());
+        }
+        if (flag.updateNeighbors()) {
+            effects.add(NotifyNeighborSideEffect.getInstance());
+        }
+        if (flag.updateNeighboringShapes()) {
+            effects.add(UpdateConnectingBlocksEffect.getInstance());
+        }
+        return effects.build();
+    }
+
+    private static List<ProcessingSideEffect> createSetBlockEffects(final List<ProcessingSideEffect> worldEffects) {
+        return ImmutableList.<ProcessingSideEffect>builder()
+            .addAll(worldEffects)
+            .add(WorldBlockChangeCompleteEffect.getInstance())
+            .build();
+    }
+
+    private static boolean isPrecomputed(final SpongeBlockChangeFlag flag) {
+        return flag.getRawFlag() >= 0 && flag.getRawFlag() < BlockChangeEffects.PRECOMPUTED_FLAGS;
+    }
+
+    /**
+     * Gets the world side effects shared by every block change with the
+     * given flag. Callers append their own effects after these.
+     *
+     * @param flag The block change flag
+     * @return The effects
+     */
+    public static List<ProcessingSideEffect> worldEffects(final SpongeBlockChangeFlag flag) {
+        if (BlockChangeEffects.isPrecomputed(flag)) {
+            return BlockChangeEffects.WORLD_EFFECTS.get(flag.getRawFlag());
+        }
+        return BlockChangeEffects.createWorldEffects(flag);
+    }
+
+    /**
+     * Creates the pipeline of a plain block change, without assembling its
+     * effects again.
+     *
+     * @param chunkPipeline The pipeline of the changed chunk
+     * @param flag The block change flag
+     * @return The pipeline
+     */
+    public static WorldPipeline setBlock(final ChunkPipeline chunkPipeline, final SpongeBlockChangeFlag flag) {
+        final List<ProcessingSideEffect> effects = BlockChangeEffects.isPrecomputed(flag)
+            ? BlockChangeEffects.SET_BLOCK_EFFECTS.get(flag.getRawFlag())
+            : BlockChangeEffects.createSetBlockEffects(BlockChangeEffects.createWorldEffects(flag));
+        return new WorldPipeline(chunkPipeline, effects);
+    }
+
+    private BlockChangeEffects() {
+    }
+}
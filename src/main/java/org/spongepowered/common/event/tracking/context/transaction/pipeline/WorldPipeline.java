@@ -40,43 +40,36 @@
 import org.spongepowered.common.event.tracking.context.transaction.effect.ProcessingSideEffect;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
-import java.util.function.Supplier;
 
 public final class WorldPipeline implements BlockPipeline {
 
-    private final Supplier<LevelChunk> chunkSupplier;
-    private final Supplier<ServerLevel> serverWorld;
-    private final Supplier<LevelChunkSection> sectionSupplier;
-    private final boolean wasEmpty;
-    private final List<ResultingTransactionBySideEffect> worldEffects;
     private final ChunkPipeline chunkPipeline;
+    private final boolean wasEmpty;
+    private final List<ProcessingSideEffect> worldEffects;
 
-    WorldPipeline(final Builder builder) {
-        this.chunkSupplier = builder.chunkSupplier;
-        this.worldEffects = builder.effects;
-        this.serverWorld = builder.serverWorld;
-        this.sectionSupplier = builder.sectionSupplier;
-        final @Nullable LevelChunkSection chunkSection = Objects.requireNonNull(builder.sectionSupplier).get();
+    WorldPipeline(final ChunkPipeline chunkPipeline, final List<ProcessingSideEffect> worldEffects) {
+        this.chunkPipeline = chunkPipeline;
+        this.worldEffects = worldEffects;
+        final @Nullable LevelChunkSection chunkSection = chunkPipeline.getAffectedSection();
         this.wasEmpty = chunkSection == null || chunkSection.isEmpty();
-        this.chunkPipeline = builder.chunkPipeline;
     }
 
     public ServerLevel getServerWorld() {
-        return Objects.requireNonNull(this.serverWorld, "ServerWorld Supplier is null in ChunkPipeline").get();
+        return this.chunkPipeline.getServerWorld();
     }
 
     @Override
     public LevelChunk getAffectedChunk() {
-        return Objects.requireNonNull(this.chunkSupplier, "Chunk Supplier is null in ChunkPipeline").get();
+        return this.chunkPipeline.getAffectedChunk();
     }
 
     @Override
     public LevelChunkSection getAffectedSection() {
-        return Objects.requireNonNull(this.sectionSupplier, "ChunkSection Supplier is null in ChunkPipeline").get();
+        return this.chunkPipeline.getAffectedSection();
     }
 
     public boolean processEffects(final PhaseContext<?> context, final BlockState currentState,
@@ -87,12 +80,12 @@ public boolean processEffects(final PhaseContext<?> context, final BlockState cu
         if (this.worldEffects.isEmpty()) {
             return false;
         }
-        final ServerLevel serverWorld = Objects.requireNonNull(this.serverWorld).get();
+        final ServerLevel serverWorld = this.chunkPipeline.getServerWorld();
         // Keep track of the existing block entity prior to processing the chunk pipeline
         // and the reasoning is that in several cases where the block entity that is being removed
         // will no longer be available. This could be avoided by having the "previous cursor" returned
         // from ChunkPipeline, but alas.... that's a refactor for another time.
-        final @Nullable BlockEntity existing = this.chunkSupplier.get().getBlockEntity(pos, LevelChunk.EntityCreationType.CHECK);
+        final @Nullable BlockEntity existing = this.chunkPipeline.getAffectedChunk().getBlockEntity(pos, LevelChunk.EntityCreationType.CHECK);
         // We have to get the "old state" from
         final @Nullable BlockState oldState = this.chunkPipeline.processChange(context, currentState, newProposedState, pos, limit);
         if (oldState == null) {
@@ -101,9 +94,11 @@ public boolean processEffects(final PhaseContext<?> context, final BlockState cu
         final int oldOpacity = oldState.getLightBlock(serverWorld, pos);
         PipelineCursor formerState = new PipelineCursor(oldState, oldOpacity, pos, existing, destroyer, limit);
 
-        for (final ResultingTransactionBySideEffect effect : this.worldEffects) {
+        for (final ProcessingSideEffect sideEffect : this.worldEffects) {
+            // The effect becomes part of the transaction tree, so it can't be shared between changes
+            final ResultingTransactionBySideEffect effect = new ResultingTransactionBySideEffect(sideEffect);
             try (final EffectTransactor ignored = context.getTransactor().pushEffect(effect)) {
-                final EffectResult result = effect.effect.processSideEffect(
+                final EffectResult result = sideEffect.processSideEffect(
                     this,
                     formerState,
                     newProposedState,
@@ -132,24 +127,26 @@ public boolean wasEmpty() {
 
     public static final class Builder {
 
-        final Supplier<ServerLevel> serverWorld;
-        final Supplier<LevelChunk> chunkSupplier;
-        final Supplier<LevelChunkSection> sectionSupplier;
-        @MonotonicNonNull List<ResultingTransactionBySideEffect> effects;
+        @MonotonicNonNull List<ProcessingSideEffect> effects;
         final ChunkPipeline chunkPipeline;
 
         Builder(final ChunkPipeline chunkPipeline) {
-            this.serverWorld = chunkPipeline::getServerWorld;
-            this.chunkSupplier = chunkPipeline::getAffectedChunk;
-            this.sectionSupplier = chunkPipeline::getAffectedSection;
             this.chunkPipeline = chunkPipeline;
         }
 
         public Builder addEffect(final ProcessingSideEffect effect) {
             if (this.effects == null) {
-                this.effects = new LinkedList<>();
+                this.effects = new ArrayList<>();
+            }
+            this.effects.add(Objects.requireNonNull(effect, "Effect is null"));
+            return this;
+        }
+
+        public Builder addEffects(final List<ProcessingSideEffect> effects) {
+            if (this.effects == null) {
+                this.effects = new ArrayList<>(effects.size() + 4);
             }
-            this.effects.add(new ResultingTransactionBySideEffect(Objects.requireNonNull(effect, "Effect is null")));
+            this.effects.addAll(effects);
             return this;
         }
 
@@ -157,7 +154,7 @@ public WorldPipeline build() {
             if (this.effects == null) {
                 this.effects = Collections.emptyList();
             }
-            return new WorldPipeline(this);
+            return new WorldPipeline(this.chunkPipeline, this.effects);
         }
 
     }
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.event.tracking.phase.plugin;
 
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.Entity;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -31,10 +32,12 @@
 import org.spongepowered.api.event.CauseStackManager;
 import org.spongepowered.api.event.cause.entity.SpawnType;
 import org.spongepowered.api.event.cause.entity.SpawnTypes;
+import org.spongepowered.api.world.BlockChangeFlag;
 import org.spongepowered.api.world.volume.stream.VolumeStream;
 import org.spongepowered.common.event.tracking.IPhaseState;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.TrackingUtil;
+import org.spongepowered.common.world.volume.BulkBlockWriter;
 
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
@@ -76,10 +79,17 @@ public boolean isApplyingStreams() {
         return true;
     }
 
+    @Override
+    public @Nullable BulkBlockWriter getBulkBlockWriter(final Context context, final ServerLevel level, final BlockChangeFlag flag) {
+        return context.blockWriter(level, flag);
+    }
+
     public static class Context extends PluginPhaseContext<Context> {
 
         @MonotonicNonNull VolumeStream<@NonNull ?, ?> stream;
         @MonotonicNonNull Supplier<SpawnType> spawnTypeSupplier;
+        private boolean bulkBlockWrites;
+        private @Nullable BulkBlockWriter blockWriter;
 
         Context(final IPhaseState<Context> phaseState, final PhaseTracker tracker) {
             super(phaseState, tracker);
@@ -92,6 +102,39 @@ public Context setVolumeStream(
             return this;
         }
 
+        /**
+         * Sets whether the block changes made through the API are collected
+         * and written section by section when this context is closed.
+         *
+         * @param bulkBlockWrites Whether to write block changes in bulk
+         * @return This context, for chaining
+         */
+        public Context bulkBlockWrites(final boolean bulkBlockWrites) {
+            this.bulkBlockWrites = bulkBlockWrites;
+            return this;
+        }
+
+        @Nullable BulkBlockWriter blockWriter(final ServerLevel level, final BlockChangeFlag flag) {
+            if (!this.bulkBlockWrites) {
+                return null;
+            }
+            if (this.blockWriter == null || !this.blockWriter.writesTo(level, flag)) {
+                // Changes to another world or with another flag keep their order
+                this.flushBlockWrites();
+                this.blockWriter = new BulkBlockWriter(level, flag);
+            }
+            return this.blockWriter;
+        }
+
+        void flushBlockWrites() {
+            // Listeners of the change event may queue more changes
+            while (this.blockWriter != null) {
+                final BulkBlockWriter writer = this.blockWriter;
+                this.blockWriter = null;
+                writer.apply();
+            }
+        }
+
         public Context spawnType(final Supplier<@Nullable SpawnType> supplier) {
             final @Nullable SpawnType spawnType = supplier.get();
             if (spawnType == null) {
@@ -102,11 +145,20 @@ public Context spawnType(final Supplier<@Nullable SpawnType> supplier) {
             return this;
         }
 
+        @Override
+        public void close() {
+            // Apply the changes while this phase still captures their side effects
+            this.flushBlockWrites();
+            super.close();
+        }
+
         @Override
         protected void reset() {
             super.reset();
             this.stream = null;
             this.spawnTypeSupplier = null;
+            this.bulkBlockWrites = false;
+            this.blockWriter = null;
         }
     }
 }
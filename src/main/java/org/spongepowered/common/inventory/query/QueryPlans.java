@@ -0,0 +1,70 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.inventory.query;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.spongepowered.common.inventory.lens.Lens;
+
+import java.util.function.Supplier;
+
+/**
+ * Caches the parts of query results that only depend on the structure of
+ * the queried lens tree, keyed by the root lens and the query.
+ *
+ * <p>Lenses are shared by every inventory of the same class and size, so
+ * a plan compiled once serves every later query of that kind. Plans hold
+ * on to the lenses they match, which in turn reach their root, so roots
+ * are only released once they are evicted by size. Each root keeps its
+ * most recently used plans.</p>
+ */
+public final class QueryPlans {
+
+    private static final int MAX_ROOTS = 512;
+    static final int MAX_PLANS_PER_ROOT = 64;
+
+    private static final Cache<Lens, Cache<Object, Object>> PLANS = CacheBuilder.newBuilder()
+            .weakKeys()
+            .maximumSize(QueryPlans.MAX_ROOTS)
+            .build();
+
+    @SuppressWarnings("unchecked")
+    public static <T> T get(final Lens root, final Object query, final Supplier<T> compiler) {
+        final Cache<Object, Object> plans = QueryPlans.PLANS.asMap().computeIfAbsent(root, k -> CacheBuilder.newBuilder()
+                // A single segment evicts the least recently used plan of the root
+                .concurrencyLevel(1)
+                .maximumSize(QueryPlans.MAX_PLANS_PER_ROOT)
+                .build());
+        Object plan = plans.getIfPresent(query);
+        if (plan == null) {
+            plan = compiler.get();
+            plans.put(query, plan);
+        }
+        return (T) plan;
+    }
+
+    private QueryPlans() {
+    }
+}
@@ -24,12 +24,14 @@
  */
 package org.spongepowered.common.inventory.query;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.item.inventory.Inventory;
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.inventory.fabric.Fabric;
 import org.spongepowered.common.inventory.lens.Lens;
 import org.spongepowered.common.inventory.lens.impl.DelegatingLens;
 
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -41,15 +43,58 @@ public abstract class SpongeDepthQuery extends SpongeQuery {
 
     public abstract boolean matches(Lens lens, Lens parent, Inventory inventory);
 
+    /**
+     * Gets whether {@link #matches(Lens, Lens, Inventory)} only depends on
+     * the lenses, so that the matches found in a lens tree can be compiled
+     * once and reused. Structural queries must implement equals and
+     * hashCode.
+     *
+     * @return Whether this query is structural
+     */
+    protected boolean isStructural() {
+        return false;
+    }
+
     public Inventory execute(Inventory inventory, InventoryAdapter adapter) {
         final Fabric fabric = adapter.inventoryAdapter$getFabric();
         final Lens lens = adapter.inventoryAdapter$getRootLens();
 
-        if (this.matches(lens, null, inventory)) {
+        final @Nullable Map<Lens, Integer> matches = this.findMatches(inventory, lens);
+        if (matches == null) {
             return lens.getAdapter(fabric, inventory);
         }
 
-        return this.toResult(inventory, fabric, this.reduce(fabric, lens, this.depthFirstSearch(inventory, lens)));
+        return this.toResult(inventory, fabric, this.reduce(fabric, lens, matches));
+    }
+
+    /**
+     * Finds the lenses matching this query below the given root, using
+     * the cached plan of structural queries.
+     *
+     * @return The mutable matches, or null if the root itself matches
+     */
+    @Nullable Map<Lens, Integer> findMatches(Inventory inventory, Lens root) {
+        if (!this.isStructural()) {
+            return this.search(inventory, root);
+        }
+        final Plan plan = QueryPlans.get(root, this, () -> this.compile(inventory, root));
+        // reduce modifies the matches it is given
+        return plan.rootMatches ? null : new LinkedHashMap<>(plan.matches);
+    }
+
+    @Nullable Map<Lens, Integer> search(Inventory inventory, Lens root) {
+        if (this.matches(root, null, inventory)) {
+            return null;
+        }
+        return this.depthFirstSearch(inventory, root);
+    }
+
+    private Plan compile(Inventory inventory, Lens lens) {
+        final @Nullable Map<Lens, Integer> matches = this.search(inventory, lens);
+        if (matches == null) {
+            return new Plan(true, Collections.emptyMap());
+        }
+        return new Plan(false, Collections.unmodifiableMap(matches));
     }
 
     private Map<Lens, Integer> depthFirstSearch(Inventory inventory, Lens lens) {
@@ -73,4 +118,15 @@ private Map<Lens, Integer> depthFirstSearch(Inventory inventory, Lens lens) {
 
         return matches;
     }
+
+    private static final class Plan {
+
+        final boolean rootMatches;
+        final Map<Lens, Integer> matches;
+
+        Plan(boolean rootMatches, Map<Lens, Integer> matches) {
+            this.rootMatches = rootMatches;
+            this.matches = matches;
+        }
+    }
 }
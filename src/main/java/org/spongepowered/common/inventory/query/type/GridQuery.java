@@ -30,6 +30,7 @@
 import org.spongepowered.common.inventory.adapter.impl.comp.GridInventoryAdapter;
 import org.spongepowered.common.inventory.lens.CompoundSlotLensProvider;
 import org.spongepowered.common.inventory.lens.impl.comp.GridInventoryLens;
+import org.spongepowered.common.inventory.query.QueryPlans;
 import org.spongepowered.common.inventory.query.SpongeQuery;
 import org.spongepowered.math.vector.Vector2i;
 
@@ -58,19 +59,39 @@ public Inventory execute(Inventory inventory, InventoryAdapter adapter) {
             return new EmptyInventoryImpl(inventory);
         }
 
-        // Get slots for new grid
-        CompoundSlotLensProvider slotProvider = new CompoundSlotLensProvider();
+        // The slots of a grid lens are fixed, so the new grid lens only has to be built once
+        GridInventoryLens lens = QueryPlans.get(adapter.inventoryAdapter$getRootLens(), this, () -> {
+            // Get slots for new grid
+            CompoundSlotLensProvider slotProvider = new CompoundSlotLensProvider();
 
-        for (int dy = 0; dy < this.size.y(); dy++) {
-            for (int dx = 0; dx < this.size.x(); dx++) {
-                slotProvider.add(gridAdapter.getSlotLens(this.offset.x() + dx, this.offset.y() + dy));
+            for (int dy = 0; dy < this.size.y(); dy++) {
+                for (int dx = 0; dx < this.size.x(); dx++) {
+                    slotProvider.add(gridAdapter.getSlotLens(this.offset.x() + dx, this.offset.y() + dy));
+                }
             }
-        }
 
-        // build new grid lens
-        GridInventoryLens lens = new GridInventoryLens(0, this.size.x(), this.size.y(), slotProvider);
+            // build new grid lens
+            return new GridInventoryLens(0, this.size.x(), this.size.y(), slotProvider);
+        });
         return new GridInventoryAdapter(adapter.inventoryAdapter$getFabric(), lens, inventory);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || this.getClass() != o.getClass()) {
+            return false;
+        }
+        final GridQuery that = (GridQuery) o;
+        return this.offset.equals(that.offset) && this.size.equals(that.size);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * this.offset.hashCode() + this.size.hashCode();
+    }
+
 
 }
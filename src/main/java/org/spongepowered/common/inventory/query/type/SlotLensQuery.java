@@ -32,23 +32,43 @@
 
 public final class SlotLensQuery extends SpongeDepthQuery {
 
-    private final ImmutableSet<Inventory> inventories;
+    private final ImmutableSet<Lens> lenses;
 
+    @SuppressWarnings("rawtypes")
     public SlotLensQuery(ImmutableSet<Inventory> inventories) {
-        this.inventories = inventories;
+        final ImmutableSet.Builder<Lens> lenses = ImmutableSet.builder();
+        for (Inventory inv : inventories) {
+            for (Inventory slot : inv.slots()) {
+                lenses.add(((SlotAdapter) slot).impl$getLens());
+            }
+        }
+        this.lenses = lenses.build();
     }
 
-    @SuppressWarnings("rawtypes")
     @Override
     public boolean matches(Lens lens, Lens parent, Inventory inventory) {
-        for (Inventory inv : this.inventories) {
-            for (Inventory slot : inv.slots()) {
-                if (((SlotAdapter) slot).impl$getLens().equals(lens)) {
-                    return true;
-                }
-            }
+        return this.lenses.contains(lens);
+    }
+
+    @Override
+    protected boolean isStructural() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
         }
-        return false;
+        if (o == null || this.getClass() != o.getClass()) {
+            return false;
+        }
+        return this.lenses.equals(((SlotLensQuery) o).lenses);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.lenses.hashCode();
     }
 
 }
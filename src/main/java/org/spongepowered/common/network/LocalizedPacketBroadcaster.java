@@ -0,0 +1,178 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import net.minecraft.network.Connection;
+import net.minecraft.network.ConnectionProtocol;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.chat.ChatType;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.PacketFlow;
+import net.minecraft.network.protocol.game.ClientboundChatPacket;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.ChatVisiblity;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.util.locale.Locales;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.accessor.network.ConnectionAccessor;
+import org.spongepowered.common.adventure.SpongeAdventure;
+import org.spongepowered.common.bridge.network.FriendlyByteBufBridge;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Sends a packet to many players while encoding it only once per locale.
+ *
+ * <p>Components are rendered for the locale of the receiving channel while
+ * the packet is encoded, so a packet broadcast through each connection is
+ * rendered and serialized again for every player. Here the players are
+ * grouped by locale instead, and every channel of a group is written the
+ * same encoded buffer, which then only goes through the compression and
+ * encryption stages of each pipeline.</p>
+ *
+ * <p>As the encoded buffer bypasses {@link Connection#send(Packet)}, chat
+ * packets are filtered by the chat visibility of each player up front, the
+ * same way the packet listener of the player would.</p>
+ */
+public final class LocalizedPacketBroadcaster {
+
+    /**
+     * Sends the packet to all of the given players.
+     *
+     * @param players The players
+     * @param packet The packet
+     */
+    public static void broadcast(final Iterable<ServerPlayer> players, final Packet<?> packet) {
+        final List<ServerPlayer> encodable = new ArrayList<>();
+        for (final ServerPlayer player : players) {
+            if (player.connection == null || !LocalizedPacketBroadcaster.accepts(player, packet)) {
+                continue;
+            }
+            final Connection connection = player.connection.connection;
+            final Channel channel = ((ConnectionAccessor) connection).accessor$channel();
+            if (channel == null || !connection.isConnected() || channel.attr(Connection.ATTRIBUTE_PROTOCOL).get() != ConnectionProtocol.PLAY) {
+                player.connection.send(packet);
+                continue;
+            }
+            encodable.add(player);
+        }
+
+        final Map<Locale, List<ServerPlayer>> playersByLocale = LocalizedPacketBroadcaster.groupByLocale(encodable,
+            player -> LocalizedPacketBroadcaster.channel(player).attr(SpongeAdventure.CHANNEL_LOCALE).get());
+        for (final Map.Entry<Locale, List<ServerPlayer>> entry : playersByLocale.entrySet()) {
+            final List<ServerPlayer> group = entry.getValue();
+            final @Nullable ByteBuf encoded = group.size() == 1 ? null : LocalizedPacketBroadcaster.encode(
+                LocalizedPacketBroadcaster.channel(group.get(0)), packet, entry.getKey());
+            if (encoded == null) {
+                for (final ServerPlayer player : group) {
+                    player.connection.send(packet);
+                }
+                continue;
+            }
+            try {
+                for (final ServerPlayer player : group) {
+                    LocalizedPacketBroadcaster.channel(player).writeAndFlush(encoded.retainedDuplicate());
+                }
+            } finally {
+                encoded.release();
+            }
+        }
+    }
+
+    /**
+     * Groups the given recipients by their locale, in the order they are
+     * first seen. Recipients without a locale use the
+     * {@link Locales#DEFAULT default} one.
+     *
+     * @param recipients The recipients
+     * @param localeFunction The function to get the locale of a recipient
+     * @param <T> The type of the recipients
+     * @return The recipients by locale
+     */
+    static <T> Map<Locale, List<T>> groupByLocale(final Iterable<? extends T> recipients, final Function<? super T, @Nullable Locale> localeFunction) {
+        final Map<Locale, List<T>> recipientsByLocale = new LinkedHashMap<>();
+        for (final T recipient : recipients) {
+            final @Nullable Locale locale = localeFunction.apply(recipient);
+            recipientsByLocale.computeIfAbsent(locale == null ? Locales.DEFAULT : locale, l -> new ArrayList<>()).add(recipient);
+        }
+        return recipientsByLocale;
+    }
+
+    private static boolean accepts(final ServerPlayer player, final Packet<?> packet) {
+        return !(packet instanceof ClientboundChatPacket)
+            || LocalizedPacketBroadcaster.acceptsChat(player.getChatVisibility(), ((ClientboundChatPacket) packet).getType());
+    }
+
+    /**
+     * Gets whether a player with the given chat visibility receives chat of
+     * the given type, as decided by {@code ServerGamePacketListenerImpl#send}.
+     *
+     * @param visibility The chat visibility of the player
+     * @param type The chat type
+     * @return Whether the chat is shown
+     */
+    static boolean acceptsChat(final ChatVisiblity visibility, final ChatType type) {
+        if (visibility == ChatVisiblity.HIDDEN) {
+            return type == ChatType.GAME_INFO;
+        }
+        if (visibility == ChatVisiblity.SYSTEM) {
+            return type == ChatType.SYSTEM || type == ChatType.GAME_INFO;
+        }
+        return true;
+    }
+
+    private static Channel channel(final ServerPlayer player) {
+        return ((ConnectionAccessor) player.connection.connection).accessor$channel();
+    }
+
+    private static @Nullable ByteBuf encode(final Channel channel, final Packet<?> packet, final Locale locale) {
+        final Integer id = ConnectionProtocol.PLAY.getPacketId(PacketFlow.CLIENTBOUND, packet);
+        if (id == null) {
+            return null;
+        }
+        final ByteBuf buf = channel.alloc().buffer();
+        final FriendlyByteBuf buffer = new FriendlyByteBuf(buf);
+        ((FriendlyByteBufBridge) buffer).bridge$setLocale(locale);
+        try {
+            buffer.writeVarInt(id);
+            packet.write(buffer);
+            return buf;
+        } catch (final Exception e) {
+            SpongeCommon.logger().error("Failed to encode {} for broadcast, sending it to each player instead", packet.getClass().getName(), e);
+            buf.release();
+            return null;
+        }
+    }
+
+    private LocalizedPacketBroadcaster() {
+    }
+}
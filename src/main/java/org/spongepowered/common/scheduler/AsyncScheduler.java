@@ -24,18 +24,23 @@
  */
 package org.spongepowered.common.scheduler;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.logging.log4j.Level;
 import org.spongepowered.api.scheduler.ScheduledTask;
 import org.spongepowered.api.util.Functional;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.common.SchedulerCategory;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.launch.Launch;
 import org.spongepowered.common.util.PrettyPrinter;
+import org.spongepowered.plugin.PluginContainer;
 
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Condition;
@@ -48,15 +53,12 @@ public final class AsyncScheduler extends SpongeScheduler {
     private final Lock lock = new ReentrantLock();
     private final Condition condition = this.lock.newCondition();
     private final AtomicBoolean stateChanged = new AtomicBoolean(false);
-    // The dynamic thread pooling executor of asynchronous tasks.
-    private final ExecutorService executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
-                                                                                   .setNameFormat("Sponge-AsyncScheduler-%d")
-                                                                                   .build());
+    // The configured executor of asynchronous tasks.
+    private final AsyncTaskExecutor executor = new AsyncTaskExecutor(SpongeConfigs.getCommon().get().scheduler);
     private volatile boolean running = true;
 
     // Adjustable timeout for pending Tasks
     private long minimumTimeout = Long.MAX_VALUE;
-    private long lastProcessingTimestamp;
 
     public AsyncScheduler() {
         super("A");
@@ -68,53 +70,15 @@ public AsyncScheduler() {
     }
 
     private void mainLoop() {
-        this.lastProcessingTimestamp = System.nanoTime();
         while (this.running) {
-            this.recalibrateMinimumTimeout();
             this.runTick();
         }
     }
 
     private void recalibrateMinimumTimeout() {
-        this.lock.lock();
-        try {
-            final Set<ScheduledTask> tasks = this.tasks();
-            this.minimumTimeout = Long.MAX_VALUE;
-            final long now = System.nanoTime();
-            for (final ScheduledTask tmpTask : tasks) {
-                final SpongeScheduledTask task = (SpongeScheduledTask) tmpTask;
-                if (task.state() == SpongeScheduledTask.ScheduledTaskState.EXECUTING) {
-                    // bail out for this task. We'll signal when we complete the task.
-                    continue;
-                }
-                // Recalibrate the wait delay for processing tasks before new
-                // tasks cause the scheduler to process pending tasks.
-                if (task.task.delay == 0 && task.task.interval == 0) {
-                    this.minimumTimeout = 0;
-                }
-                // The time since the task last executed or was added to the map
-                final long timeSinceLast = now - task.timestamp();
-
-                if (task.task.delay > 0 && task.state() == SpongeScheduledTask.ScheduledTaskState.WAITING) {
-                    // There is an delay and the task hasn't run yet
-                    this.minimumTimeout = Math.min(task.task.delay - timeSinceLast, this.minimumTimeout);
-                }
-                if (task.task.interval > 0 && task.state().isActive) {
-                    // The task repeats and has run after the initial delay
-                    this.minimumTimeout = Math.min(task.task.interval - timeSinceLast, this.minimumTimeout);
-                }
-                if (this.minimumTimeout <= 0) {
-                    break;
-                }
-            }
-            if (!tasks.isEmpty()) {
-                final long latency = System.nanoTime() - this.lastProcessingTimestamp;
-                this.minimumTimeout -= (latency <= 0) ? 0 : latency;
-                this.minimumTimeout = (this.minimumTimeout < 0) ? 0 : this.minimumTimeout;
-            }
-        } finally {
-            this.lock.unlock();
-        }
+        // Only the earliest queued task matters, anything added while we wait
+        // signals the condition.
+        this.minimumTimeout = this.timeUntilNextTask();
     }
 
     @Override
@@ -132,6 +96,9 @@ protected void addTask(final SpongeScheduledTask task) {
     protected void preTick() {
         this.lock.lock();
         try {
+            // Tasks are added under the lock as well, so none can slip in
+            // between recalibrating and awaiting.
+            this.recalibrateMinimumTimeout();
             // If we have something that has indicated it needs to change,
             // don't await, just continue.
             if (!this.stateChanged.get()) {
@@ -147,11 +114,6 @@ protected void preTick() {
         }
     }
 
-    @Override
-    protected void postTick() {
-        this.lastProcessingTimestamp = System.nanoTime();
-    }
-
     @Override
     protected void finallyPostTick() {
         this.lock.unlock();
@@ -171,12 +133,35 @@ protected void onTaskCompletion(final SpongeScheduledTask task) {
     }
 
     @Override
-    protected void executeRunnable(final Runnable runnable) {
-        this.executor.submit(runnable);
+    protected void executeRunnable(final PluginContainer plugin, final Runnable runnable) {
+        this.executor.execute(plugin, runnable);
     }
 
     public <T> CompletableFuture<T> submit(final Callable<T> callable) {
-        return Functional.asyncFailableFuture(callable, this.executor);
+        final PluginContainer plugin = Launch.instance().commonPlugin();
+        return Functional.asyncFailableFuture(callable, runnable -> this.executor.execute(plugin, runnable));
+    }
+
+    @Override
+    public Optional<SpongeTaskMetrics> metrics(final PluginContainer plugin) {
+        return Optional.of(this.executor.metrics(Objects.requireNonNull(plugin, "plugin")));
+    }
+
+    /**
+     * Gets the metrics of every plugin that submitted asynchronous tasks.
+     *
+     * @return The metrics
+     */
+    public Collection<SpongeTaskMetrics> metrics() {
+        return this.executor.metrics();
+    }
+
+    public SchedulerCategory.ExecutorMode executorMode() {
+        return this.executor.mode();
+    }
+
+    public int activeThreads() {
+        return this.executor.activeThreads();
     }
 
     public void close() {
@@ -186,10 +171,11 @@ public void close() {
         tasks.forEach(ScheduledTask::cancel);
 
         // Shut down the executor
-        this.executor.shutdown();
+        final ExecutorService executor = this.executor.executorService();
+        executor.shutdown();
 
         try {
-            if (!this.executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
                 new PrettyPrinter()
                         .add("Sponge async scheduler failed to shut down in 5 seconds! Tasks that may have been active:")
                         .addWithIndices(tasks)
@@ -197,7 +183,7 @@ public void close() {
                         .add("We will now attempt immediate shutdown.")
                         .log(SpongeCommon.logger(), Level.WARN);
 
-                this.executor.shutdownNow();
+                executor.shutdownNow();
             }
         } catch (final InterruptedException e) {
             SpongeCommon.logger().error("The async scheduler was interrupted while awaiting shutdown!");
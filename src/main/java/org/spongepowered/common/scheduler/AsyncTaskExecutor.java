@@ -0,0 +1,220 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.common.SchedulerCategory;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the tasks of the {@link AsyncScheduler} on the executor selected in
+ * the configuration, applying the per plugin concurrency limits and keeping
+ * track of the {@link SpongeTaskMetrics} of every plugin.
+ */
+final class AsyncTaskExecutor {
+
+    private static final String THREAD_NAME_PREFIX = "Sponge-AsyncScheduler-";
+
+    private final SchedulerCategory config;
+    private final SchedulerCategory.ExecutorMode mode;
+    private final ExecutorService executor;
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+
+    AsyncTaskExecutor(final SchedulerCategory config) {
+        this.config = config;
+        ExecutorService executor = null;
+        SchedulerCategory.ExecutorMode mode = config.asyncExecutor;
+        if (mode == SchedulerCategory.ExecutorMode.VIRTUAL) {
+            executor = AsyncTaskExecutor.createVirtualThreadExecutor();
+            if (executor == null) {
+                SpongeCommon.logger().warn("Virtual threads are not supported by this JVM, falling back to the CACHED async executor");
+                mode = SchedulerCategory.ExecutorMode.CACHED;
+            }
+        }
+        if (mode == SchedulerCategory.ExecutorMode.WORK_STEALING) {
+            final int parallelism = config.asyncParallelism > 0 ? config.asyncParallelism : Runtime.getRuntime().availableProcessors();
+            executor = new ForkJoinPool(parallelism, pool -> {
+                final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName(AsyncTaskExecutor.THREAD_NAME_PREFIX + thread.getPoolIndex());
+                return thread;
+            }, null, true);
+        } else if (mode == SchedulerCategory.ExecutorMode.CACHED) {
+            executor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                    new ThreadFactoryBuilder().setNameFormat(AsyncTaskExecutor.THREAD_NAME_PREFIX + "%d").build());
+        }
+        this.mode = mode;
+        this.executor = executor;
+    }
+
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            // Either an older JVM, or virtual threads are still a preview feature
+            return null;
+        }
+    }
+
+    SchedulerCategory.ExecutorMode mode() {
+        return this.mode;
+    }
+
+    ExecutorService executorService() {
+        return this.executor;
+    }
+
+    /**
+     * Gets the number of threads currently running tasks.
+     *
+     * @return The number of active threads
+     */
+    int activeThreads() {
+        if (this.executor instanceof ForkJoinPool) {
+            return ((ForkJoinPool) this.executor).getActiveThreadCount();
+        }
+        if (this.executor instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) this.executor).getActiveCount();
+        }
+        // Virtual threads only exist while running their task
+        int active = 0;
+        for (final Lane lane : this.lanes.values()) {
+            active += lane.metrics.activeTasks();
+        }
+        return active;
+    }
+
+    Collection<SpongeTaskMetrics> metrics() {
+        final Collection<SpongeTaskMetrics> metrics = new ArrayList<>(this.lanes.size());
+        for (final Lane lane : this.lanes.values()) {
+            metrics.add(lane.metrics);
+        }
+        return Collections.unmodifiableCollection(metrics);
+    }
+
+    SpongeTaskMetrics metrics(final PluginContainer plugin) {
+        return this.lane(plugin).metrics;
+    }
+
+    void execute(final PluginContainer plugin, final Runnable runnable) {
+        this.lane(plugin).submit(runnable);
+    }
+
+    private Lane lane(final PluginContainer plugin) {
+        return this.lanes.computeIfAbsent(plugin.metadata().id(), id -> new Lane(new SpongeTaskMetrics(id), this.config.concurrencyLimit(id)));
+    }
+
+    /**
+     * The tasks of a single plugin, holding tasks back while the plugin has
+     * reached its concurrency limit.
+     */
+    private final class Lane {
+
+        final SpongeTaskMetrics metrics;
+        private final int limit;
+        private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger running = new AtomicInteger();
+
+        Lane(final SpongeTaskMetrics metrics, final int limit) {
+            this.metrics = metrics;
+            this.limit = limit;
+        }
+
+        void submit(final Runnable runnable) {
+            final long queuedAt = System.nanoTime();
+            this.metrics.onQueued();
+            final Runnable measured = () -> {
+                final long start = System.nanoTime();
+                this.metrics.onStart(start - queuedAt);
+                try {
+                    runnable.run();
+                } finally {
+                    this.metrics.onComplete(System.nanoTime() - start);
+                }
+            };
+            if (this.limit <= 0) {
+                try {
+                    AsyncTaskExecutor.this.executor.execute(measured);
+                } catch (final RejectedExecutionException e) {
+                    this.metrics.onRejected();
+                    throw e;
+                }
+                return;
+            }
+            this.pending.offer(measured);
+            this.drain();
+        }
+
+        private void drain() {
+            while (!this.pending.isEmpty()) {
+                final int running = this.running.get();
+                if (running >= this.limit) {
+                    // A running task drains again once it completes
+                    return;
+                }
+                if (!this.running.compareAndSet(running, running + 1)) {
+                    continue;
+                }
+                final Runnable next = this.pending.poll();
+                if (next == null) {
+                    this.running.decrementAndGet();
+                    continue;
+                }
+                try {
+                    AsyncTaskExecutor.this.executor.execute(() -> {
+                        try {
+                            next.run();
+                        } finally {
+                            this.running.decrementAndGet();
+                            this.drain();
+                        }
+                    });
+                } catch (final RejectedExecutionException e) {
+                    // Only happens once the executor is shut down, so there is no point in queueing it again
+                    this.running.decrementAndGet();
+                    this.metrics.onRejected();
+                    SpongeCommon.logger().error("Dropped an async task of plugin '{}' as the executor rejected it", this.metrics.pluginId(), e);
+                }
+            }
+        }
+    }
+}
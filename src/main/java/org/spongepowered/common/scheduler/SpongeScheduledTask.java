@@ -42,7 +42,9 @@ public final class SpongeScheduledTask implements ScheduledTask {
     private final String name;
 
     private long timestamp;
-    private ScheduledTaskState state;
+    // The timestamp this task was queued under, see SpongeScheduler#enqueue
+    private long queuedTimestamp;
+    private volatile ScheduledTaskState state;
     private boolean isCancelled = false;
 
     SpongeScheduledTask(final SpongeScheduler scheduler, final SpongeTask task, final String name) {
@@ -80,6 +82,9 @@ public boolean cancel() {
                 || this.state() == ScheduledTaskState.EXECUTING;
         this.state = ScheduledTaskState.CANCELED;
         this.isCancelled = true;
+        // Drop the task from lookups right away, the scheduler discards the
+        // queued entry when it next comes up.
+        this.scheduler.removeTask(this);
         return success;
     }
 
@@ -110,6 +115,27 @@ long nextExecutionTimestamp() {
         return this.timestamp + this.task.delay;
     }
 
+    /**
+     * Gets whether {@link #nextExecutionTimestamp()} is based on ticks
+     * rather than on real time.
+     *
+     * @return True if the next execution is tick based
+     */
+    boolean isNextExecutionTickBased() {
+        if (this.state.isActive) {
+            return this.task.tickBasedInterval;
+        }
+        return this.task.tickBasedDelay;
+    }
+
+    long queuedTimestamp() {
+        return this.queuedTimestamp;
+    }
+
+    void setQueuedTimestamp(final long queuedTimestamp) {
+        this.queuedTimestamp = queuedTimestamp;
+    }
+
     ScheduledTaskState state() {
         return this.state;
     }
@@ -130,28 +156,33 @@ public enum ScheduledTaskState {
         /**
          * Never ran before, waiting for the delay to pass.
          */
-        WAITING(false),
+        WAITING(false, false),
         /**
          * In the process of switching to the execution state.
          */
-        SWITCHING(true),
+        SWITCHING(true, true),
         /**
          * Is being executed.
          */
-        EXECUTING(true),
+        EXECUTING(true, true),
         /**
          * Has ran, and will continue to unless removed from the task map.
          */
-        RUNNING(true),
+        RUNNING(true, false),
         /**
          * Task cancelled, scheduled to be removed from the task map.
          */
-        CANCELED(false);
+        CANCELED(false, false);
 
         public final boolean isActive;
+        /**
+         * Whether a previous occurrence of the task has not finished yet.
+         */
+        public final boolean isInFlight;
 
-        ScheduledTaskState(boolean active) {
+        ScheduledTaskState(boolean active, boolean inFlight) {
             this.isActive = active;
+            this.isInFlight = inFlight;
         }
     }
 }
@@ -37,14 +37,20 @@
 import org.spongepowered.common.launch.Launch;
 import org.spongepowered.plugin.PluginContainer;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
@@ -63,6 +69,14 @@ public abstract class SpongeScheduler implements Scheduler {
 
     // The simple queue of all pending (and running) ScheduledTasks
     protected final Map<UUID, SpongeScheduledTask> tasks = new ConcurrentHashMap<>();
+    // Tasks handed over by other threads, queued on the next tick
+    private final Queue<SpongeScheduledTask> pendingTasks = new ConcurrentLinkedQueue<>();
+    // Real time tasks, ordered by their next execution
+    private final PriorityQueue<SpongeScheduledTask> deadlines = new PriorityQueue<>(
+            (a, b) -> Long.signum(a.queuedTimestamp() - b.queuedTimestamp()));
+    // Tasks that came due while a previous occurrence was still executing
+    private final Set<SpongeScheduledTask> awaitingCompletion = ConcurrentHashMap.newKeySet();
+    private final List<SpongeScheduledTask> dueTasks = new ArrayList<>();
     private long sequenceNumber = 0L;
 
     SpongeScheduler(final String tag) {
@@ -93,6 +107,7 @@ protected long timestamp(final boolean tickBased) {
     protected void addTask(final SpongeScheduledTask task) {
         task.setTimestamp(this.timestamp(task.task.tickBasedDelay));
         this.tasks.put(task.uniqueId(), task);
+        this.pendingTasks.offer(task);
     }
 
     /**
@@ -100,10 +115,67 @@ protected void addTask(final SpongeScheduledTask task) {
      *
      * @param task The task to remove
      */
-    private void removeTask(final SpongeScheduledTask task) {
+    void removeTask(final SpongeScheduledTask task) {
         this.tasks.remove(task.uniqueId());
     }
 
+    /**
+     * Queues the task for its next execution. Only called from the thread
+     * processing the scheduler.
+     *
+     * @param task The task to queue
+     */
+    private void enqueue(final SpongeScheduledTask task) {
+        final long executionTimestamp = task.nextExecutionTimestamp();
+        task.setQueuedTimestamp(executionTimestamp);
+        this.enqueue(task, task.isNextExecutionTickBased(), executionTimestamp);
+    }
+
+    /**
+     * Queues the task to become due once {@link #timestamp(boolean)} reaches
+     * the given timestamp. Only called from the thread processing the
+     * scheduler.
+     *
+     * @param task The task to queue
+     * @param tickBased Whether the timestamp is tick based
+     * @param executionTimestamp The timestamp to execute the task at
+     */
+    protected void enqueue(final SpongeScheduledTask task, final boolean tickBased, final long executionTimestamp) {
+        this.deadlines.add(task);
+    }
+
+    /**
+     * Moves every queued task that has become due into the given collection.
+     * Only called from the thread processing the scheduler.
+     *
+     * @param due The collection to add due tasks to
+     */
+    protected void collectDueTasks(final Collection<SpongeScheduledTask> due) {
+        final long now = this.timestamp(false);
+        @Nullable SpongeScheduledTask next;
+        while ((next = this.deadlines.peek()) != null && next.queuedTimestamp() - now <= 0) {
+            due.add(this.deadlines.poll());
+        }
+    }
+
+    /**
+     * Gets the amount of nanoseconds until the earliest queued task becomes
+     * due, {@code 0} if a task is already due or waiting to be queued.
+     *
+     * @return The delay until the next task, or {@link Long#MAX_VALUE} if
+     *     there are no queued tasks
+     */
+    protected long timeUntilNextTask() {
+        if (!this.pendingTasks.isEmpty()) {
+            return 0;
+        }
+        final @Nullable SpongeScheduledTask next = this.deadlines.peek();
+        if (next == null) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0, next.queuedTimestamp() - this.timestamp(false));
+    }
+
     @Override
     public Optional<ScheduledTask> findTask(final UUID id) {
         Objects.requireNonNull(id, "id");
@@ -155,7 +227,18 @@ public Set<ScheduledTask> tasks(final PluginContainer plugin) {
     @Override
     public SpongeTaskExecutorService executor(final PluginContainer plugin) {
         Objects.requireNonNull(plugin, "plugin");
-        return new SpongeTaskExecutorService(() -> Task.builder().plugin(plugin), this);
+        return new SpongeTaskExecutorService(plugin, () -> Task.builder().plugin(plugin), this);
+    }
+
+    /**
+     * Gets the execution metrics of the tasks of the given plugin, if this
+     * scheduler keeps track of them.
+     *
+     * @param plugin The plugin
+     * @return The metrics, if available
+     */
+    public Optional<SpongeTaskMetrics> metrics(final PluginContainer plugin) {
+        return Optional.empty();
     }
 
     @Override
@@ -180,12 +263,21 @@ public SpongeScheduledTask submit(Task task, String name) {
     }
 
     /**
-     * Process all tasks in the map.
+     * Process all tasks that are due.
      */
     final void runTick() {
         this.preTick();
         try {
-            this.tasks.values().forEach(this::processTask);
+            @Nullable SpongeScheduledTask pending;
+            while ((pending = this.pendingTasks.poll()) != null) {
+                this.enqueue(pending);
+            }
+            this.collectDueTasks(this.dueTasks);
+            try {
+                this.dueTasks.forEach(this::processTask);
+            } finally {
+                this.dueTasks.clear();
+            }
             this.postTick();
         } finally {
             this.finallyPostTick();
@@ -212,7 +304,7 @@ protected void finallyPostTick() {
     }
 
     /**
-     * Processes the task.
+     * Processes a task that has become due.
      *
      * @param task The task to process
      */
@@ -224,41 +316,26 @@ private void processTask(final SpongeScheduledTask task) {
             return;
         }
         // If the task is already being processed, we wait for the previous
-        // occurrence to terminate.
-        if (task.state() == SpongeScheduledTask.ScheduledTaskState.EXECUTING) {
+        // occurrence to terminate, at which point it is queued again.
+        if (task.state().isInFlight) {
+            this.awaitingCompletion.add(task);
+            // The previous occurrence may have completed in the meantime
+            if (!task.state().isInFlight && this.awaitingCompletion.remove(task)) {
+                this.enqueue(task);
+            }
             return;
         }
-        final long threshold;
-        final boolean tickBased;
-        // Figure out if we start a delayed Task after threshold ticks or, start
-        // it after the interval (interval) of the repeating task parameter.
-        if (task.state() == SpongeScheduledTask.ScheduledTaskState.WAITING) {
-            threshold = task.task.delay;
-            tickBased = task.task.tickBasedDelay;
-        } else if (task.state() == SpongeScheduledTask.ScheduledTaskState.RUNNING) {
-            threshold = task.task.interval;
-            tickBased = task.task.tickBasedInterval;
-        } else {
-            threshold = Long.MAX_VALUE;
-            tickBased = false;
-        }
-        // This moment is 'now'
-        final long now = this.timestamp(tickBased);
-        // So, if the current time minus the timestamp of the task is greater
-        // than the delay to wait before starting the task, then start the task.
-        // Repeating tasks get a reset-timestamp each time they are set RUNNING
-        // If the task has a interval of 0 (zero) this task will not repeat, and
-        // is removed after we start it.
-        if (threshold <= (now - task.timestamp())) {
-            task.setState(SpongeScheduledTask.ScheduledTaskState.SWITCHING);
-            // It is always interval here because that's the only thing that matters
-            // at this point.
-            task.setTimestamp(this.timestamp(task.task.tickBasedInterval));
-            this.startTask(task);
-            // If task is one time shot, remove it from the map.
-            if (task.task.interval == 0L) {
-                this.removeTask(task);
-            }
+        task.setState(SpongeScheduledTask.ScheduledTaskState.SWITCHING);
+        // It is always interval here because that's the only thing that matters
+        // at this point.
+        task.setTimestamp(this.timestamp(task.task.tickBasedInterval));
+        this.startTask(task);
+        // If task is one time shot, remove it from the map, otherwise queue
+        // the next execution.
+        if (task.task.interval == 0L) {
+            this.removeTask(task);
+        } else if (!task.isCancelled()) {
+            this.enqueue(task);
         }
     }
 
@@ -268,7 +345,7 @@ private void processTask(final SpongeScheduledTask task) {
      * @param task The task to start
      */
     private void startTask(final SpongeScheduledTask task) {
-        this.executeRunnable(() -> {
+        this.executeRunnable(task.task().plugin(), () -> {
             task.setState(SpongeScheduledTask.ScheduledTaskState.EXECUTING);
             try (final @Nullable PhaseContext<@NonNull ?> context = this.createContext(task, task.task().plugin())) {
                 if (context != null) {
@@ -284,6 +361,9 @@ private void startTask(final SpongeScheduledTask task) {
                 if (!task.isCancelled()) {
                     task.setState(SpongeScheduledTask.ScheduledTaskState.RUNNING);
                 }
+                if (this.awaitingCompletion.remove(task)) {
+                    this.pendingTasks.offer(task);
+                }
                 this.onTaskCompletion(task);
             }
         });
@@ -303,7 +383,7 @@ protected void onTaskCompletion(final SpongeScheduledTask task) {
         // no-op for sync methods.
     }
 
-    protected void executeRunnable(final Runnable runnable) {
+    protected void executeRunnable(final PluginContainer plugin, final Runnable runnable) {
         runnable.run();
     }
 
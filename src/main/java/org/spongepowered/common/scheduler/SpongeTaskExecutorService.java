@@ -32,10 +32,12 @@
 import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.api.scheduler.TaskExecutorService;
 import org.spongepowered.api.scheduler.TaskFuture;
+import org.spongepowered.plugin.PluginContainer;
 
 import java.time.Duration;
 import java.time.temporal.TemporalUnit;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.AbstractExecutorService;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Delayed;
@@ -45,16 +47,28 @@
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 
-class SpongeTaskExecutorService extends AbstractExecutorService implements TaskExecutorService {
+public final class SpongeTaskExecutorService extends AbstractExecutorService implements TaskExecutorService {
 
+    private final PluginContainer plugin;
     private final Supplier<Task.Builder> taskBuilderProvider;
     private final SpongeScheduler scheduler;
 
-    SpongeTaskExecutorService(final Supplier<Task.Builder> taskBuilderProvider, final SpongeScheduler scheduler) {
+    SpongeTaskExecutorService(final PluginContainer plugin, final Supplier<Task.Builder> taskBuilderProvider, final SpongeScheduler scheduler) {
+        this.plugin = plugin;
         this.taskBuilderProvider = taskBuilderProvider;
         this.scheduler = scheduler;
     }
 
+    /**
+     * Gets the execution metrics of the owning plugin's tasks on the
+     * underlying scheduler, if it keeps track of them.
+     *
+     * @return The metrics, if available
+     */
+    public Optional<SpongeTaskMetrics> metrics() {
+        return this.scheduler.metrics(this.plugin);
+    }
+
     @Override
     public void shutdown() {
         // Since this class is delegating its work to SchedulerService
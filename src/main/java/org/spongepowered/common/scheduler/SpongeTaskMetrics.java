@@ -0,0 +1,136 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import com.google.common.base.MoreObjects;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running totals of the asynchronous tasks of a single plugin.
+ */
+public final class SpongeTaskMetrics {
+
+    private final String pluginId;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalLatency = new LongAdder();
+    private final AtomicLong maxLatency = new AtomicLong();
+    private final LongAdder totalExecutionTime = new LongAdder();
+
+    SpongeTaskMetrics(final String pluginId) {
+        this.pluginId = pluginId;
+    }
+
+    public String pluginId() {
+        return this.pluginId;
+    }
+
+    /**
+     * Gets the number of tasks waiting for a thread or for the plugin's
+     * concurrency limit.
+     *
+     * @return The queue depth
+     */
+    public int queueDepth() {
+        return this.queued.get();
+    }
+
+    public int activeTasks() {
+        return this.active.get();
+    }
+
+    public long completedTasks() {
+        return this.completed.sum();
+    }
+
+    /**
+     * Gets the number of tasks dropped because the executor rejected them.
+     *
+     * @return The number of rejected tasks
+     */
+    public long rejectedTasks() {
+        return this.rejected.sum();
+    }
+
+    /**
+     * Gets the average time tasks spent queued before they began executing.
+     *
+     * @return The average latency
+     */
+    public Duration averageLatency() {
+        final long started = this.completed.sum() + this.active.get();
+        return started == 0 ? Duration.ZERO : Duration.ofNanos(this.totalLatency.sum() / started);
+    }
+
+    public Duration maxLatency() {
+        return Duration.ofNanos(this.maxLatency.get());
+    }
+
+    public Duration averageExecutionTime() {
+        final long completed = this.completed.sum();
+        return completed == 0 ? Duration.ZERO : Duration.ofNanos(this.totalExecutionTime.sum() / completed);
+    }
+
+    void onQueued() {
+        this.queued.incrementAndGet();
+    }
+
+    void onStart(final long latency) {
+        this.queued.decrementAndGet();
+        this.active.incrementAndGet();
+        this.totalLatency.add(latency);
+        this.maxLatency.accumulateAndGet(latency, Math::max);
+    }
+
+    void onRejected() {
+        this.queued.decrementAndGet();
+        this.rejected.increment();
+    }
+
+    void onComplete(final long executionTime) {
+        this.active.decrementAndGet();
+        this.completed.increment();
+        this.totalExecutionTime.add(executionTime);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("plugin", this.pluginId)
+                .add("queued", this.queueDepth())
+                .add("active", this.activeTasks())
+                .add("completed", this.completedTasks())
+                .add("rejected", this.rejectedTasks())
+                .add("averageLatency", this.averageLatency())
+                .add("maxLatency", this.maxLatency())
+                .toString();
+    }
+}
@@ -24,10 +24,14 @@
  */
 package org.spongepowered.common.scheduler;
 
+import java.util.Collection;
+
 public abstract class SyncScheduler extends SpongeScheduler {
 
     // The number of ticks elapsed since this scheduler began.
     private long counter = 0L;
+    // Tick based tasks, real time tasks are kept in the deadline queue
+    private final TimingWheel<SpongeScheduledTask> wheel = new TimingWheel<>(0L);
 
     SyncScheduler(final String tag) {
         super(tag);
@@ -50,4 +54,20 @@ protected long timestamp(final boolean tickBased) {
         }
         return super.timestamp(false);
     }
+
+    @Override
+    protected void enqueue(final SpongeScheduledTask task, final boolean tickBased, final long executionTimestamp) {
+        if (tickBased) {
+            // Round up, the task is due on the first tick at or after the timestamp
+            this.wheel.schedule(task, -Math.floorDiv(-executionTimestamp, SpongeScheduler.TICK_DURATION_NS));
+        } else {
+            super.enqueue(task, false, executionTimestamp);
+        }
+    }
+
+    @Override
+    protected void collectDueTasks(final Collection<SpongeScheduledTask> due) {
+        this.wheel.advance(this.counter, due::add);
+        super.collectDueTasks(due);
+    }
 }
@@ -0,0 +1,165 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timing wheel keyed on ticks. Each level has
+ * {@link #SLOTS} buckets, every level covering {@link #SLOTS} times the
+ * range of the level below it. Entries are moved down a level whenever
+ * the wheel below them wraps around, so advancing by one tick only ever
+ * touches the entries that are due on that tick plus, once every
+ * {@link #SLOTS} ticks, a single bucket of the level above.
+ *
+ * <p>Entries too far in the future for the top level are kept in an
+ * overflow list which is re-examined whenever the top level wraps.</p>
+ *
+ * <p>This class is not thread safe, it is expected to be owned by the
+ * thread ticking the scheduler.</p>
+ *
+ * @param <E> The type of element scheduled
+ */
+final class TimingWheel<E> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << TimingWheel.SLOT_BITS;
+    private static final int SLOT_MASK = TimingWheel.SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    private final List<List<Node<E>>> slots;
+    private final List<Node<E>> overflow = new ArrayList<>();
+    private long currentTick;
+    private int size;
+
+    TimingWheel(final long startTick) {
+        this.currentTick = startTick;
+        this.slots = new ArrayList<>(TimingWheel.LEVELS * TimingWheel.SLOTS);
+        for (int i = 0; i < TimingWheel.LEVELS * TimingWheel.SLOTS; i++) {
+            this.slots.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Gets the last tick this wheel has advanced to.
+     *
+     * @return The current tick
+     */
+    long currentTick() {
+        return this.currentTick;
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Schedules the element to be released when the wheel advances to the
+     * given tick. Ticks that are already in the past are released on the
+     * next advance.
+     *
+     * @param element The element
+     * @param tick The tick to release the element on
+     */
+    void schedule(final E element, final long tick) {
+        this.insert(new Node<>(element, Math.max(tick, this.currentTick + 1)));
+        this.size++;
+    }
+
+    /**
+     * Advances the wheel up to and including the given tick, handing every
+     * element that became due to the consumer.
+     *
+     * @param tick The tick to advance to
+     * @param consumer The consumer of due elements
+     */
+    void advance(final long tick, final Consumer<? super E> consumer) {
+        while (this.currentTick < tick) {
+            final long now = ++this.currentTick;
+            // Cascade higher levels first, their entries may land in a
+            // bucket of a lower level that is cascaded on this same tick.
+            if ((now & TimingWheel.levelMask(TimingWheel.LEVELS)) == 0 && !this.overflow.isEmpty()) {
+                final List<Node<E>> pending = new ArrayList<>(this.overflow);
+                this.overflow.clear();
+                pending.forEach(this::insert);
+            }
+            for (int level = TimingWheel.LEVELS - 1; level > 0; level--) {
+                if ((now & TimingWheel.levelMask(level)) == 0) {
+                    final List<Node<E>> bucket = this.bucket(level, now);
+                    if (!bucket.isEmpty()) {
+                        final List<Node<E>> pending = new ArrayList<>(bucket);
+                        bucket.clear();
+                        pending.forEach(this::insert);
+                    }
+                }
+            }
+            final List<Node<E>> due = this.bucket(0, now);
+            if (!due.isEmpty()) {
+                this.size -= due.size();
+                for (final Node<E> node : due) {
+                    consumer.accept(node.element);
+                }
+                due.clear();
+            }
+        }
+    }
+
+    private void insert(final Node<E> node) {
+        final long delta = node.tick - this.currentTick;
+        for (int level = 0; level < TimingWheel.LEVELS; level++) {
+            if (delta <= TimingWheel.levelMask(level + 1)) {
+                this.bucket(level, node.tick).add(node);
+                return;
+            }
+        }
+        this.overflow.add(node);
+    }
+
+    private List<Node<E>> bucket(final int level, final long tick) {
+        final int index = (int) (tick >>> (TimingWheel.SLOT_BITS * level)) & TimingWheel.SLOT_MASK;
+        return this.slots.get(level * TimingWheel.SLOTS + index);
+    }
+
+    private static long levelMask(final int level) {
+        return (1L << (TimingWheel.SLOT_BITS * level)) - 1;
+    }
+
+    private static final class Node<E> {
+
+        final E element;
+        final long tick;
+
+        Node(final E element, final long tick) {
+            this.element = element;
+            this.tick = tick;
+        }
+    }
+}
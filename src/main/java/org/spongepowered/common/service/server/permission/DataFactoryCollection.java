@@ -108,8 +108,15 @@ public MemorySubjectData subjectData() {
         }
 
         @Override
-        public Tristate permissionValue(final String permission, final Cause cause) {
-            Tristate ret = super.permissionValue(permission, cause);
+        protected long dataVersion() {
+            return Math.max(super.dataVersion(),
+                Math.max(SpongeBaseSubject.dataVersion(DataFactoryCollection.this.defaults().transientSubjectData()),
+                    SpongeBaseSubject.dataVersion(DataFactoryCollection.this.service.defaults().transientSubjectData())));
+        }
+
+        @Override
+        protected Tristate resolvePermissionValue(final String permission) {
+            Tristate ret = super.resolvePermissionValue(permission);
 
             if (ret == Tristate.UNDEFINED) {
                 ret = this.dataPermissionValue(DataFactoryCollection.this.defaults().transientSubjectData(), permission);
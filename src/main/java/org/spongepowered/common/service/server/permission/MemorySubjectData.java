@@ -47,6 +47,7 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A subject data implementation storing all contained data in memory.
@@ -59,6 +60,9 @@
  */
 public class MemorySubjectData implements SubjectData {
 
+    private static final AtomicLong VERSION = new AtomicLong();
+
+    private volatile long version;
     protected final Subject subject;
     protected final ConcurrentMap<Set<Context>, Map<String, String>> options = new ConcurrentHashMap<>();
     protected final ConcurrentMap<Set<Context>, NodeTree> permissions = new ConcurrentHashMap<>();
@@ -74,6 +78,27 @@ public MemorySubjectData(final Subject subject) {
         this.subject = Objects.requireNonNull(subject, "subject");
     }
 
+    /**
+     * Takes the next value of the version sequence shared by all subject
+     * data. A value taken later is always greater, so the greatest version
+     * of several pieces of data changes whenever one of them does.
+     *
+     * @return The next version
+     */
+    public static long nextVersion() {
+        return MemorySubjectData.VERSION.incrementAndGet();
+    }
+
+    /**
+     * Gets the version this data was assigned from {@link #nextVersion()}
+     * when it was last mutated, or 0 if it never was.
+     *
+     * @return The version of this data
+     */
+    public long version() {
+        return this.version;
+    }
+
     /**
      * Called each time the data in this {@link MemorySubjectData} is mutated
      * in some way.
@@ -82,6 +107,15 @@ protected void onUpdate() {
         // Do nothing - users of the class will override.
     }
 
+    /**
+     * Marks this data as changed, invalidating any resolved permission values
+     * before notifying {@link #onUpdate()}.
+     */
+    protected final void changed() {
+        this.version = MemorySubjectData.nextVersion();
+        this.onUpdate();
+    }
+
     @Override
     public Subject subject() {
         return this.subject;
@@ -142,7 +176,7 @@ public CompletableFuture<Boolean> setPermission(Set<Context> contexts, final Str
                 }
             }
         }
-        this.onUpdate();
+        this.changed();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -176,7 +210,7 @@ public CompletableFuture<Boolean> setPermissions(Set<Context> contexts, final Ma
                     throw new IllegalStateException("Unhandled enum state " + method);
             }
         }
-        this.onUpdate();
+        this.changed();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -217,7 +251,7 @@ public CompletableFuture<Boolean> setFallbackPermissionValue(Set<Context> contex
                 }
             }
         }
-        this.onUpdate();
+        this.changed();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -237,7 +271,7 @@ public CompletableFuture<Boolean> clearFallbackPermissionValues() {
                 }
             }
         }
-        this.onUpdate();
+        this.changed();
         return CompletableFuture.completedFuture(anyUpdated);
     }
 
@@ -246,7 +280,7 @@ public CompletableFuture<Boolean> clearPermissions() {
         final boolean wasEmpty = this.permissions.isEmpty();
         this.permissions.clear();
         if (!wasEmpty) {
-            this.onUpdate();
+            this.changed();
         }
         return CompletableFuture.completedFuture(!wasEmpty);
     }
@@ -255,7 +289,7 @@ public CompletableFuture<Boolean> clearPermissions() {
     public CompletableFuture<Boolean> clearPermissions(final Set<Context> context) {
         final boolean changed = this.permissions.remove(Objects.requireNonNull(context, "context")) != null;
         if (changed) {
-            this.onUpdate();
+            this.changed();
         }
         return CompletableFuture.completedFuture(changed);
     }
@@ -302,7 +336,7 @@ public CompletableFuture<Boolean> setParents(Set<Context> contexts, final List<?
                     throw new IllegalStateException("Unhandled enum state " + method);
             }
         }
-        this.onUpdate();
+        this.changed();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -323,7 +357,7 @@ public CompletableFuture<Boolean> addParent(Set<Context> contexts, final Subject
                     .build();
 
             if (this.updateCollection(this.parents, contexts, oldParents, newParents)) {
-                this.onUpdate();
+                this.changed();
                 return CompletableFuture.completedFuture(true);
             }
         }
@@ -354,7 +388,7 @@ public CompletableFuture<Boolean> removeParent(Set<Context> contexts, final Subj
             newParents.remove(parent);
 
             if (this.updateCollection(this.parents, contexts, oldParents, ImmutableList.copyOf(newParents))) {
-                this.onUpdate();
+                this.changed();
                 return CompletableFuture.completedFuture(true);
             }
         }
@@ -365,7 +399,7 @@ public CompletableFuture<Boolean> clearParents() {
         final boolean wasEmpty = this.parents.isEmpty();
         this.parents.clear();
         if (!wasEmpty) {
-            this.onUpdate();
+            this.changed();
         }
         return CompletableFuture.completedFuture(!wasEmpty);
     }
@@ -374,7 +408,7 @@ public CompletableFuture<Boolean> clearParents() {
     public CompletableFuture<Boolean> clearParents(final Set<Context> contexts) {
         final boolean changed = this.parents.remove(Objects.requireNonNull(contexts, "contexts")) != null;
         if (changed) {
-            this.onUpdate();
+            this.changed();
         }
         return CompletableFuture.completedFuture(changed);
     }
@@ -402,7 +436,7 @@ public CompletableFuture<Boolean> setOption(Set<Context> contexts, final String
             }
 
             if ((origMap = this.options.putIfAbsent(contexts, Collections.singletonMap(key.toLowerCase(), value))) == null) {
-                this.onUpdate();
+                this.changed();
                 return CompletableFuture.completedFuture(true);
             }
         }
@@ -419,7 +453,7 @@ public CompletableFuture<Boolean> setOption(Set<Context> contexts, final String
             }
             newMap = ImmutableMap.copyOf(newMap);
         } while (!this.options.replace(contexts, origMap, newMap));
-        this.onUpdate();
+        this.changed();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -449,7 +483,7 @@ public CompletableFuture<Boolean> setOptions(Set<Context> contexts, final Map<St
                     throw new IllegalStateException("Unhandled enum state " + method);
             }
         }
-        this.onUpdate();
+        this.changed();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -458,7 +492,7 @@ public CompletableFuture<Boolean> clearOptions() {
         final boolean wasEmpty = this.options.isEmpty();
         this.options.clear();
         if (!wasEmpty) {
-            this.onUpdate();
+            this.changed();
         }
         return CompletableFuture.completedFuture(!wasEmpty);
     }
@@ -467,7 +501,7 @@ public CompletableFuture<Boolean> clearOptions() {
     public CompletableFuture<Boolean> clearOptions(final Set<Context> contexts) {
         final boolean ret = this.options.remove(Objects.requireNonNull(contexts, "contexts")) != null;
         if (ret) {
-            this.onUpdate();
+            this.changed();
         }
         return CompletableFuture.completedFuture(ret);
     }
@@ -484,6 +518,7 @@ public CompletableFuture<Boolean> copyFrom(final SubjectData other, final Transf
             this.permissions.clear();
             this.parents.clear();
             this.options.clear();
+            this.changed();
         }
 
         otherPerms.forEach((ctx, permissions) -> this.setPermissions(ctx, permissions, method));
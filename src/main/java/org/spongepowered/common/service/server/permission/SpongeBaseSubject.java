@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.service.server.permission;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.event.Cause;
 import org.spongepowered.api.service.context.Context;
@@ -36,9 +37,18 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
 
 public abstract class SpongeBaseSubject implements Subject {
 
+    /**
+     * The number of resolved permission values kept per subject, the least
+     * recently checked permissions are resolved again past this.
+     */
+    private static final int MAX_RESOLVED_PERMISSIONS = 512;
+
+    private volatile SpongeBaseSubject.@Nullable ResolvedPermissions resolvedPermissions;
+
     public abstract PermissionService service();
 
     @Override
@@ -72,9 +82,66 @@ public boolean hasPermission(final String permission, final Set<Context> context
 
     @Override
     public Tristate permissionValue(final String permission, final @Nullable Cause cause) {
+        // Read the version before resolving, a value resolved while the data
+        // changes is then stored under a version that is already outdated.
+        final long version = this.dataVersion();
+        SpongeBaseSubject.@Nullable ResolvedPermissions resolved = this.resolvedPermissions;
+        if (resolved == null) {
+            resolved = new SpongeBaseSubject.ResolvedPermissions();
+            this.resolvedPermissions = resolved;
+        }
+        final @Nullable Tristate cached = resolved.get(version, permission);
+        if (cached != null) {
+            return cached;
+        }
+        final Tristate value = this.resolvePermissionValue(permission);
+        resolved.put(version, permission, value);
+        return value;
+    }
+
+    /**
+     * Resolves the value of the given permission without consulting the
+     * cache of resolved values.
+     *
+     * @param permission The permission
+     * @return The resolved value
+     */
+    protected Tristate resolvePermissionValue(final String permission) {
         return this.dataPermissionValue(this.transientSubjectData(), permission);
     }
 
+    /**
+     * Gets the greatest {@link MemorySubjectData#version() version} of the
+     * data the permission values of this subject are resolved from, which is
+     * its own data and that of its parents. Values resolved under another
+     * version are discarded. Subjects resolving values from anything else
+     * must include a version of it taken from
+     * {@link MemorySubjectData#nextVersion()}.
+     *
+     * @return The version
+     */
+    protected long dataVersion() {
+        return SpongeBaseSubject.dataVersion(this.transientSubjectData());
+    }
+
+    /**
+     * Gets the greatest version of the given data and the data of its
+     * parents.
+     *
+     * @param data The data
+     * @return The version
+     */
+    protected static long dataVersion(final MemorySubjectData data) {
+        long version = data.version();
+        for (final SubjectReference parent : data.parents(SubjectData.GLOBAL_CONTEXT)) {
+            final Subject subject = parent.resolve().join();
+            if (subject instanceof SpongeBaseSubject) {
+                version = Math.max(version, ((SpongeBaseSubject) subject).dataVersion());
+            }
+        }
+        return version;
+    }
+
     @Override
     public final Tristate permissionValue(final String permission, final Set<Context> contexts) {
         return this.permissionValue(permission, (Cause) null);
@@ -139,4 +206,40 @@ public Optional<String> option(final String key, final @Nullable Cause cause) {
     public final Optional<String> option(final String key, final Set<Context> contexts) {
         return this.option(key, (Cause) null);
     }
+
+    /**
+     * The permission values resolved under a single data version. The table
+     * is cleared when a newer version is seen, and values resolved under an
+     * older one are not stored.
+     */
+    private static final class ResolvedPermissions {
+
+        private final ConcurrentMap<String, Tristate> values = Caffeine.newBuilder()
+            .maximumSize(SpongeBaseSubject.MAX_RESOLVED_PERMISSIONS)
+            .executor(Runnable::run)
+            .<String, Tristate>build()
+            .asMap();
+        private volatile long version = -1;
+
+        @Nullable Tristate get(final long version, final String permission) {
+            if (this.version != version) {
+                this.update(version);
+                return null;
+            }
+            return this.values.get(permission);
+        }
+
+        synchronized void put(final long version, final String permission, final Tristate value) {
+            if (this.version == version) {
+                this.values.put(permission, value);
+            }
+        }
+
+        private synchronized void update(final long version) {
+            if (version > this.version) {
+                this.values.clear();
+                this.version = version;
+            }
+        }
+    }
 }
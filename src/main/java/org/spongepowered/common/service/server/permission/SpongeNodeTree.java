@@ -25,10 +25,12 @@
 package org.spongepowered.common.service.server.permission;
 
 import com.google.common.collect.ImmutableMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.service.permission.NodeTree;
 import org.spongepowered.api.util.Tristate;
 
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
@@ -50,7 +52,7 @@ public final class SpongeNodeTree implements NodeTree {
 
     <T> void populate(final Map<String, T> values, final Function<T, Tristate> converter) {
         for (final Map.Entry<String, T> value : values.entrySet()) {
-            final String[] parts = SpongeNodeTree.NODE_SPLIT.split(value.getKey().toLowerCase(), -1);
+            final String[] parts = SpongeNodeTree.NODE_SPLIT.split(value.getKey().toLowerCase(Locale.ROOT), -1);
             Node currentNode = this.rootNode;
             for (final String part : parts) {
                 if (currentNode.children.containsKey(part)) {
@@ -67,20 +69,32 @@ <T> void populate(final Map<String, T> values, final Function<T, Tristate> conve
 
     @Override
     public Tristate get(final String node) {
-        final String[] parts = SpongeNodeTree.NODE_SPLIT.split(node.toLowerCase(), -1);
+        // Walks the segments of the node in place rather than splitting and
+        // lower casing it, permission checks are hot enough for the garbage
+        // to matter.
+        final int length = node.length();
         Node currentNode = this.rootNode;
         Tristate lastUndefinedVal = Tristate.UNDEFINED;
-        for (String str : parts) {
-            if (!currentNode.children.containsKey(str)) {
+        int start = 0;
+        while (true) {
+            int end = node.indexOf('.', start);
+            if (end == -1) {
+                end = length;
+            }
+            final @Nullable Node child = currentNode.child(node, start, end);
+            if (child == null) {
                 break;
             }
-            currentNode = currentNode.children.get(str);
+            currentNode = child;
             if (currentNode.value != Tristate.UNDEFINED) {
                 lastUndefinedVal = currentNode.value;
             }
+            if (end == length) {
+                break;
+            }
+            start = end + 1;
         }
         return lastUndefinedVal;
-
     }
 
     @Override
@@ -116,7 +130,7 @@ private void populateMap(final ImmutableMap.Builder<String, Boolean> values, fin
 
     @Override
     public NodeTree withValue(final String node, final Tristate value) {
-        final String[] parts = SpongeNodeTree.NODE_SPLIT.split(node.toLowerCase(), -1);
+        final String[] parts = SpongeNodeTree.NODE_SPLIT.split(node.toLowerCase(Locale.ROOT), -1);
         final Node newRoot = new Node(new HashMap<>(this.rootNode.children));
         Node newPtr = newRoot;
         Node currentPtr = this.rootNode;
@@ -155,10 +169,77 @@ public static class Node {
 
         final Map<String, SpongeNodeTree.Node> children;
         Tristate value = Tristate.UNDEFINED;
+        private volatile SpongeNodeTree.@Nullable Lookup lookup;
 
         Node(Map<String, SpongeNodeTree.Node> children) {
             this.children = children;
         }
+
+        /**
+         * Gets the child whose key matches the given region of the node,
+         * ignoring case. The lookup table is built on first use, nodes are
+         * no longer modified once their tree has been handed out.
+         */
+        @Nullable Node child(final String node, final int start, final int end) {
+            SpongeNodeTree.@Nullable Lookup lookup = this.lookup;
+            if (lookup == null) {
+                lookup = new SpongeNodeTree.Lookup(this.children);
+                this.lookup = lookup;
+            }
+            return lookup.get(node, start, end);
+        }
+    }
+
+    /**
+     * An open addressed table over the children of a node, which can be
+     * queried with a region of a string instead of a key instance.
+     */
+    static final class Lookup {
+
+        private final String[] keys;
+        private final Node[] nodes;
+        private final int mask;
+
+        Lookup(final Map<String, Node> children) {
+            int capacity = 2;
+            while (capacity < children.size() * 2) {
+                capacity <<= 1;
+            }
+            this.keys = new String[capacity];
+            this.nodes = new Node[capacity];
+            this.mask = capacity - 1;
+            for (final Map.Entry<String, Node> entry : children.entrySet()) {
+                int index = Lookup.spread(entry.getKey().hashCode()) & this.mask;
+                while (this.keys[index] != null) {
+                    index = (index + 1) & this.mask;
+                }
+                this.keys[index] = entry.getKey();
+                this.nodes[index] = entry.getValue();
+            }
+        }
+
+        @Nullable Node get(final String node, final int start, final int end) {
+            // Same as the hash code of the lower cased region, which is
+            // how the keys are stored.
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + Character.toLowerCase(node.charAt(i));
+            }
+            final int length = end - start;
+            int index = Lookup.spread(hash) & this.mask;
+            String key;
+            while ((key = this.keys[index]) != null) {
+                if (key.length() == length && key.regionMatches(true, 0, node, start, length)) {
+                    return this.nodes[index];
+                }
+                index = (index + 1) & this.mask;
+            }
+            return null;
+        }
+
+        private static int spread(final int hash) {
+            return hash ^ (hash >>> 16);
+        }
     }
 
     public static final class FactoryImpl implements Factory {
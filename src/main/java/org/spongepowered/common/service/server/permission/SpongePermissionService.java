@@ -60,6 +60,7 @@
 @Singleton
 public final class SpongePermissionService implements PermissionService {
     private static final String SUBJECTS_DEFAULT = "default";
+    private static volatile long opsVersion;
 
     private final Game game;
     private final Map<String, PermissionDescription> descriptionMap = new LinkedHashMap<>();
@@ -95,6 +96,21 @@ public SpongePermissionService(final Game game) {
         this.defaultData = this.getDefaultCollection().get(SpongePermissionService.SUBJECTS_DEFAULT);
     }
 
+    /**
+     * Gets the {@link MemorySubjectData#nextVersion() version} taken when the
+     * server ops list last changed, used to invalidate permission values
+     * resolved from op levels.
+     *
+     * @return The current version
+     */
+    public static long opsVersion() {
+        return SpongePermissionService.opsVersion;
+    }
+
+    public static void markOpsChanged() {
+        SpongePermissionService.opsVersion = MemorySubjectData.nextVersion();
+    }
+
     static ServerOpList getOps() {
         return SpongeCommon.server().getPlayerList().getOps();
     }
@@ -123,8 +123,16 @@ public PermissionService service() {
     }
 
     @Override
-    public Tristate permissionValue(final String permission, final Cause cause) {
-        Tristate ret = super.permissionValue(permission, cause);
+    protected long dataVersion() {
+        // The op level lives in the server ops list, not in our data
+        return Math.max(Math.max(super.dataVersion(), SpongePermissionService.opsVersion()),
+            Math.max(SpongeBaseSubject.dataVersion(this.collection.defaults().subjectData()),
+                SpongeBaseSubject.dataVersion(this.collection.getService().defaults().subjectData())));
+    }
+
+    @Override
+    protected Tristate resolvePermissionValue(final String permission) {
+        Tristate ret = super.resolvePermissionValue(permission);
         if (ret == Tristate.UNDEFINED) {
             ret = this.dataPermissionValue(this.collection.defaults().subjectData(), permission);
         }
@@ -55,6 +55,7 @@
 import java.nio.file.WatchService;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -77,10 +78,13 @@ public final class SpongeUserManager implements UserManager {
     // This is the important set - this tells us if a User file actually exists,
     // it should mirror the filesystem.
     private final Set<UUID> knownUUIDs = new HashSet<>();
+    // Names of the known users, so name searches never need to touch the disk
+    private final UserNameIndex knownNames = new UserNameIndex();
     private final Cache<UUID, SpongeUserData> userCache = Caffeine.newBuilder()
             .expireAfterAccess(1, TimeUnit.HOURS)
             .build();
     private final Set<SpongeUserData> dirtyUsers = ConcurrentHashMap.newKeySet();
+    private final UserDataSaveQueue saveQueue = new UserDataSaveQueue(this::remarkDirty);
     private final Map<String, SpongeUserMutableWatchEvent> watcherUpdateMap = new HashMap<>();
 
     private final MinecraftServer server;
@@ -180,10 +184,12 @@ public CompletableFuture<Boolean> delete(final UUID uuid) {
             return CompletableFuture.completedFuture(false);
         }
         return CompletableFuture.supplyAsync(() -> {
+            this.saveQueue.cancel(uuid);
             final @Nullable Path dataFile = this.getPlayerDataFile(uuid);
             if (dataFile != null) {
                 try {
                     if (Files.deleteIfExists(dataFile)) {
+                        this.knownNames.remove(uuid);
                         final @Nullable SpongeUserData data = this.userCache.getIfPresent(uuid);
                         if (data != null) {
                             this.dirtyUsers.remove(data);
@@ -213,16 +219,8 @@ public boolean removeFromCache(final UUID uuid) {
     @Override
     public CompletableFuture<Boolean> forceSave(final UUID uuid) {
         final @Nullable SpongeUserData data = this.userCache.getIfPresent(uuid);
-        if (data != null && this.dirtyUsers.contains(data)) {
-            return CompletableFuture.supplyAsync(() -> {
-                try {
-                    data.save();
-                } catch (final IOException e) {
-                    throw new CompletionException(e);
-                }
-                return true;
-            });
-
+        if (data != null && this.dirtyUsers.remove(data)) {
+            return this.saveQueue.queue(data, data.snapshot()).thenApply(v -> true);
         }
         return CompletableFuture.completedFuture(false);
     }
@@ -239,10 +237,11 @@ public boolean exists(final UUID playerUuid) {
 
     @Override
     public Stream<GameProfile> streamOfMatches(final String lastKnownName) {
-        final String nameToCheck = Objects.requireNonNull(lastKnownName, "lastKnownName").toLowerCase(Locale.ROOT);
-        return ((Server) this.server).gameProfileManager().cache()
-                .streamOfMatches(nameToCheck)
-                .filter(gameProfile -> this.exists(gameProfile.uuid()));
+        this.pollFilesystemWatcher();
+        final GameProfileCache cache = ((Server) this.server).gameProfileManager().cache();
+        // Prefer the cached profile, it may carry properties
+        return this.knownNames.matches(Objects.requireNonNull(lastKnownName, "lastKnownName"))
+                .map(profile -> cache.findById(profile.uniqueId()).orElse(profile));
     }
 
     private UUID ensureNonEmptyUUID(final UUID uuid) {
@@ -259,12 +258,16 @@ public void handlePlayerLogin(final com.mojang.authlib.GameProfile mcProfile) th
         final @Nullable SpongeUserData currentUser = this.userCache.getIfPresent(mcProfile.getId());
         if (currentUser != null) {
             // If currentUser have this then we know that the user has changed.
-            if (this.dirtyUsers.contains(currentUser)) {
-                currentUser.save();
+            if (this.dirtyUsers.remove(currentUser)) {
+                this.saveQueue.queue(currentUser, currentUser.snapshot());
             }
             // The views will now point at the player.
             this.userCache.invalidate(currentUser.uniqueId());
         }
+        // Their data file is written once they are saved, if it isn't there yet
+        this.knownNames.put(mcProfile.getId(), mcProfile.getName());
+        // The player data is about to be read, it has to be up to date
+        this.saveQueue.flush(mcProfile.getId());
     }
 
     private void createUser(final com.mojang.authlib.GameProfile profile) throws IOException {
@@ -272,6 +275,13 @@ private void createUser(final com.mojang.authlib.GameProfile profile) throws IOE
         final @Nullable SpongeUserData user = SpongeUserData.create(profile);
         this.userCache.put(profile.getId(), user);
         this.knownUUIDs.add(profile.getId());
+        this.knownNames.put(profile.getId(), profile.getName() == null ? this.lastKnownName(profile.getId()) : profile.getName());
+    }
+
+    private void remarkDirty(final SpongeUserData user) {
+        if (user == this.userCache.getIfPresent(user.uniqueId())) {
+            this.dirtyUsers.add(user);
+        }
     }
 
     public void markDirty(final SpongeUserData user) {
@@ -331,6 +341,7 @@ void refreshFilesystemProfiles() {
             this.watchKey.reset();
         }
         this.knownUUIDs.clear();
+        this.knownNames.clear();
         this.userCache.invalidateAll();
 
         // Add all known profiles from the data files
@@ -353,6 +364,7 @@ void refreshFilesystemProfiles() {
             }
 
             this.knownUUIDs.add(uuid);
+            this.knownNames.put(uuid, this.lastKnownName(uuid));
         }
     }
 
@@ -393,8 +405,10 @@ private void pollFilesystemWatcher() {
                             // It will only be create or delete here.
                             if (kind == StandardWatchEventKinds.ENTRY_CREATE) {
                                 this.knownUUIDs.add(uuid);
+                                this.knownNames.put(uuid, this.lastKnownName(uuid));
                             } else {
                                 this.knownUUIDs.remove(uuid);
+                                this.knownNames.remove(uuid);
                                 // We don't do this, in case we were caught at a bad time.
                                 // Everything else should handle it for us, however.
                                 // this.userCache.invalidate(uuid);
@@ -408,6 +422,11 @@ private void pollFilesystemWatcher() {
         }
     }
 
+    private @Nullable String lastKnownName(final UUID uniqueId) {
+        final com.mojang.authlib.@Nullable GameProfile profile = this.server.getProfileCache().get(uniqueId);
+        return profile == null ? null : profile.getName();
+    }
+
     private @Nullable Path getPlayerDataFile(final UUID uniqueId) {
         // Note: Uses the overworld's player data
         final Path file = this.getSaveHandlerDirectory().resolve(uniqueId + ".dat");
@@ -428,18 +447,21 @@ private Path getSaveHandlerDirectory() {
     public void saveDirtyUsers() {
         // If they are online, Minecraft will do the save automatically.
         this.dirtyUsers.removeIf(SpongeUserData::isOnline);
-        for (final SpongeUserData user : new HashSet<>(this.dirtyUsers)) {
-            try {
-                user.save();
-            } catch (final IOException ignored) {
-                // There isn't much we can do here. The error has been logged, but
-                // the user is still available at this time so let's continue...
-            }
+        // Only the snapshots are taken here, compressing and writing them is left to the save queue.
+        // Failed writes are marked dirty again, to be retried on the next save.
+        for (final Iterator<SpongeUserData> iterator = this.dirtyUsers.iterator(); iterator.hasNext(); ) {
+            final SpongeUserData user = iterator.next();
+            iterator.remove();
+            this.saveQueue.queue(user, user.snapshot());
+        }
+        if (!this.server.isRunning()) {
+            // The saver thread does not outlive the server
+            this.saveQueue.flush();
         }
     }
 
-    public void unmarkDirty(final SpongeUserData user) {
-        this.dirtyUsers.remove(user);
+    public UserDataSaveQueue saveQueue() {
+        return this.saveQueue;
     }
 
     public @Nullable SpongeUserData userFromCache(final UUID uuid) {
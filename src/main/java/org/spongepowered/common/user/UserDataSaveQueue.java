@@ -0,0 +1,203 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.user;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.nbt.CompoundTag;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.spongepowered.common.entity.player.SpongeUserData;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Writes snapshots of offline user data on a dedicated thread. Queuing a
+ * user that is already waiting to be written replaces its snapshot, so a
+ * user is written at most once no matter how often it was changed in the
+ * mean time.
+ */
+@DefaultQualifier(NonNull.class)
+public final class UserDataSaveQueue {
+
+    private final Map<UUID, PendingSave> pending = new ConcurrentHashMap<>();
+    // Held while a save is taken from the queue and written, so a flush can
+    // rely on no older snapshot of the same user landing after it.
+    private final Object writeLock = new Object();
+    private final Consumer<SpongeUserData> failureHandler;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat("Sponge-User-Data-Saver")
+            .build());
+
+    private final AtomicLong saves = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong totalSaveNanos = new AtomicLong();
+    private volatile long lastSaveNanos;
+
+    UserDataSaveQueue(final Consumer<SpongeUserData> failureHandler) {
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Queues the snapshot of the given user to be written.
+     *
+     * @param user The user
+     * @param snapshot The snapshot, see {@link SpongeUserData#snapshot()}
+     * @return A future completing once this snapshot, or a later one of the
+     *     same user, has been written
+     */
+    public CompletableFuture<Void> queue(final SpongeUserData user, final CompoundTag snapshot) {
+        final PendingSave save = new PendingSave(user, snapshot);
+        final @Nullable PendingSave replaced = this.pending.put(user.uniqueId(), save);
+        if (replaced == null) {
+            this.executor.execute(() -> this.write(user.uniqueId()));
+        } else {
+            // The replaced snapshot is never written, it is done once this one is
+            save.future.whenComplete((v, t) -> {
+                if (t == null) {
+                    replaced.future.complete(null);
+                } else {
+                    replaced.future.completeExceptionally(t);
+                }
+            });
+        }
+        return save.future;
+    }
+
+    /**
+     * Writes any queued snapshot of the given user on the calling thread,
+     * waiting for a write already in progress.
+     *
+     * @param uniqueId The unique id of the user
+     */
+    public void flush(final UUID uniqueId) {
+        this.write(uniqueId);
+    }
+
+    /**
+     * Writes every queued snapshot on the calling thread.
+     */
+    public void flush() {
+        for (final UUID uniqueId : this.pending.keySet()) {
+            this.write(uniqueId);
+        }
+    }
+
+    /**
+     * Drops any queued snapshot of the given user, for when its data is
+     * deleted.
+     *
+     * @param uniqueId The unique id of the user
+     */
+    public void cancel(final UUID uniqueId) {
+        synchronized (this.writeLock) {
+            final @Nullable PendingSave save = this.pending.remove(uniqueId);
+            if (save != null) {
+                save.future.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of users waiting to be written.
+     *
+     * @return The queue depth
+     */
+    public int depth() {
+        return this.pending.size();
+    }
+
+    public long saves() {
+        return this.saves.get();
+    }
+
+    public long failures() {
+        return this.failures.get();
+    }
+
+    /**
+     * Gets how long the most recent write took, compression included.
+     *
+     * @return The duration, in nanoseconds
+     */
+    public long lastSaveNanos() {
+        return this.lastSaveNanos;
+    }
+
+    /**
+     * Gets how long a write took on average, compression included.
+     *
+     * @return The average duration, in nanoseconds
+     */
+    public long averageSaveNanos() {
+        final long saves = this.saves.get();
+        return saves == 0 ? 0 : this.totalSaveNanos.get() / saves;
+    }
+
+    private void write(final UUID uniqueId) {
+        synchronized (this.writeLock) {
+            final @Nullable PendingSave save = this.pending.remove(uniqueId);
+            if (save == null) {
+                return;
+            }
+            final long start = System.nanoTime();
+            try {
+                SpongeUserData.write(uniqueId, save.snapshot);
+            } catch (final IOException e) {
+                // Already logged, keep the user dirty so the next save retries it
+                this.failures.incrementAndGet();
+                this.failureHandler.accept(save.user);
+                save.future.completeExceptionally(e);
+                return;
+            }
+            final long nanos = System.nanoTime() - start;
+            this.lastSaveNanos = nanos;
+            this.totalSaveNanos.addAndGet(nanos);
+            this.saves.incrementAndGet();
+            save.future.complete(null);
+        }
+    }
+
+    private static final class PendingSave {
+
+        final SpongeUserData user;
+        final CompoundTag snapshot;
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        PendingSave(final SpongeUserData user, final CompoundTag snapshot) {
+            this.user = user;
+            this.snapshot = snapshot;
+        }
+    }
+}
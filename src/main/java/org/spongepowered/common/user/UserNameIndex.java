@@ -0,0 +1,103 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.user;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.spongepowered.api.profile.GameProfile;
+import org.spongepowered.common.profile.SpongeGameProfile;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * A sorted index of the last known names of users, answering name prefix
+ * queries without going through every known profile.
+ *
+ * <p>Entries are keyed by the lower cased name followed by the unique id,
+ * names are not unique over time.</p>
+ */
+@DefaultQualifier(NonNull.class)
+final class UserNameIndex {
+
+    private static final char SEPARATOR = '\u0000';
+
+    private final NavigableMap<String, GameProfile> profiles = new ConcurrentSkipListMap<>();
+    private final Map<UUID, String> keys = new ConcurrentHashMap<>();
+
+    /**
+     * Sets the name the given user is found by, replacing any previous one.
+     * Users without a known name are removed, they cannot be matched.
+     *
+     * @param uniqueId The unique id of the user
+     * @param name The name of the user
+     */
+    synchronized void put(final UUID uniqueId, final @Nullable String name) {
+        if (name == null) {
+            this.remove(uniqueId);
+            return;
+        }
+        final String key = name.toLowerCase(Locale.ROOT) + UserNameIndex.SEPARATOR + uniqueId;
+        final @Nullable String previous = this.keys.put(uniqueId, key);
+        if (previous != null && !previous.equals(key)) {
+            this.profiles.remove(previous);
+        }
+        this.profiles.put(key, new SpongeGameProfile(uniqueId, name));
+    }
+
+    synchronized void remove(final UUID uniqueId) {
+        final @Nullable String key = this.keys.remove(uniqueId);
+        if (key != null) {
+            this.profiles.remove(key);
+        }
+    }
+
+    synchronized void clear() {
+        this.profiles.clear();
+        this.keys.clear();
+    }
+
+    int size() {
+        return this.keys.size();
+    }
+
+    /**
+     * Gets the users whose name starts with the given prefix, ignoring case,
+     * ordered by name.
+     *
+     * @param prefix The prefix
+     * @return The matching profiles
+     */
+    Stream<GameProfile> matches(final String prefix) {
+        final String from = prefix.toLowerCase(Locale.ROOT);
+        return this.profiles.subMap(from, true, from + Character.MAX_VALUE, false).values().stream();
+    }
+}
@@ -24,7 +24,9 @@
  */
 package org.spongepowered.common.util;
 
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public class FutureUtil {
 
@@ -34,6 +36,28 @@ public static <T> CompletableFuture<T> completedWithException(Throwable throwabl
         return future;
     }
 
+    /**
+     * Runs the callable on the given executor. Unlike
+     * {@link CompletableFuture#supplyAsync}, checked exceptions are allowed
+     * and complete the future as thrown, without being wrapped.
+     *
+     * @param callable The callable to run
+     * @param executor The executor to run it on
+     * @param <T> The type of result
+     * @return The future result
+     */
+    public static <T> CompletableFuture<T> supplyAsync(final Callable<T> callable, final Executor executor) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                future.complete(callable.call());
+            } catch (final Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
     private FutureUtil() {
     }
 }
@@ -34,33 +34,63 @@
 import org.spongepowered.api.Server;
 import org.spongepowered.common.SpongeCommon;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.Collections;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Keeps the last known username of every unique id seen by the server.
+ *
+ * <p>The cache is stored as an append-only binary log. The file starts
+ * with {@link #MAGIC}, followed by records made of a type byte, the unique
+ * id as two longs and, for {@link #PUT} records, the UTF-8 encoded name
+ * prefixed with its unsigned short length. Changes are buffered and
+ * appended on {@link #save()}, and the log is rewritten with one record
+ * per entry once it holds more than twice as many records as entries.</p>
+ *
+ * <p>The legacy {@code usernamecache.json} file is imported on first load
+ * and can still be read and written with {@link #importJson(Path)} and
+ * {@link #exportJson(Path)}.</p>
+ */
 public final class UsernameCache {
 
     private static final Charset CHARSET = Charsets.UTF_8;
+    private static final int MAGIC = 0x53554331; // SUC1
+    private static final byte PUT = 0;
+    private static final byte REMOVE = 1;
+    private static final int RECORD_HEADER_SIZE = 1 + Long.BYTES * 2;
+    private static final int MAX_NAME_SIZE = 0xFFFF;
+    private static final int MIN_COMPACTION_RECORDS = 1024;
 
     private final Map<UUID, String> usernameByUniqueId;
     private final Gson gson;
     private final Path cacheFile;
-    private boolean dirty = false;
+    private final Path legacyCacheFile;
+    private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+    private int records;
+    private boolean compact;
 
     public UsernameCache(final Server server) {
         this.usernameByUniqueId = new ConcurrentHashMap<>();
         this.gson = new GsonBuilder().setPrettyPrinting().create();
-        this.cacheFile = server.game().gameDirectory().resolve("usernamecache.json");
+        this.cacheFile = server.game().gameDirectory().resolve("usernamecache.bin");
+        this.legacyCacheFile = server.game().gameDirectory().resolve("usernamecache.json");
     }
 
-    public void setUsername(final UUID uniqueId, final String username) {
+    public synchronized void setUsername(final UUID uniqueId, final String username) {
         Preconditions.checkNotNull(uniqueId);
         Preconditions.checkNotNull(username);
 
@@ -68,15 +98,16 @@ public void setUsername(final UUID uniqueId, final String username) {
             return;
         }
 
+        final byte[] record = UsernameCache.encode(UsernameCache.PUT, uniqueId, username);
         this.usernameByUniqueId.put(uniqueId, username);
-        this.dirty = true;
+        this.append(record);
     }
 
-    public boolean removeUsername(final UUID uniqueId) {
+    public synchronized boolean removeUsername(final UUID uniqueId) {
         Preconditions.checkNotNull(uniqueId);
 
         if (this.usernameByUniqueId.remove(uniqueId) != null) {
-            this.dirty = true;
+            this.append(UsernameCache.encode(UsernameCache.REMOVE, uniqueId, null));
             return true;
         }
 
@@ -111,45 +142,180 @@ public Map<UUID, String> getAll() {
         return Collections.unmodifiableMap(this.usernameByUniqueId);
     }
 
-    public void load() {
+    public synchronized void load() {
         this.usernameByUniqueId.clear();
+        this.pending.reset();
+        this.records = 0;
+        this.compact = false;
 
-        if (Files.notExists(this.cacheFile)) {
+        if (Files.exists(this.cacheFile)) {
+            try {
+                this.readLog();
+            } catch (final IOException e) {
+                SpongeCommon.logger().error("Failed to read username cache file from disk, deleting file", e);
+                this.usernameByUniqueId.clear();
+                this.records = 0;
+                this.deleteFile(this.cacheFile);
+            }
             return;
         }
 
-        try (final BufferedReader reader = Files.newBufferedReader(this.cacheFile, UsernameCache.CHARSET)) {
-            final Type type = new TypeToken<Map<UUID, String>>() { private static final long serialVersionUID = 1L; }.getType();
-            this.usernameByUniqueId.putAll(this.gson.fromJson(reader, type));
+        if (Files.notExists(this.legacyCacheFile)) {
+            return;
+        }
+
+        try {
+            this.usernameByUniqueId.putAll(this.readJson(this.legacyCacheFile));
+            // Write the imported entries out in the binary format on the next save
+            this.compact = true;
         } catch (final JsonSyntaxException e) {
             SpongeCommon.logger().error("Could not parse username cache file as valid json, deleting file", e);
-            this.deleteCacheFile();
+            this.deleteFile(this.legacyCacheFile);
         } catch (final IOException e) {
             SpongeCommon.logger().error("Failed to read username cache file from disk, deleting file", e);
-            this.deleteCacheFile();
+            this.deleteFile(this.legacyCacheFile);
         }
     }
 
-    private void deleteCacheFile() {
-        try {
-            Files.deleteIfExists(this.cacheFile);
-        } catch (IOException e) {
-            SpongeCommon.logger().error("Failed to delete username cache file from disk!", e);
+    /**
+     * Merges the entries of a json username cache, in the format used by
+     * earlier versions, into this cache.
+     *
+     * @param file The json file
+     * @throws IOException If the file could not be read
+     * @throws JsonSyntaxException If the file is not valid json
+     */
+    public synchronized void importJson(final Path file) throws IOException {
+        for (final Map.Entry<UUID, String> entry : this.readJson(file).entrySet()) {
+            this.setUsername(entry.getKey(), entry.getValue());
         }
     }
 
-    public void save() {
-        if (!this.dirty) {
+    /**
+     * Writes all entries of this cache to a json file, in the format used
+     * by earlier versions.
+     *
+     * @param file The json file
+     * @throws IOException If the file could not be written
+     */
+    public void exportJson(final Path file) throws IOException {
+        final String serialized = this.gson.toJson(this.usernameByUniqueId);
+        Files.write(file, serialized.getBytes(UsernameCache.CHARSET));
+    }
+
+    public synchronized void save() {
+        if (!this.compact && this.pending.size() == 0) {
             return;
         }
 
         try {
-            // Make sure we don't save when another thread is still saving
-            final String serialized = this.gson.toJson(this.usernameByUniqueId);
-            Files.write(this.cacheFile, serialized.getBytes(UsernameCache.CHARSET));
-            this.dirty = false;
+            if (this.compact || Files.notExists(this.cacheFile)
+                || (this.records > UsernameCache.MIN_COMPACTION_RECORDS && this.records > this.usernameByUniqueId.size() * 2)) {
+                this.writeCompacted();
+            } else {
+                try (final OutputStream out = Files.newOutputStream(this.cacheFile, StandardOpenOption.APPEND)) {
+                    this.pending.writeTo(out);
+                }
+            }
+            this.pending.reset();
+            this.compact = false;
         } catch (final IOException e) {
             SpongeCommon.logger().error("Failed to save username cache to file!", e);
         }
     }
+
+    private void append(final byte[] record) {
+        this.pending.write(record, 0, record.length);
+        this.records++;
+    }
+
+    private void readLog() throws IOException {
+        final long size = Files.size(this.cacheFile);
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Username cache file is too large (" + size + " bytes)");
+        }
+        // Read into the heap rather than mapping, a mapping would keep the file open until it is collected and block replacing it on Windows
+        final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(this.cacheFile));
+        if (buffer.remaining() < Integer.BYTES || buffer.getInt() != UsernameCache.MAGIC) {
+            throw new IOException("Username cache file has an unknown format");
+        }
+
+        final byte[] name = new byte[UsernameCache.MAX_NAME_SIZE];
+        while (buffer.hasRemaining()) {
+            final int start = buffer.position();
+            if (buffer.remaining() < UsernameCache.RECORD_HEADER_SIZE) {
+                this.discardTail(start);
+                return;
+            }
+            final byte type = buffer.get();
+            final UUID uniqueId = new UUID(buffer.getLong(), buffer.getLong());
+            if (type == UsernameCache.PUT) {
+                if (buffer.remaining() < Short.BYTES) {
+                    this.discardTail(start);
+                    return;
+                }
+                final int length = buffer.getShort() & 0xFFFF;
+                if (buffer.remaining() < length) {
+                    this.discardTail(start);
+                    return;
+                }
+                buffer.get(name, 0, length);
+                this.usernameByUniqueId.put(uniqueId, new String(name, 0, length, UsernameCache.CHARSET));
+            } else if (type == UsernameCache.REMOVE) {
+                this.usernameByUniqueId.remove(uniqueId);
+            } else {
+                this.discardTail(start);
+                return;
+            }
+            this.records++;
+        }
+    }
+
+    private void discardTail(final int offset) {
+        // A crash while appending leaves a partial record behind, keep
+        // everything before it and rewrite the log on the next save.
+        SpongeCommon.logger().warn("Username cache file is truncated or corrupt at offset {}, discarding the remainder", offset);
+        this.compact = true;
+    }
+
+    private void writeCompacted() throws IOException {
+        final Path tempFile = this.cacheFile.resolveSibling(this.cacheFile.getFileName() + ".tmp");
+        try (final OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+            out.write(ByteBuffer.allocate(Integer.BYTES).putInt(UsernameCache.MAGIC).array());
+            for (final Map.Entry<UUID, String> entry : this.usernameByUniqueId.entrySet()) {
+                out.write(UsernameCache.encode(UsernameCache.PUT, entry.getKey(), entry.getValue()));
+            }
+        }
+        Files.move(tempFile, this.cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        this.records = this.usernameByUniqueId.size();
+    }
+
+    private Map<UUID, String> readJson(final Path file) throws IOException {
+        try (final BufferedReader reader = Files.newBufferedReader(file, UsernameCache.CHARSET)) {
+            final Type type = new TypeToken<Map<UUID, String>>() { private static final long serialVersionUID = 1L; }.getType();
+            final @Nullable Map<UUID, String> read = this.gson.fromJson(reader, type);
+            return read == null ? Collections.emptyMap() : read;
+        }
+    }
+
+    private void deleteFile(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            SpongeCommon.logger().error("Failed to delete username cache file from disk!", e);
+        }
+    }
+
+    private static byte[] encode(final byte type, final UUID uniqueId, final @Nullable String username) {
+        final byte @Nullable [] name = username == null ? null : username.getBytes(UsernameCache.CHARSET);
+        if (name != null) {
+            Preconditions.checkArgument(name.length <= UsernameCache.MAX_NAME_SIZE, "Username is too long");
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(UsernameCache.RECORD_HEADER_SIZE + (name == null ? 0 : Short.BYTES + name.length));
+        buffer.put(type).putLong(uniqueId.getMostSignificantBits()).putLong(uniqueId.getLeastSignificantBits());
+        if (name != null) {
+            buffer.putShort((short) name.length).put(name);
+        }
+        return buffer.array();
+    }
 }
@@ -55,8 +55,6 @@
 import org.spongepowered.api.world.schematic.PaletteTypes;
 import org.spongepowered.api.world.schematic.Schematic;
 import org.spongepowered.api.world.volume.archetype.entity.EntityArchetypeEntry;
-import org.spongepowered.api.world.volume.biome.BiomeVolume;
-import org.spongepowered.api.world.volume.block.BlockVolume;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.block.BlockStateSerializerDeserializer;
 import org.spongepowered.common.block.entity.SpongeBlockEntityArchetypeBuilder;
@@ -67,6 +65,9 @@
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 import org.spongepowered.common.world.volume.buffer.archetype.SpongeArchetypeVolume;
+import org.spongepowered.common.world.volume.buffer.biome.ByteArrayMutableBiomeBuffer;
+import org.spongepowered.common.world.volume.buffer.block.ArrayMutableBlockBuffer;
+import org.spongepowered.common.world.volume.buffer.block.BlockBackingData;
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
 
@@ -144,33 +145,7 @@ public Schematic translate(final DataView unprocessed) throws InvalidDataExcepti
 
         final SpongeSchematicBuilder builder = new SpongeSchematicBuilder();
         final Optional<DataView> metadataView = updatedView.getView(Constants.Sponge.Schematic.METADATA);
-        metadataView.ifPresent(metadata -> {
-            metadata.getView(DataQuery.of(".")).ifPresent(data -> {
-                for (final DataQuery key : data.keys(false)) {
-                    if (!metadata.contains(key)) {
-                        metadata.set(key, data.get(key).get());
-                    }
-                }
-            });
-            final String schematicName = metadata.getString(Constants.Sponge.Schematic.NAME).orElse("unknown");
-            metadata.getStringList(Constants.Sponge.Schematic.REQUIRED_MODS).ifPresent(mods -> {
-                for (final String modId : mods) {
-                    if (!Sponge.pluginManager().plugin(modId).isPresent()) {
-                        if (SchematicTranslator.MISSING_MOD_IDS.add(modId)) {
-                            SpongeCommon.logger().warn(
-                                "When attempting to load the Schematic: {} there is a missing modid {} some blocks/tiles/entities may not load correctly.",
-                                schematicName, modId
-                            );
-                        }
-                    }
-                }
-            });
-            final DataContainer meta = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
-            for (final DataQuery key : metadata.keys(false)) {
-                meta.set(key, metadata.get(key).get());
-            }
-            builder.metadata(meta);
-        });
+        metadataView.ifPresent(metadata -> builder.metadata(SchematicTranslator.deserializeMetadata(metadata)));
 
         final int width = updatedView.getShort(Constants.Sponge.Schematic.WIDTH)
             .orElseThrow(() -> new InvalidDataException("Missing value for: " + Constants.Sponge.Schematic.WIDTH));
@@ -193,23 +168,26 @@ public Schematic translate(final DataView unprocessed) throws InvalidDataExcepti
         }
 
         final Vector3i offset = new Vector3i(offsetArray[0], offsetArray[1], offsetArray[2]);
-        final SpongeArchetypeVolume archetypeVolume = new SpongeArchetypeVolume(
-            offset, new Vector3i(width, height, length),
-            Sponge.server()
-        );
-
-        updatedView.getView(Constants.Sponge.Schematic.BLOCK_CONTAINER)
-            .ifPresent(
-                blocks -> SchematicTranslator.deserializeBlockContainer(blocks, archetypeVolume, width, length,
-                    offset, needsFixers
-                ));
-
-        updatedView.getView(Constants.Sponge.Schematic.BIOME_CONTAINER)
-            .ifPresent(
-                biomes -> SchematicTranslator.deserializeBiomeContainer(biomes, archetypeVolume, width, length,
-                    offset
-                ));
+        final Vector3i size = new Vector3i(width, height, length);
+        final Optional<DataView> blockContainer = updatedView.getView(Constants.Sponge.Schematic.BLOCK_CONTAINER);
+        final ArrayMutableBlockBuffer blocks = blockContainer
+            .map(view -> SchematicTranslator.deserializeBlockContainer(view, offset, size))
+            .orElseGet(() -> new ArrayMutableBlockBuffer(offset, size));
+        final ByteArrayMutableBiomeBuffer biomes = updatedView.getView(Constants.Sponge.Schematic.BIOME_CONTAINER)
+            .map(view -> SchematicTranslator.deserializeBiomeContainer(view, offset, size))
+            .orElseGet(() -> new ByteArrayMutableBiomeBuffer(
+                PaletteTypes.BIOME_PALETTE.get().create(Sponge.server(), RegistryTypes.BIOME),
+                offset,
+                size
+            ));
+        final SpongeArchetypeVolume archetypeVolume = new SpongeArchetypeVolume(offset, size, blocks, biomes);
 
+        blockContainer
+            .flatMap(view -> view.getViewList(Constants.Sponge.Schematic.BLOCKENTITY_CONTAINER))
+            .ifPresent(tileData ->
+                tileData.forEach(
+                    SchematicTranslator.deserializeBlockEntities(offset, archetypeVolume, needsFixers))
+            );
 
 
         updatedView.getViewList(Constants.Sponge.Schematic.ENTITIES)
@@ -228,6 +206,34 @@ offset, new Vector3i(width, height, length),
         return builder.build();
     }
 
+    private static DataContainer deserializeMetadata(final DataView metadata) {
+        metadata.getView(DataQuery.of(".")).ifPresent(data -> {
+            for (final DataQuery key : data.keys(false)) {
+                if (!metadata.contains(key)) {
+                    metadata.set(key, data.get(key).get());
+                }
+            }
+        });
+        final String schematicName = metadata.getString(Constants.Sponge.Schematic.NAME).orElse("unknown");
+        metadata.getStringList(Constants.Sponge.Schematic.REQUIRED_MODS).ifPresent(mods -> {
+            for (final String modId : mods) {
+                if (!Sponge.pluginManager().plugin(modId).isPresent()) {
+                    if (SchematicTranslator.MISSING_MOD_IDS.add(modId)) {
+                        SpongeCommon.logger().warn(
+                            "When attempting to load the Schematic: {} there is a missing modid {} some blocks/tiles/entities may not load correctly.",
+                            schematicName, modId
+                        );
+                    }
+                }
+            }
+        });
+        final DataContainer meta = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+        for (final DataQuery key : metadata.keys(false)) {
+            meta.set(key, metadata.get(key).get());
+        }
+        return meta;
+    }
+
     private static Function<DataView, Optional<EntityArchetypeEntry>> deserializeEntityArchetype() {
         return view -> {
             final String typeId = view.getString(Constants.Sponge.Schematic.ENTITIES_ID).get();
@@ -276,21 +282,26 @@ private static Consumer<DataView> deserializeBlockEntities(
         };
     }
 
-    private static void deserializeBlockContainer(
+    private static ArrayMutableBlockBuffer deserializeBlockContainer(
         final DataView view,
-        final SpongeArchetypeVolume archetypeVolume,
-        final int width,
-        final int length,
         final Vector3i offset,
-        final boolean needsFixers
+        final Vector3i size
     ) {
-        final MutableBimapPalette<BlockState, BlockType> palette;
-        final DataView paletteMap = view.getView(Constants.Sponge.Schematic.BLOCK_PALETTE)
-            .orElseThrow(() -> new InvalidDataException("Missing BlockPalette as required by Schematic Specification"));
+        final MutableBimapPalette<BlockState, BlockType> palette = SchematicTranslator.deserializeBlockPalette(
+            view.getView(Constants.Sponge.Schematic.BLOCK_PALETTE)
+                .orElseThrow(() -> new InvalidDataException("Missing BlockPalette as required by Schematic Specification")));
+
+        final byte[] blockData = (byte[]) view.get(Constants.Sponge.Schematic.BLOCK_DATA)
+            .orElseThrow(() -> new InvalidDataException("Missing BlockData for Schematic"));
+        final BlockBackingData backingData = SchematicTranslator.readByteArrayData(size, palette, blockData, "Block");
+        return new ArrayMutableBlockBuffer(palette, backingData, offset, size);
+    }
+
+    private static MutableBimapPalette<BlockState, BlockType> deserializeBlockPalette(final DataView paletteMap) {
         final Set<DataQuery> paletteKeys = paletteMap.keys(false);
         // If we had a default palette_max we don't want to allocate all
         // that space for nothing so we use a sensible default instead
-        palette = new MutableBimapPalette<>(
+        final MutableBimapPalette<BlockState, BlockType> palette = new MutableBimapPalette<>(
             PaletteTypes.BLOCK_STATE_PALETTE.get(),
             Sponge.game().registry(RegistryTypes.BLOCK_TYPE),
             RegistryTypes.BLOCK_TYPE,
@@ -303,34 +314,28 @@ private static void deserializeBlockContainer(
                 .orElseThrow(() -> new IllegalStateException("Somehow got a missing biome in the palette map for schematic"))
             );
         }
-
-        final byte[] blockData = (byte[]) view.get(Constants.Sponge.Schematic.BLOCK_DATA)
-            .orElseThrow(() -> new InvalidDataException("Missing BlockData for Schematic"));
-        SchematicTranslator.readByteArrayData(
-            width, (width * length), offset, palette, blockData, archetypeVolume,
-            BlockVolume.Modifiable::setBlock
-        );
-        view.getViewList(Constants.Sponge.Schematic.BLOCKENTITY_CONTAINER)
-            .ifPresent(tileData ->
-                tileData.forEach(
-                    SchematicTranslator.deserializeBlockEntities(offset, archetypeVolume, needsFixers))
-            );
+        return palette;
     }
 
-    private static void deserializeBiomeContainer(
+    private static ByteArrayMutableBiomeBuffer deserializeBiomeContainer(
         final DataView view,
-        final SpongeArchetypeVolume archetypeVolume,
-        final int width,
-        final int length,
-        final Vector3i offset
+        final Vector3i offset,
+        final Vector3i size
     ) {
-        final MutableBimapPalette<Biome, Biome> biomePalette;
-        final DataView biomeMap = view.getView(Constants.Sponge.Schematic.BIOME_PALETTE)
-            .orElseThrow(() -> new InvalidDataException("Missing BiomePalette as required by the schematic spec"));
+        final MutableBimapPalette<Biome, Biome> biomePalette = SchematicTranslator.deserializeBiomePalette(
+            view.getView(Constants.Sponge.Schematic.BIOME_PALETTE)
+                .orElseThrow(() -> new InvalidDataException("Missing BiomePalette as required by the schematic spec")));
+        final byte[] biomeData = (byte[]) view.get(Constants.Sponge.Schematic.BIOME_DATA)
+            .orElseThrow(() -> new InvalidDataException("Missing BlockData for Schematic"));
+        // Biome ids are packed like block ids, so palettes past 256 biomes are no longer truncated
+        final BlockBackingData backingData = SchematicTranslator.readByteArrayData(size, biomePalette, biomeData, "Biome");
+        return new ByteArrayMutableBiomeBuffer(biomePalette, backingData, offset, size);
+    }
 
+    private static MutableBimapPalette<Biome, Biome> deserializeBiomePalette(final DataView biomeMap) {
         final Set<DataQuery> biomeKeys = biomeMap.keys(false);
         final Registry<Biome> biomeRegistry = VolumeStreamUtils.nativeToSpongeRegistry(BuiltinRegistries.BIOME);
-        biomePalette = new MutableBimapPalette<>(
+        final MutableBimapPalette<Biome, Biome> biomePalette = new MutableBimapPalette<>(
             PaletteTypes.BIOME_PALETTE.get(),
             biomeRegistry,
             RegistryTypes.BIOME,
@@ -342,57 +347,65 @@ private static void deserializeBiomeContainer(
             final Biome biome = biomeRegistry.findValue(key).get();
             biomePalette.assign(biome, biomeMap.getInt(biomeKey).get());
         }
-        final byte[] biomeData = (byte[]) view.get(Constants.Sponge.Schematic.BIOME_DATA)
-            .orElseThrow(() -> new InvalidDataException("Missing BlockData for Schematic"));
-        SchematicTranslator.readByteArrayData(
-            width, (width * length), offset, biomePalette, biomeData, archetypeVolume,
-            BiomeVolume.Modifiable::setBiome
-        );
+        return biomePalette;
     }
 
-
-    static interface PostSetter<V, T> {
-
-        void apply(V volume, int x, int y, int z, T type);
-    }
-
-    private static <Buffer, Type, ParentType> void readByteArrayData(
-        final int width,
-        final int i1,
-        final Vector3i offset,
-        final Palette<Type, ParentType> palette,
+    /**
+     * Decodes the varint id array straight into backing data laid out
+     * in the x, z, y order of the volume buffers, without going through the
+     * per-voxel setters of the volume.
+     */
+    private static BlockBackingData readByteArrayData(
+        final Vector3i size,
+        final Palette<?, ?> palette,
         final byte[] data,
-        final Buffer buffer,
-        final PostSetter<Buffer, Type> setter
+        final String kind
     ) {
-        int index = 0;
-        int i = 0;
+        final int width = size.x();
+        final int height = size.y();
+        final int length = size.z();
+        final int volume = width * height * length;
+        final int highestId = palette.highestId();
+        // Id zero is whatever the palette says, so the data is never assumed to be mostly zero
+        final BlockBackingData backingData = BlockBackingData.Factory.forBuffer(volume, false).create(volume, highestId);
+        final int yzSlice = height * length;
         int value = 0;
-        int varint_length = 0;
-        while (i < data.length) {
-            value = 0;
-            varint_length = 0;
-
-            while (true) {
-                value |= (data[i] & 127) << (varint_length++ * 7);
-                if (varint_length > 5) {
-                    throw new RuntimeException("VarInt too big (probably corrupted data)");
+        int shift = 0;
+        int count = 0;
+        int x = 0;
+        int y = 0;
+        int z = 0;
+        for (final byte b : data) {
+            value |= (b & 127) << shift;
+            if ((b & 128) != 0) {
+                shift += 7;
+                if (shift >= 35) {
+                    throw new InvalidDataException("VarInt too big (probably corrupted data)");
                 }
-                if ((data[i] & 128) != 128) {
-                    i++;
-                    break;
-                }
-                i++;
+                continue;
+            }
+            if (count++ == volume) {
+                throw new InvalidDataException("Schematic data has more entries than the schematic volume of " + volume);
+            }
+            if (value < 0 || value > highestId) {
+                throw new InvalidDataException(kind + " id " + value + " is not present in the schematic palette");
             }
             // index = (y * length + z) * width + x
-            final int y = index / i1;
-            final int z = (index % i1) / width;
-            final int x = (index % i1) % width;
-            final Type state = palette.get(value, Sponge.game()).get();
-            setter.apply(buffer, x + offset.x(), y + offset.y(), z + offset.z(), state);
-
-            index++;
+            backingData.set(x * yzSlice + z * height + y, value);
+            value = 0;
+            shift = 0;
+            if (++x == width) {
+                x = 0;
+                if (++z == length) {
+                    z = 0;
+                    y++;
+                }
+            }
         }
+        if (shift != 0 || count != volume) {
+            throw new InvalidDataException(String.format("Schematic data has %d entries, expected %d", count, volume));
+        }
+        return backingData;
     }
 
     @Override
@@ -462,22 +475,9 @@ public DataView addTo(final Schematic schematic, final DataView data) {
                 requiredMods
             );
 
-            final List<DataView> blockEntities = schematic.blockEntityArchetypes().entrySet().stream().map(entry -> {
-                final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
-                final Vector3i pos = entry.getKey();
-                final BlockEntityArchetype archetype = entry.getValue();
-                final DataContainer entityData = archetype.blockEntityData();
-                final int[] apos = new int[]{pos.x() - xMin, pos.y() - yMin, pos.z() - zMin};
-                container.set(Constants.Sponge.Schematic.BLOCKENTITY_POS, apos);
-                container.set(Constants.Sponge.Schematic.BLOCKENTITY_DATA, entityData);
-                final ResourceKey key = archetype.blockEntityType().key(RegistryTypes.BLOCK_ENTITY_TYPE);
-                container.set(Constants.Sponge.Schematic.ENTITIES_ID, key.asString());
-                final String namespace = key.namespace();
-                if (!ResourceKey.MINECRAFT_NAMESPACE.equals(namespace)) {
-                    requiredMods.add(namespace);
-                }
-                return container;
-            }).collect(Collectors.toList());
+            final List<DataView> blockEntities = schematic.blockEntityArchetypes().entrySet().stream()
+                .map(entry -> SchematicTranslator.serializeBlockEntity(entry.getKey(), entry.getValue(), schematic.min(), requiredMods))
+                .collect(Collectors.toList());
 
             blockData.set(Constants.Sponge.Schematic.BLOCKENTITY_CONTAINER, blockEntities);
 
@@ -515,23 +515,9 @@ public DataView addTo(final Schematic schematic, final DataView data) {
             );
         }
 
-        final List<DataView> entities = schematic.entityArchetypesByPosition().stream().map(entry -> {
-            final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
-
-            final List<Double> entityPosition = new ArrayList<>();
-            entityPosition.add(entry.position().x());
-            entityPosition.add(entry.position().y());
-            entityPosition.add(entry.position().z());
-            container.set(Constants.Sponge.Schematic.ENTITIES_POS, entityPosition);
-            final ResourceKey key = entry.archetype().type().key(RegistryTypes.ENTITY_TYPE);
-            if (!ResourceKey.MINECRAFT_NAMESPACE.equals(key.namespace())) {
-                requiredMods.add(key.namespace());
-            }
-            container.set(Constants.Sponge.Schematic.ENTITIES_ID, key.toString());
-            final DataContainer entityData = entry.archetype().entityData();
-            container.set(Constants.Sponge.Schematic.BLOCKENTITY_DATA, entityData);
-            return container;
-        }).collect(Collectors.toList());
+        final List<DataView> entities = schematic.entityArchetypesByPosition().stream()
+            .map(entry -> SchematicTranslator.serializeEntity(entry, requiredMods))
+            .collect(Collectors.toList());
 
         data.set(Constants.Sponge.Schematic.ENTITIES, entities);
 
@@ -542,6 +528,41 @@ public DataView addTo(final Schematic schematic, final DataView data) {
         return data;
     }
 
+    private static DataContainer serializeBlockEntity(final Vector3i pos, final BlockEntityArchetype archetype, final Vector3i min,
+        final Set<String> requiredMods
+    ) {
+        final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+        final DataContainer entityData = archetype.blockEntityData();
+        final int[] apos = new int[]{pos.x() - min.x(), pos.y() - min.y(), pos.z() - min.z()};
+        container.set(Constants.Sponge.Schematic.BLOCKENTITY_POS, apos);
+        container.set(Constants.Sponge.Schematic.BLOCKENTITY_DATA, entityData);
+        final ResourceKey key = archetype.blockEntityType().key(RegistryTypes.BLOCK_ENTITY_TYPE);
+        container.set(Constants.Sponge.Schematic.ENTITIES_ID, key.asString());
+        final String namespace = key.namespace();
+        if (!ResourceKey.MINECRAFT_NAMESPACE.equals(namespace)) {
+            requiredMods.add(namespace);
+        }
+        return container;
+    }
+
+    private static DataContainer serializeEntity(final EntityArchetypeEntry entry, final Set<String> requiredMods) {
+        final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+
+        final List<Double> entityPosition = new ArrayList<>();
+        entityPosition.add(entry.position().x());
+        entityPosition.add(entry.position().y());
+        entityPosition.add(entry.position().z());
+        container.set(Constants.Sponge.Schematic.ENTITIES_POS, entityPosition);
+        final ResourceKey key = entry.archetype().type().key(RegistryTypes.ENTITY_TYPE);
+        if (!ResourceKey.MINECRAFT_NAMESPACE.equals(key.namespace())) {
+            requiredMods.add(key.namespace());
+        }
+        container.set(Constants.Sponge.Schematic.ENTITIES_ID, key.toString());
+        final DataContainer entityData = entry.archetype().entityData();
+        container.set(Constants.Sponge.Schematic.BLOCKENTITY_DATA, entityData);
+        return container;
+    }
+
     private static <T, P> void writePaletteToView(
         final DataView view,
         final Palette.Mutable<T, P> palette,
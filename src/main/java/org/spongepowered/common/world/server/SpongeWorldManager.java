@@ -28,6 +28,7 @@
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import com.mojang.datafixers.util.Either;
 import com.mojang.datafixers.util.Pair;
 import com.mojang.serialization.DataResult;
 import com.mojang.serialization.Decoder;
@@ -74,6 +75,8 @@
 import net.minecraft.world.level.storage.PrimaryLevelData;
 import net.minecraft.world.level.storage.WorldData;
 import org.apache.commons.io.FilenameUtils;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.Server;
 import org.spongepowered.api.Sponge;
@@ -96,8 +99,11 @@
 import org.spongepowered.common.SpongeServer;
 import org.spongepowered.common.accessor.server.MinecraftServerAccessor;
 import org.spongepowered.common.accessor.world.gen.DimensionGeneratorSettingsAccessor;
+import org.spongepowered.common.accessor.world.level.chunk.storage.ChunkStorageAccessor;
+import org.spongepowered.common.accessor.world.level.chunk.storage.IOWorkerAccessor;
 import org.spongepowered.common.accessor.world.level.storage.LevelStorageSource_LevelStorageAccessAccessor;
 import org.spongepowered.common.accessor.world.level.storage.PrimaryLevelDataAccessor;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.ResourceKeyBridge;
 import org.spongepowered.common.bridge.server.level.ServerLevelBridge;
 import org.spongepowered.common.bridge.world.level.dimension.LevelStemBridge;
@@ -114,6 +120,7 @@
 import org.spongepowered.common.user.SpongeUserManager;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.FutureUtil;
+import org.spongepowered.common.world.storage.RegionFileLinks;
 
 import java.io.BufferedReader;
 import java.io.File;
@@ -133,9 +140,14 @@
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -144,6 +156,16 @@ public abstract class SpongeWorldManager implements WorldManager {
     private final MinecraftServer server;
     private final Path dimensionsDataPackDirectory, defaultWorldDirectory, customWorldsDirectory;
     private final Map<net.minecraft.resources.ResourceKey<Level>, ServerLevel> worlds;
+    private final Map<net.minecraft.resources.ResourceKey<Level>, CompletableFuture<?>> pendingOperations = new ConcurrentHashMap<>();
+    private @MonotonicNonNull Executor ioExecutor;
+    // Runs tasks inline when already on the main thread, so stages completed there do not wait for the next task poll
+    private final Executor mainThread = task -> {
+        if (this.server.isSameThread()) {
+            task.run();
+        } else {
+            this.server.execute(task);
+        }
+    };
 
     private static final TicketType<ResourceLocation> SPAWN_CHUNKS = TicketType.create("spawn_chunks", ResourceLocation::compareTo);
 
@@ -317,14 +339,17 @@ public CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loadWor
             return FutureUtil.completedWithException(new IllegalArgumentException("The default world cannot be told to load!"));
         }
 
-        final ServerLevel serverWorld = this.worlds.get(registryKey);
-        if (serverWorld != null) {
-            return CompletableFuture.completedFuture((org.spongepowered.api.world.server.ServerWorld) serverWorld);
-        }
-
-        this.saveTemplate(template);
+        return this.sequenced(registryKey, () -> {
+            final ServerLevel serverWorld = this.worlds.get(registryKey);
+            if (serverWorld != null) {
+                return CompletableFuture.completedFuture((org.spongepowered.api.world.server.ServerWorld) serverWorld);
+            }
 
-        return this.loadWorld0(registryKey, ((SpongeWorldTemplate) template).asDimension(), ((WorldGenSettings) template.generationConfig()));
+            final StageTimings timings = new StageTimings();
+            timings.begin("template");
+            return this.saveTemplate(template).thenComposeAsync(saved -> this.loadWorld0(registryKey, ((SpongeWorldTemplate) template).asDimension(),
+                    ((WorldGenSettings) template.generationConfig()), timings), this.mainThread);
+        });
     }
 
     @Override
@@ -334,33 +359,39 @@ public CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loadWor
             return FutureUtil.completedWithException(new IllegalArgumentException("The default world cannot be told to load!"));
         }
 
-        final ServerLevel world = this.worlds.get(registryKey);
-        if (world != null) {
-            return CompletableFuture.completedFuture((org.spongepowered.api.world.server.ServerWorld) world);
-        }
+        return this.sequenced(registryKey, () -> {
+            final ServerLevel world = this.worlds.get(registryKey);
+            if (world != null) {
+                return CompletableFuture.completedFuture((org.spongepowered.api.world.server.ServerWorld) world);
+            }
+
+            final StageTimings timings = new StageTimings();
+            timings.begin("template");
+            return this.loadTemplate(key).thenComposeAsync(r -> {
+                final WorldTemplate loadedTemplate;
+                final CompletableFuture<Boolean> saved;
+                if (r.isPresent()) {
+                    loadedTemplate = r.get();
+                    saved = CompletableFuture.completedFuture(true);
+                } else {
+                    final LevelStem scratch = BootstrapProperties.worldGenSettings.dimensions().get(SpongeWorldManager.createStemKey(key));
+                    if (scratch == null) {
+                        return FutureUtil.completedWithException(new IOException(String.format("Failed to load a template for '%s'!", key)));
+                    }
 
-        return this.loadTemplate(key).thenCompose(r -> {
-            WorldTemplate loadedTemplate = r.orElse(null);
-            if (loadedTemplate == null) {
-                final LevelStem scratch = BootstrapProperties.worldGenSettings.dimensions().get(SpongeWorldManager.createStemKey(key));
-                if (scratch != null) {
                     ((ResourceKeyBridge) (Object) scratch).bridge$setKey(key);
                     loadedTemplate = new SpongeWorldTemplate(scratch);
+                    saved = this.saveTemplate(loadedTemplate);
                 }
 
-                if (loadedTemplate == null) {
-                    return FutureUtil.completedWithException(new IOException(String.format("Failed to load a template for '%s'!", key)));
-                }
-
-                this.saveTemplate(loadedTemplate);
-            }
-
-            return this.loadWorld0(registryKey, ((SpongeWorldTemplate) loadedTemplate).asDimension(), ((WorldGenSettings) loadedTemplate.generationConfig()));
+                return saved.thenComposeAsync(v -> this.loadWorld0(registryKey, ((SpongeWorldTemplate) loadedTemplate).asDimension(),
+                        ((WorldGenSettings) loadedTemplate.generationConfig()), timings), this.mainThread);
+            }, this.mainThread);
         });
     }
 
     private CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loadWorld0(final net.minecraft.resources.ResourceKey<Level> registryKey,
-            final LevelStem template, final WorldGenSettings generatorSettings) {
+            final LevelStem template, final WorldGenSettings generatorSettings, final StageTimings timings) {
         final PrimaryLevelData defaultLevelData = (PrimaryLevelData) this.server.getWorldData();
         final LevelSettings defaultLevelSettings = ((PrimaryLevelDataAccessor) defaultLevelData).accessor$settings();
         final LevelStemBridge templateBridge = (LevelStemBridge) (Object) template;
@@ -371,53 +402,76 @@ private CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loadWo
 
         MinecraftServerAccessor.accessor$LOGGER().info("Loading world '{}' ({})", worldKey, worldTypeKey.map(ResourceKey::toString).orElse("inline"));
         final String directoryName = this.getDirectoryName(worldKey);
-        final LevelStorageSource.LevelStorageAccess storageSource;
 
-        try {
-            storageSource = this.createStorageSource(worldKey);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(new RuntimeException(String.format("Failed to create level data for world '%s'!", worldKey), e));
-        }
+        // Reading the level data and the world config is plain I/O, only creating and registering the level has to happen on the main thread
+        timings.begin("level data");
+        return this.supplyIo(() -> {
+            final LevelStorageSource.LevelStorageAccess storageSource;
 
-        PrimaryLevelData levelData;
+            try {
+                storageSource = this.createStorageSource(worldKey);
+            } catch (final IOException e) {
+                throw new RuntimeException(String.format("Failed to create level data for world '%s'!", worldKey), e);
+            }
 
-        levelData = (PrimaryLevelData) storageSource.getDataTag((DynamicOps<Tag>) BootstrapProperties.worldSettingsAdapter, defaultLevelSettings.getDataPackConfig());
-        if (levelData == null) {
-            final LevelSettings levelSettings;
-            final WorldGenSettings generationSettings;
+            try {
+                PrimaryLevelData levelData;
 
-            if (this.server.isDemo()) {
-                levelSettings = MinecraftServer.DEMO_SETTINGS;
-                generationSettings = WorldGenSettings.demoSettings(BootstrapProperties.registries);
-            } else {
-                levelSettings = new LevelSettings(directoryName, (GameType) (Object) BootstrapProperties.gameMode.get(Sponge.game()),
-                        templateBridge.bridge$hardcore().orElse(BootstrapProperties.hardcore), (Difficulty) (Object) BootstrapProperties.difficulty
-                        .get(Sponge.game()), templateBridge.bridge$commands().orElse(BootstrapProperties.commands), new GameRules(),
-                    defaultLevelData.getDataPackConfig());
-                generationSettings = generatorSettings;
-            }
+                levelData = (PrimaryLevelData) storageSource.getDataTag((DynamicOps<Tag>) BootstrapProperties.worldSettingsAdapter, defaultLevelSettings.getDataPackConfig());
+                if (levelData == null) {
+                    final LevelSettings levelSettings;
+                    final WorldGenSettings generationSettings;
 
-            levelData = new PrimaryLevelData(levelSettings, generationSettings, Lifecycle.stable());
-        }
+                    if (this.server.isDemo()) {
+                        levelSettings = MinecraftServer.DEMO_SETTINGS;
+                        generationSettings = WorldGenSettings.demoSettings(BootstrapProperties.registries);
+                    } else {
+                        levelSettings = new LevelSettings(directoryName, (GameType) (Object) BootstrapProperties.gameMode.get(Sponge.game()),
+                                templateBridge.bridge$hardcore().orElse(BootstrapProperties.hardcore), (Difficulty) (Object) BootstrapProperties.difficulty
+                                .get(Sponge.game()), templateBridge.bridge$commands().orElse(BootstrapProperties.commands), new GameRules(),
+                            defaultLevelData.getDataPackConfig());
+                        generationSettings = generatorSettings;
+                    }
 
-        ((PrimaryLevelDataBridge) levelData).bridge$populateFromDimension(template);
+                    levelData = new PrimaryLevelData(levelSettings, generationSettings, Lifecycle.stable());
+                }
 
-        final InheritableConfigHandle<WorldConfig> configAdapter = SpongeGameConfigs.createWorld(worldTypeKey.orElse(null), worldKey);
-        ((PrimaryLevelDataBridge) levelData).bridge$configAdapter(configAdapter);
+                ((PrimaryLevelDataBridge) levelData).bridge$populateFromDimension(template);
 
-        levelData.setModdedInfo(this.server.getServerModName(), this.server.getModdedStatus().isPresent());
-        final boolean isDebugGeneration = levelData.worldGenSettings().isDebug();
-        final long seed = BiomeManager.obfuscateSeed(levelData.worldGenSettings().seed());
+                final InheritableConfigHandle<WorldConfig> configAdapter = SpongeGameConfigs.createWorld(worldTypeKey.orElse(null), worldKey);
+                ((PrimaryLevelDataBridge) levelData).bridge$configAdapter(configAdapter);
+                return Pair.of(storageSource, levelData);
+            } catch (final Throwable t) {
+                // Release the session lock, nothing else will
+                try {
+                    storageSource.close();
+                } catch (final IOException e) {
+                    t.addSuppressed(e);
+                }
+                throw t;
+            }
+        }).thenApplyAsync(loaded -> {
+            timings.begin("registration");
+            final PrimaryLevelData levelData = loaded.getSecond();
+            levelData.setModdedInfo(this.server.getServerModName(), this.server.getModdedStatus().isPresent());
+            final boolean isDebugGeneration = levelData.worldGenSettings().isDebug();
+            final long seed = BiomeManager.obfuscateSeed(levelData.worldGenSettings().seed());
 
-        final ChunkProgressListener chunkStatusListener = ((MinecraftServerAccessor) this.server).accessor$progressListenerFactory().create(11);
+            final ChunkProgressListener chunkStatusListener = ((MinecraftServerAccessor) this.server).accessor$progressListenerFactory().create(11);
 
-        final ServerLevel world = new ServerLevel(this.server, ((MinecraftServerAccessor) this.server).accessor$executor(), storageSource, levelData,
-                registryKey, (DimensionType) worldType, chunkStatusListener, template.generator(), isDebugGeneration, seed, ImmutableList.of(), true);
-        this.worlds.put(registryKey, world);
+            final ServerLevel world = new ServerLevel(this.server, ((MinecraftServerAccessor) this.server).accessor$executor(), loaded.getFirst(), levelData,
+                    registryKey, (DimensionType) worldType, chunkStatusListener, template.generator(), isDebugGeneration, seed, ImmutableList.of(), true);
+            this.worlds.put(registryKey, world);
 
-        this.prepareWorld(world, isDebugGeneration);
-        ((MinecraftServerAccessor) this.server).invoker$forceDifficulty();
-        return this.postWorldLoad(world, false).thenApply(w -> (org.spongepowered.api.world.server.ServerWorld) w);
+            this.prepareWorld(world, isDebugGeneration);
+            ((MinecraftServerAccessor) this.server).invoker$forceDifficulty();
+            timings.begin("spawn area");
+            return world;
+        }, this.mainThread).thenCompose(world -> this.postWorldLoad(world, false)).thenApply(world -> {
+            timings.end();
+            MinecraftServerAccessor.accessor$LOGGER().info("Loaded world '{}' in {} ms ({})", worldKey, timings.totalMillis(), timings);
+            return (org.spongepowered.api.world.server.ServerWorld) world;
+        });
     }
 
     @Override
@@ -444,16 +498,13 @@ public CompletableFuture<Boolean> unloadWorld(final org.spongepowered.api.world.
             return CompletableFuture.completedFuture(false);
         }
 
-        if (world != this.worlds.get(registryKey)) {
-            return CompletableFuture.completedFuture(false);
-        }
+        return this.sequenced(registryKey, () -> {
+            if (world != this.worlds.get(registryKey)) {
+                return CompletableFuture.completedFuture(false);
+            }
 
-        try {
-            this.unloadWorld0((ServerLevel) world);
-            return CompletableFuture.completedFuture(true);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
+            return this.unloadWorld0((ServerLevel) world).thenApply(v -> true);
+        });
     }
 
     @Override
@@ -464,28 +515,33 @@ public boolean templateExists(final ResourceKey key) {
     @Override
     public CompletableFuture<Optional<WorldTemplate>> loadTemplate(final ResourceKey key) {
         final Path dataPackFile = this.getDataPackFile(Objects.requireNonNull(key, "key"));
-        if (Files.exists(dataPackFile)) {
+        return this.supplyIo(() -> {
+            if (!Files.exists(dataPackFile)) {
+                return Optional.<JsonElement>empty();
+            }
             try (final BufferedReader reader = Files.newBufferedReader(dataPackFile)) {
-                final LevelStem template = SpongeWorldManager.stemFromJson(key, new JsonParser().parse(reader));
-                return CompletableFuture.completedFuture(Optional.of(((LevelStemBridge) (Object) template).bridge$asTemplate()));
-            } catch (final IOException e) {
-                return FutureUtil.completedWithException(e);
+                return Optional.of(new JsonParser().parse(reader));
             }
-        }
-
-        return CompletableFuture.completedFuture(Optional.empty());
+        }).thenApplyAsync(element -> element.<WorldTemplate>map(e -> {
+            // Decoding goes through the registries, keep that on the main thread
+            final LevelStem template = SpongeWorldManager.stemFromJson(key, e);
+            return ((LevelStemBridge) (Object) template).bridge$asTemplate();
+        }), this.mainThread);
     }
 
     @Override
     public CompletableFuture<Boolean> saveTemplate(final WorldTemplate template) {
         final LevelStem scratch = ((SpongeWorldTemplate) Objects.requireNonNull(template, "template")).asDimension();
+        final JsonElement element;
         try {
-            final JsonElement element = SpongeWorldManager.stemToJson(scratch);
-            this.writeTemplate(element, template.key());
+            element = SpongeWorldManager.stemToJson(scratch);
         } catch (final Exception ex) {
             return FutureUtil.completedWithException(ex);
         }
-        return CompletableFuture.completedFuture(true);
+        return this.supplyIo(() -> {
+            this.writeTemplate(element, template.key());
+            return true;
+        });
     }
 
     private void writeTemplate(final JsonElement element, final ResourceKey key) throws IOException {
@@ -507,29 +563,29 @@ public CompletableFuture<Optional<ServerWorldProperties>> loadProperties(final R
             return CompletableFuture.completedFuture(Optional.empty());
         }
 
-        final WorldData levelData;
-        try (final LevelStorageSource.LevelStorageAccess storageSource = this.createStorageSource(key)) {
-            final PrimaryLevelData defaultLevelData = (PrimaryLevelData) this.server.getWorldData();
-            final LevelSettings defaultLevelSettings = ((PrimaryLevelDataAccessor) defaultLevelData).accessor$settings();
-
-            levelData = storageSource.getDataTag((DynamicOps<Tag>) BootstrapProperties.worldSettingsAdapter, defaultLevelSettings.getDataPackConfig());
-        } catch (final Exception ex) {
-            return FutureUtil.completedWithException(ex);
-        }
-
-        if (levelData == null) {
-            return CompletableFuture.completedFuture(Optional.empty());
-        }
-
-        return this.loadTemplate(key).thenCompose(template -> {
-            if (template.isPresent()) {
-                final LevelStem scratch = ((SpongeWorldTemplate) template.get()).asDimension();
-                ((PrimaryLevelDataBridge) levelData).bridge$populateFromDimension(scratch);
-            } else {
-                ((ResourceKeyBridge) levelData).bridge$setKey(key);
+        final PrimaryLevelData defaultLevelData = (PrimaryLevelData) this.server.getWorldData();
+        final LevelSettings defaultLevelSettings = ((PrimaryLevelDataAccessor) defaultLevelData).accessor$settings();
+        return this.supplyIo(() -> {
+            try (final LevelStorageSource.LevelStorageAccess storageSource = this.createStorageSource(key)) {
+                return Optional.ofNullable(storageSource.getDataTag((DynamicOps<Tag>) BootstrapProperties.worldSettingsAdapter,
+                    defaultLevelSettings.getDataPackConfig()));
+            }
+        }).thenCompose(r -> {
+            if (!r.isPresent()) {
+                return CompletableFuture.completedFuture(Optional.empty());
             }
 
-            return CompletableFuture.completedFuture(Optional.of((ServerWorldProperties) levelData));
+            final WorldData levelData = r.get();
+            return this.loadTemplate(key).thenApply(template -> {
+                if (template.isPresent()) {
+                    final LevelStem scratch = ((SpongeWorldTemplate) template.get()).asDimension();
+                    ((PrimaryLevelDataBridge) levelData).bridge$populateFromDimension(scratch);
+                } else {
+                    ((ResourceKeyBridge) levelData).bridge$setKey(key);
+                }
+
+                return Optional.of((ServerWorldProperties) levelData);
+            });
         });
     }
 
@@ -543,14 +599,13 @@ public CompletableFuture<Boolean> saveProperties(final ServerWorldProperties pro
 
         final ResourceKey key = properties.key();
 
-        try (final LevelStorageSource.LevelStorageAccess storageSource = this.createStorageSource(key)) {
-            storageSource.saveDataTag(BootstrapProperties.registries, (WorldData) properties, null);
-        } catch (final Exception ex) {
-            return FutureUtil.completedWithException(ex);
-        }
-
         // Properties doesn't have everything we need...namely the generator, load the template and set values we actually got
-        return this.loadTemplate(key).thenCompose(r -> {
+        return this.supplyIo(() -> {
+            try (final LevelStorageSource.LevelStorageAccess storageSource = this.createStorageSource(key)) {
+                storageSource.saveDataTag(BootstrapProperties.registries, (WorldData) properties, null);
+            }
+            return true;
+        }).thenCompose(saved -> this.loadTemplate(key)).thenCompose(r -> {
             final WorldTemplate template = r.orElse(null);
             if (template != null) {
                 final LevelStem scratch = ((SpongeWorldTemplate) template).asDimension();
@@ -571,27 +626,61 @@ public CompletableFuture<Boolean> copyWorld(final ResourceKey key, final Resourc
             return CompletableFuture.completedFuture(false);
         }
 
-        if (!this.worldExists(key)) {
-            return CompletableFuture.completedFuture(false);
-        }
+        return this.sequenced(registryKey, () -> {
+            if (!this.worldExists(key)) {
+                return CompletableFuture.completedFuture(false);
+            }
 
-        if (this.worldExists(copyKey)) {
-            return CompletableFuture.completedFuture(false);
-        }
+            if (this.worldExists(copyKey)) {
+                return CompletableFuture.completedFuture(false);
+            }
 
-        final ServerLevel loadedWorld = this.worlds.get(registryKey);
-        boolean disableLevelSaving = false;
+            final StageTimings timings = new StageTimings();
+            final ServerLevel loadedWorld = this.worlds.get(registryKey);
+            final @Nullable JsonElement vanillaTemplate = this.isVanillaWorld(key) ? this.vanillaTemplate(key) : null;
 
-        if (loadedWorld != null) {
-            disableLevelSaving = loadedWorld.noSave;
-            loadedWorld.save(null, true, loadedWorld.noSave);
-            loadedWorld.noSave = true;
-        }
+            if (loadedWorld != null) {
+                // Flush on the main thread, then copy while the chunk worker is held back. noSave does not stop chunks from being saved as
+                // they unload, and the worker writes the region files in place, so they are never linked either.
+                final boolean disableLevelSaving = loadedWorld.noSave;
+                timings.begin("save");
+                try {
+                    loadedWorld.save(null, true, loadedWorld.noSave);
+                } catch (final Exception e) {
+                    return FutureUtil.completedWithException(new IOException(e));
+                }
+                loadedWorld.noSave = true;
+                timings.begin("copy");
+                return this.holdingChunkWorker(loadedWorld, () -> FutureUtil.supplyAsync(() -> {
+                    this.copyWorldFiles(key, copyKey, vanillaTemplate, false);
+                    return true;
+                }, this.ioExecutor())).whenCompleteAsync((copied, throwable) -> {
+                    loadedWorld.noSave = disableLevelSaving;
+                    if (throwable == null) {
+                        timings.end();
+                        SpongeCommon.logger().info("Copied world '{}' to '{}' in {} ms ({})", key, copyKey, timings.totalMillis(), timings);
+                    }
+                }, this.mainThread);
+            }
+
+            final boolean linkRegionFiles = SpongeConfigs.getCommon().get().world.linkRegionFilesOnCopy;
+            timings.begin("copy");
+            return FutureUtil.supplyAsync(() -> {
+                this.copyWorldFiles(key, copyKey, vanillaTemplate, linkRegionFiles);
+                timings.end();
+                SpongeCommon.logger().info("Copied world '{}' to '{}' in {} ms ({})", key, copyKey, timings.totalMillis(), timings);
+                return true;
+            }, this.ioExecutor());
+        });
+    }
 
+    private void copyWorldFiles(final ResourceKey key, final ResourceKey copyKey, final @Nullable JsonElement vanillaTemplate,
+            final boolean linkRegionFiles) throws IOException {
         final boolean isDefaultWorld = DefaultWorldKeys.DEFAULT.equals(key);
 
         final Path originalDirectory = this.getDirectory(key);
         final Path copyDirectory = this.getDirectory(copyKey);
+        final boolean canLink = linkRegionFiles && RegionFileLinks.canLink(originalDirectory);
 
         try {
             Files.walkFileTree(originalDirectory, new SimpleFileVisitor<Path>() {
@@ -624,8 +713,12 @@ public FileVisitResult visitFile(final Path file, final BasicFileAttributes attr
                     if (fileName.equals(Constants.World.LEVEL_DAT_OLD)) {
                         return FileVisitResult.CONTINUE;
                     }
-                    Files.copy(file, copyDirectory.resolve(originalDirectory.relativize(file)), StandardCopyOption.COPY_ATTRIBUTES,
-                            StandardCopyOption.REPLACE_EXISTING);
+                    final Path target = copyDirectory.resolve(originalDirectory.relativize(file));
+                    if (canLink && RegionFileLinks.isRegionFile(file)) {
+                        RegionFileLinks.linkOrCopy(file, target);
+                    } else {
+                        Files.copy(file, target, StandardCopyOption.COPY_ATTRIBUTES, StandardCopyOption.REPLACE_EXISTING);
+                    }
 
                     return FileVisitResult.CONTINUE;
                 }
@@ -637,45 +730,28 @@ public FileVisitResult visitFile(final Path file, final BasicFileAttributes attr
             } catch (final IOException ignore) {
             }
 
-            return FutureUtil.completedWithException(e);
-        }
-
-        if (loadedWorld != null) {
-            loadedWorld.noSave = disableLevelSaving;
+            throw e;
         }
 
         final Path configFile = this.getConfigFile(key);
         final Path copiedConfigFile = this.getConfigFile(copyKey);
 
-        try {
-            Files.createDirectories(copiedConfigFile.getParent());
-            Files.copy(configFile, copiedConfigFile, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
+        Files.createDirectories(copiedConfigFile.getParent());
+        Files.copy(configFile, copiedConfigFile, StandardCopyOption.REPLACE_EXISTING);
 
         final JsonElement template;
-        if (this.isVanillaWorld(key)) {
-            final LevelStem stem = this.server.getWorldData().worldGenSettings().dimensions().get(SpongeWorldManager.createStemKey(key));
-            template = SpongeWorldManager.stemToJson(stem);
+        if (vanillaTemplate != null) {
+            template = vanillaTemplate;
         } else {
             try (final BufferedReader reader = Files.newBufferedReader(this.getDataPackFile(key))) {
                 template = new JsonParser().parse(reader);
-            } catch (final IOException e) {
-                return FutureUtil.completedWithException(e);
             }
         }
 
         final JsonObject spongeData = template.getAsJsonObject().getAsJsonObject("#sponge");
         spongeData.remove("unique_id");
 
-        try {
-            this.writeTemplate(template, copyKey);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
-
-        return CompletableFuture.completedFuture(true);
+        this.writeTemplate(template, copyKey);
     }
 
     @Override
@@ -686,65 +762,52 @@ public CompletableFuture<Boolean> moveWorld(final ResourceKey key, final Resourc
             return CompletableFuture.completedFuture(false);
         }
 
-        if (!this.worldExists(key)) {
-            return CompletableFuture.completedFuture(false);
-        }
-
-        if (this.worldExists(movedKey)) {
-            return CompletableFuture.completedFuture(false);
-        }
+        return this.sequenced(registryKey, () -> {
+            if (!this.worldExists(key)) {
+                return CompletableFuture.completedFuture(false);
+            }
 
-        final ServerLevel loadedWorld = this.worlds.get(registryKey);
-        if (loadedWorld != null) {
-            try {
-                this.unloadWorld0(loadedWorld);
-            } catch (final IOException e) {
-                return FutureUtil.completedWithException(e);
+            if (this.worldExists(movedKey)) {
+                return CompletableFuture.completedFuture(false);
             }
-        }
 
+            final ServerLevel loadedWorld = this.worlds.get(registryKey);
+            final CompletableFuture<Void> unloaded = loadedWorld == null ? CompletableFuture.completedFuture(null) : this.unloadWorld0(loadedWorld);
+            final @Nullable JsonElement vanillaTemplate = this.isVanillaWorld(key) ? this.vanillaTemplate(key) : null;
+
+            return unloaded.thenApplyAsync(v -> {
+                try {
+                    this.moveWorldFiles(key, movedKey, vanillaTemplate);
+                } catch (final IOException e) {
+                    throw new CompletionException(e);
+                }
+                return true;
+            }, this.ioExecutor());
+        });
+    }
+
+    private void moveWorldFiles(final ResourceKey key, final ResourceKey movedKey, final @Nullable JsonElement vanillaTemplate) throws IOException {
         final Path originalDirectory = this.getDirectory(key);
         final Path movedDirectory = this.getDirectory(movedKey);
 
-        try {
-            Files.createDirectories(movedDirectory);
-            Files.move(originalDirectory, movedDirectory, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
+        Files.createDirectories(movedDirectory);
+        Files.move(originalDirectory, movedDirectory, StandardCopyOption.REPLACE_EXISTING);
 
         final Path configFile = this.getConfigFile(key);
         final Path movedConfigFile = this.getConfigFile(movedKey);
 
-        try {
-            Files.createDirectories(movedConfigFile.getParent());
-            Files.move(configFile, movedConfigFile, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
-
-        if (this.isVanillaWorld(key)) {
-            final LevelStem stem = this.server.getWorldData().worldGenSettings().dimensions().get(SpongeWorldManager.createStemKey(key));
-            final JsonElement template = SpongeWorldManager.stemToJson(stem);
+        Files.createDirectories(movedConfigFile.getParent());
+        Files.move(configFile, movedConfigFile, StandardCopyOption.REPLACE_EXISTING);
 
-            try {
-                this.writeTemplate(template, movedKey);
-            } catch (final IOException e) {
-                return FutureUtil.completedWithException(e);
-            }
+        if (vanillaTemplate != null) {
+            this.writeTemplate(vanillaTemplate, movedKey);
         } else {
             final Path dimensionTemplate = this.getDataPackFile(key);
             final Path movedDimensionTemplate = this.getDataPackFile(movedKey);
 
-            try {
-                Files.createDirectories(movedDimensionTemplate.getParent());
-                Files.move(dimensionTemplate, movedDimensionTemplate, StandardCopyOption.REPLACE_EXISTING);
-            } catch (final IOException e) {
-                return FutureUtil.completedWithException(e);
-            }
+            Files.createDirectories(movedDimensionTemplate.getParent());
+            Files.move(dimensionTemplate, movedDimensionTemplate, StandardCopyOption.REPLACE_EXISTING);
         }
-
-        return CompletableFuture.completedFuture(true);
     }
 
     @Override
@@ -755,55 +818,55 @@ public CompletableFuture<Boolean> deleteWorld(final ResourceKey key) {
             return CompletableFuture.completedFuture(false);
         }
 
-        if (!this.worldExists(key)) {
-            return CompletableFuture.completedFuture(false);
-        }
-
-        final ServerLevel loadedWorld = this.worlds.get(registryKey);
-        if (loadedWorld != null) {
-            final boolean disableLevelSaving = loadedWorld.noSave;
-            loadedWorld.noSave = true;
-            try {
-                this.unloadWorld0(loadedWorld);
-            } catch (final IOException e) {
-                loadedWorld.noSave = disableLevelSaving;
-                return FutureUtil.completedWithException(e);
+        return this.sequenced(registryKey, () -> {
+            if (!this.worldExists(key)) {
+                return CompletableFuture.completedFuture(false);
             }
-        }
 
-        final Path directory = getDirectory(key);
-        if (Files.exists(directory)) {
-            try {
-                Files.walkFileTree(directory, DeleteFileVisitor.INSTANCE);
-            } catch (final IOException e) {
-                return FutureUtil.completedWithException(e);
+            final ServerLevel loadedWorld = this.worlds.get(registryKey);
+            final CompletableFuture<Void> unloaded;
+            if (loadedWorld != null) {
+                final boolean disableLevelSaving = loadedWorld.noSave;
+                loadedWorld.noSave = true;
+                unloaded = this.unloadWorld0(loadedWorld).whenComplete((v, throwable) -> {
+                    if (throwable != null) {
+                        loadedWorld.noSave = disableLevelSaving;
+                    }
+                });
+            } else {
+                unloaded = CompletableFuture.completedFuture(null);
             }
-        }
 
-        final Path configFile = getConfigFile(key);
-        try {
-            Files.deleteIfExists(configFile);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
+            return unloaded.thenApplyAsync(v -> {
+                try {
+                    this.deleteWorldFiles(key);
+                } catch (final IOException e) {
+                    throw new CompletionException(e);
+                }
+                return true;
+            }, this.ioExecutor());
+        });
+    }
 
-        final Path dimensionTemplate = this.getDataPackFile(key);
-        try {
-            Files.deleteIfExists(dimensionTemplate);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
+    private void deleteWorldFiles(final ResourceKey key) throws IOException {
+        final Path directory = this.getDirectory(key);
+        if (Files.exists(directory)) {
+            Files.walkFileTree(directory, DeleteFileVisitor.INSTANCE);
         }
 
-        return CompletableFuture.completedFuture(true);
+        Files.deleteIfExists(this.getConfigFile(key));
+        Files.deleteIfExists(this.getDataPackFile(key));
     }
 
-    private void unloadWorld0(final ServerLevel world) throws IOException {
+    private CompletableFuture<Void> unloadWorld0(final ServerLevel world) {
         final net.minecraft.resources.ResourceKey<Level> registryKey = world.dimension();
 
         if (world.getPlayers(p -> true).size() != 0) {
-            throw new IOException(String.format("World '%s' was told to unload but players remain.", registryKey.location()));
+            return FutureUtil.completedWithException(new IOException(String.format("World '%s' was told to unload but players remain.", registryKey.location())));
         }
 
+        final StageTimings timings = new StageTimings();
+        timings.begin("save");
         final Optional<ResourceKey> worldTypeKey = RegistryTypes.WORLD_TYPE.get().findValueKey((WorldType) world.dimensionType());
         SpongeCommon.logger().info("Unloading world '{}' ({})", registryKey.location(), worldTypeKey.map(ResourceKey::toString).orElse("inline"));
 
@@ -813,17 +876,92 @@ private void unloadWorld0(final ServerLevel world) throws IOException {
         final BlockPos spawnPoint = world.getSharedSpawnPos();
         world.getChunkSource().removeRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, new ChunkPos(spawnPoint), 11, registryKey.location());
 
-        ((PrimaryLevelDataBridge) world.getLevelData()).bridge$configAdapter().save();
-
+        // Queue the chunks for saving but leave waiting on the writes to the chunk worker. The level keeps ticking until the worker has
+        // drained, chunks which were already unloading are only saved by tasks its chunk source runs while ticking.
         try {
-            world.save(null, true, world.noSave);
-            world.close();
-            ((ServerLevelBridge) world).bridge$getLevelSave().close();
+            world.save(null, false, world.noSave);
         } catch (final Exception ex) {
-            throw new IOException(ex);
+            return FutureUtil.completedWithException(new IOException(ex));
         }
 
-        this.worlds.remove(registryKey);
+        final InheritableConfigHandle<WorldConfig> configAdapter = ((PrimaryLevelDataBridge) world.getLevelData()).bridge$configAdapter();
+        timings.begin("flush");
+        return this.flushChunkWorker(world).thenRunAsync(configAdapter::save, this.ioExecutor()).thenRunAsync(() -> {
+            // Closing still flushes the chunk source on the main thread, which by now only holds what changed while the worker drained
+            timings.begin("close");
+            this.worlds.remove(registryKey);
+            try {
+                world.close();
+                ((ServerLevelBridge) world).bridge$getLevelSave().close();
+            } catch (final Exception ex) {
+                throw new CompletionException(new IOException(ex));
+            }
+            timings.end();
+            SpongeCommon.logger().info("Unloaded world '{}' in {} ms ({})", registryKey.location(), timings.totalMillis(), timings);
+        }, this.mainThread);
+    }
+
+    private CompletableFuture<Void> flushChunkWorker(final ServerLevel world) {
+        return ((IOWorkerAccessor) ((ChunkStorageAccessor) world.getChunkSource().chunkMap).accessor$worker()).invoker$synchronize();
+    }
+
+    private JsonElement vanillaTemplate(final ResourceKey key) {
+        final LevelStem stem = this.server.getWorldData().worldGenSettings().dimensions().get(SpongeWorldManager.createStemKey(key));
+        return SpongeWorldManager.stemToJson(stem);
+    }
+
+    /**
+     * Runs the operation on the main thread once any pending operation on the
+     * same world has completed, so that a world is never loaded while it is
+     * still being unloaded, copied or moved. Safe to call from any thread.
+     */
+    private <T> CompletableFuture<T> sequenced(final net.minecraft.resources.ResourceKey<Level> registryKey,
+            final Supplier<CompletableFuture<T>> operation) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        // Swapping in the new tail is atomic, every operation waits on exactly the one queued before it
+        final @Nullable CompletableFuture<?> previous = this.pendingOperations.put(registryKey, future);
+        final CompletableFuture<?> ready = previous == null ? CompletableFuture.completedFuture(null) : previous.handle((r, t) -> null);
+        ready.thenComposeAsync(v -> operation.get(), this.mainThread).whenComplete((result, throwable) -> {
+            this.pendingOperations.remove(registryKey, future);
+            if (throwable != null) {
+                future.completeExceptionally(throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable);
+            } else {
+                future.complete(result);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Runs world file I/O on the I/O executor. Stages that apply the result
+     * to the server are chained back onto the main thread by the caller.
+     */
+    private <T> CompletableFuture<T> supplyIo(final Callable<T> callable) {
+        return FutureUtil.supplyAsync(callable, this.ioExecutor());
+    }
+
+    /**
+     * Keeps the chunk worker of the world from reading or writing region
+     * files until the operation has completed.
+     */
+    private <T> CompletableFuture<T> holdingChunkWorker(final ServerLevel world, final Supplier<CompletableFuture<T>> operation) {
+        final IOWorkerAccessor worker = (IOWorkerAccessor) ((ChunkStorageAccessor) world.getChunkSource().chunkMap).accessor$worker();
+        // The worker runs one task at a time, the reads and writes queued behind this one wait for the operation
+        return worker.invoker$submitTask(() -> {
+            try {
+                return Either.left(operation.get().join());
+            } catch (final CompletionException e) {
+                final Throwable cause = e.getCause();
+                return Either.right(cause instanceof Exception ? (Exception) cause : e);
+            }
+        });
+    }
+
+    private Executor ioExecutor() {
+        if (this.ioExecutor == null) {
+            this.ioExecutor = Sponge.asyncScheduler().executor(Launch.instance().platformPlugin());
+        }
+        return this.ioExecutor;
     }
 
     public void loadLevel() {
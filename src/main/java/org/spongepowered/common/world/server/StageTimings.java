@@ -0,0 +1,74 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how long each stage of a staged world operation took. Stages may
+ * run on different threads but never concurrently, each one is started from
+ * the completion of the one before it.
+ */
+final class StageTimings {
+
+    private final long start = System.nanoTime();
+    private final Map<String, Long> stages = new LinkedHashMap<>();
+    private @Nullable String stage;
+    private long stageStart;
+
+    /**
+     * Ends the current stage, if any, and starts timing the given one.
+     *
+     * @param stage The name of the stage
+     */
+    void begin(final String stage) {
+        this.end();
+        this.stage = stage;
+        this.stageStart = System.nanoTime();
+    }
+
+    void end() {
+        if (this.stage != null) {
+            this.stages.merge(this.stage, System.nanoTime() - this.stageStart, Long::sum);
+            this.stage = null;
+        }
+    }
+
+    long totalMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.start);
+    }
+
+    @Override
+    public String toString() {
+        final StringJoiner joiner = new StringJoiner(", ");
+        this.stages.forEach((stage, nanos) -> joiner.add(stage + ": " + TimeUnit.NANOSECONDS.toMillis(nanos) + " ms"));
+        return joiner.toString();
+    }
+}
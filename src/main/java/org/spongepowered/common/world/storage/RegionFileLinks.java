@@ -0,0 +1,123 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Shares region files between copies of a world by hard linking them.
+ *
+ * <p>Region files are written in place, so a linked file has to be given
+ * its own copy before a level first writes to it. That copy replaces the
+ * link through a rename, leaving every other world sharing the file as it
+ * was. Reading goes through the shared file.</p>
+ */
+public final class RegionFileLinks {
+
+    private static final String REGION_FILE_EXTENSION = ".mca";
+    private static final String LINK_COUNT_ATTRIBUTE = "unix:nlink";
+
+    /**
+     * Gets whether region files in the given directory can be linked. This
+     * requires being able to tell linked files apart later on.
+     *
+     * @param directory The directory
+     * @return Whether files can be linked
+     */
+    public static boolean canLink(final Path directory) {
+        try {
+            return Files.getFileStore(directory).supportsFileAttributeView("unix");
+        } catch (final IOException e) {
+            return false;
+        }
+    }
+
+    public static boolean isRegionFile(final Path file) {
+        return file.getFileName().toString().endsWith(RegionFileLinks.REGION_FILE_EXTENSION);
+    }
+
+    /**
+     * Links the target to the source file, copying it when that fails.
+     *
+     * @param source The file to link to
+     * @param target The link to create
+     * @return Whether a link was created
+     * @throws IOException If the file could not be copied either
+     */
+    public static boolean linkOrCopy(final Path source, final Path target) throws IOException {
+        try {
+            Files.createLink(target, source);
+            return true;
+        } catch (final IOException | UnsupportedOperationException e) {
+            // Different file stores, no permission to link, etc.
+            Files.copy(source, target, StandardCopyOption.COPY_ATTRIBUTES, StandardCopyOption.REPLACE_EXISTING);
+            return false;
+        }
+    }
+
+    /**
+     * Gets whether the file is shared with another world.
+     *
+     * @param file The region file
+     * @return Whether the file is shared
+     * @throws IOException If the link count could not be read
+     */
+    public static boolean isShared(final Path file) throws IOException {
+        return Files.isRegularFile(file) && RegionFileLinks.linkCount(file) > 1;
+    }
+
+    /**
+     * Gives the file its own copy if it is shared with another world.
+     *
+     * @param file The region file about to be written
+     * @throws IOException If the file could not be copied
+     */
+    public static void unlink(final Path file) throws IOException {
+        if (!RegionFileLinks.isShared(file)) {
+            return;
+        }
+        final Path copy = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            Files.copy(file, copy, StandardCopyOption.COPY_ATTRIBUTES, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(copy, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(copy);
+        }
+    }
+
+    private static int linkCount(final Path file) throws IOException {
+        try {
+            return ((Number) Files.getAttribute(file, RegionFileLinks.LINK_COUNT_ATTRIBUTE)).intValue();
+        } catch (final UnsupportedOperationException | IllegalArgumentException e) {
+            return 1;
+        }
+    }
+
+    private RegionFileLinks() {
+    }
+}
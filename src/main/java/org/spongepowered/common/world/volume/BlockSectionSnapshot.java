@@ -0,0 +1,130 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import net.minecraft.util.BitStorage;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.Palette;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.accessor.world.level.chunk.PalettedContainerAccessor;
+import org.spongepowered.math.vector.Vector3i;
+
+/**
+ * An immutable copy of the palette and packed block storage of the part of a
+ * {@link LevelChunkSection} that intersects a volume. Copying only takes the
+ * raw storage array and the section's palette entries on the thread owning
+ * the section, after which the states can be decoded from any thread.
+ *
+ * <p>States are decoded in the order the sequential block stream visits them,
+ * y first, then z, then x, so that processing the snapshot yields elements in
+ * the same order.</p>
+ */
+final class BlockSectionSnapshot {
+
+    private final int originX;
+    private final int originY;
+    private final int originZ;
+    private final int sizeX;
+    private final int sizeY;
+    private final int sizeZ;
+    private final int bits;
+    private final long[] storage;
+    // null when the section uses the global palette
+    private final @Nullable BlockState @Nullable [] palette;
+
+    @SuppressWarnings("unchecked")
+    BlockSectionSnapshot(final int chunkMinX, final int chunkMinZ, final LevelChunkSection section, final Vector3i min, final Vector3i max) {
+        final int sectionY = section.bottomBlockY();
+        final int xStart = Math.max(min.x(), chunkMinX) & 15;
+        final int yStart = Math.max(min.y(), sectionY) & 15;
+        final int zStart = Math.max(min.z(), chunkMinZ) & 15;
+        this.originX = chunkMinX + xStart;
+        this.originY = sectionY + yStart;
+        this.originZ = chunkMinZ + zStart;
+        this.sizeX = (Math.min(max.x(), chunkMinX + 15) & 15) - xStart + 1;
+        this.sizeY = (Math.min(max.y(), sectionY + 15) & 15) - yStart + 1;
+        this.sizeZ = (Math.min(max.z(), chunkMinZ + 15) & 15) - zStart + 1;
+
+        final PalettedContainerAccessor<BlockState> container = (PalettedContainerAccessor<BlockState>) section.getStates();
+        this.bits = container.accessor$bits();
+        this.storage = container.accessor$storage().getRaw().clone();
+        if (this.bits > 8) {
+            this.palette = null;
+        } else {
+            // Palettes may grow while the section is modified, so their entries are copied as well
+            final Palette<BlockState> palette = container.accessor$palette();
+            this.palette = new BlockState[1 << this.bits];
+            for (int id = 0; id < this.palette.length; id++) {
+                this.palette[id] = palette.valueFor(id);
+            }
+        }
+    }
+
+    int size() {
+        return this.sizeX * this.sizeY * this.sizeZ;
+    }
+
+    /**
+     * Decodes the states of this snapshot.
+     *
+     * @return The states, indexed as {@link #x(int)}, {@link #y(int)} and {@link #z(int)} expect
+     */
+    BlockState[] read() {
+        final BitStorage storage = new BitStorage(this.bits, 4096, this.storage);
+        final BlockState air = Blocks.AIR.defaultBlockState();
+        final BlockState[] states = new BlockState[this.size()];
+        final int xStart = this.originX & 15;
+        final int yStart = this.originY & 15;
+        final int zStart = this.originZ & 15;
+        int index = 0;
+        for (int y = yStart; y < yStart + this.sizeY; y++) {
+            for (int z = zStart; z < zStart + this.sizeZ; z++) {
+                for (int x = xStart; x < xStart + this.sizeX; x++) {
+                    final int id = storage.get(y << 8 | z << 4 | x);
+                    final @Nullable BlockState state = this.palette == null
+                        ? Block.BLOCK_STATE_REGISTRY.byId(id)
+                        : id < this.palette.length ? this.palette[id] : null;
+                    states[index++] = state == null ? air : state;
+                }
+            }
+        }
+        return states;
+    }
+
+    int x(final int index) {
+        return this.originX + index % this.sizeX;
+    }
+
+    int y(final int index) {
+        return this.originY + index / (this.sizeX * this.sizeZ);
+    }
+
+    int z(final int index) {
+        return this.originZ + (index / this.sizeX) % this.sizeZ;
+    }
+}
@@ -0,0 +1,475 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import com.google.common.collect.ImmutableList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ChunkHolder;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ThreadedLevelLightEngine;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.levelgen.Heightmap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.block.transaction.BlockTransaction;
+import org.spongepowered.api.event.SpongeEventFactory;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
+import org.spongepowered.api.world.BlockChangeFlag;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.accessor.world.level.chunk.LevelChunkAccessor;
+import org.spongepowered.common.block.SpongeBlockSnapshot;
+import org.spongepowered.common.bridge.server.level.ThreadedLevelLightEngineBridge;
+import org.spongepowered.common.bridge.world.TrackedWorldBridge;
+import org.spongepowered.common.bridge.world.level.LevelBridge;
+import org.spongepowered.common.bridge.world.level.block.state.BlockStateBridge;
+import org.spongepowered.common.event.ShouldFire;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.world.SpongeBlockChangeFlag;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.function.BiFunction;
+
+/**
+ * Applies many block changes to a world section by section, instead of
+ * running the full block change pipeline for every position.
+ *
+ * <p>Changes are first collected with {@link #set(int, int, int, BlockState)}.
+ * {@link #apply()} then drops the positions that already hold the requested
+ * state and fires a single {@link ChangeBlockEvent.All} for the rest. The
+ * transactions of that event are only created once a listener reads them.
+ * The remaining changes are written straight into the palette of each
+ * chunk section. Heightmaps and chunk state are updated once per section.
+ * Client and neighbor updates are queued per position according to the
+ * {@link BlockChangeFlag}, light checks in a single task per section. The
+ * chunk holders of the world coalesce the client updates into one section
+ * packet per section and tick.</p>
+ *
+ * <p>Unlike tracked block changes, the event is fired before anything is
+ * written, so cancelled transactions never have to be restored. All sections
+ * are written before any block callback runs, so the callbacks see the final
+ * state of every changed position. The original of each position is re-read
+ * when it is written, in case an event listener changed it in between.</p>
+ */
+public final class BulkBlockWriter {
+
+    private static final int SECTION_SIZE = 4096;
+
+    private final ServerLevel level;
+    private final SpongeBlockChangeFlag flag;
+    private final Long2ObjectMap<BlockState[]> pending = new Long2ObjectLinkedOpenHashMap<>();
+
+    public BulkBlockWriter(final ServerLevel level, final BlockChangeFlag flag) {
+        this.level = level;
+        this.flag = (SpongeBlockChangeFlag) flag;
+    }
+
+    /**
+     * Gets whether this writer changes the given world with the given flag.
+     *
+     * @param level The world
+     * @param flag The flag
+     * @return Whether the changes would be written by this writer
+     */
+    public boolean writesTo(final ServerLevel level, final BlockChangeFlag flag) {
+        return this.level == level && this.flag.getRawFlag() == ((SpongeBlockChangeFlag) flag).getRawFlag();
+    }
+
+    static int index(final int x, final int y, final int z) {
+        return (y & 15) << 8 | (z & 15) << 4 | x & 15;
+    }
+
+    static int x(final int index) {
+        return index & 15;
+    }
+
+    static int y(final int index) {
+        return index >> 8;
+    }
+
+    static int z(final int index) {
+        return index >> 4 & 15;
+    }
+
+    /**
+     * Queues a block change. Later changes to the same position replace
+     * earlier ones.
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @param z The z coordinate
+     * @param state The new block state
+     * @return Whether the change was queued
+     */
+    public boolean set(final int x, final int y, final int z, final BlockState state) {
+        if (Level.isOutsideBuildHeight(y)) {
+            return false;
+        }
+        final long key = SectionPos.asLong(x >> 4, y >> 4, z >> 4);
+        BlockState[] states = this.pending.get(key);
+        if (states == null) {
+            states = new BlockState[BulkBlockWriter.SECTION_SIZE];
+            this.pending.put(key, states);
+        }
+        states[BulkBlockWriter.index(x, y, z)] = state;
+        return true;
+    }
+
+    /**
+     * Applies all queued changes.
+     *
+     * @return The number of blocks changed
+     */
+    public int apply() {
+        if (this.pending.isEmpty()) {
+            return 0;
+        }
+        if (((LevelBridge) this.level).bridge$isFake()) {
+            return this.applyIndividually();
+        }
+        if (!PhaseTracker.SERVER.onSidedThread()) {
+            throw new UnsupportedOperationException("Cannot perform a bulk block change on a ServerWorld while not on the main thread!");
+        }
+
+        final List<SectionChanges> changes = this.collectChanges();
+        this.pending.clear();
+        if (changes.isEmpty()) {
+            return 0;
+        }
+        if (ShouldFire.CHANGE_BLOCK_EVENT_ALL && !this.postEvent(changes)) {
+            return 0;
+        }
+
+        int changed = 0;
+        for (final SectionChanges section : changes) {
+            changed += this.writeStates(section);
+        }
+        for (final SectionChanges section : changes) {
+            this.runCallbacks(section);
+        }
+        return changed;
+    }
+
+    private int applyIndividually() {
+        int changed = 0;
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (final Long2ObjectMap.Entry<BlockState[]> entry : this.pending.long2ObjectEntrySet()) {
+            final long key = entry.getLongKey();
+            final BlockState[] states = entry.getValue();
+            for (int i = 0; i < BulkBlockWriter.SECTION_SIZE; i++) {
+                if (states[i] != null) {
+                    pos.set(SectionPos.sectionToBlockCoord(SectionPos.x(key)) + BulkBlockWriter.x(i),
+                        SectionPos.sectionToBlockCoord(SectionPos.y(key)) + BulkBlockWriter.y(i),
+                        SectionPos.sectionToBlockCoord(SectionPos.z(key)) + BulkBlockWriter.z(i));
+                    if (this.level.setBlock(pos, states[i], this.flag.getRawFlag())) {
+                        changed++;
+                    }
+                }
+            }
+        }
+        this.pending.clear();
+        return changed;
+    }
+
+    private List<SectionChanges> collectChanges() {
+        final List<SectionChanges> changes = new ArrayList<>(this.pending.size());
+        int offset = 0;
+        for (final Long2ObjectMap.Entry<BlockState[]> entry : this.pending.long2ObjectEntrySet()) {
+            final long key = entry.getLongKey();
+            final LevelChunk chunk = this.level.getChunk(SectionPos.x(key), SectionPos.z(key));
+            final @Nullable LevelChunkSection section = chunk.getSections()[SectionPos.y(key)];
+            final BlockState[] states = entry.getValue();
+            final SectionChanges sectionChanges = new SectionChanges(chunk, SectionPos.of(key), offset);
+            for (int i = 0; i < BulkBlockWriter.SECTION_SIZE; i++) {
+                final BlockState state = states[i];
+                if (state == null) {
+                    continue;
+                }
+                final BlockState current = section == LevelChunk.EMPTY_SECTION
+                    ? Blocks.AIR.defaultBlockState()
+                    : section.getBlockState(BulkBlockWriter.x(i), BulkBlockWriter.y(i), BulkBlockWriter.z(i));
+                if (current != state) {
+                    sectionChanges.add(i, current, state);
+                }
+            }
+            if (sectionChanges.size > 0) {
+                changes.add(sectionChanges);
+                offset += sectionChanges.size;
+            }
+        }
+        return changes;
+    }
+
+    private boolean postEvent(final List<SectionChanges> changes) {
+        final LazyTransactions transactions = new LazyTransactions(changes, this::createTransaction);
+        final ChangeBlockEvent.All event = SpongeEventFactory.createChangeBlockEventAll(PhaseTracker.getCauseStackManager().currentCause(),
+            transactions, (ServerWorld) this.level);
+        if (SpongeCommon.post(event)) {
+            return false;
+        }
+        transactions.applyResults();
+        return true;
+    }
+
+    private BlockTransaction createTransaction(final SectionChanges section, final int i) {
+        final BlockPos pos = section.blockPos(i);
+        final SpongeBlockSnapshot original = ((TrackedWorldBridge) this.level).bridge$createSnapshot(section.originals[i], pos, this.flag);
+        final SpongeBlockSnapshot replacement = SpongeBlockSnapshot.BuilderImpl.pooled()
+            .reset()
+            .blockState(section.replacements[i])
+            .world(this.level)
+            .position(new Vector3i(pos.getX(), pos.getY(), pos.getZ()))
+            .flag(this.flag)
+            .build();
+        return new BlockTransaction(original, replacement, ImmutableList.of(),
+            PhaseTracker.getInstance().getPhaseContext().getBlockOperation(original, replacement));
+    }
+
+    private int writeStates(final SectionChanges changes) {
+        final LevelChunk chunk = changes.chunk;
+        final SectionPos sectionPos = changes.pos;
+        final LevelChunkSection[] sections = chunk.getSections();
+        LevelChunkSection section = sections[sectionPos.y()];
+        if (section == LevelChunk.EMPTY_SECTION) {
+            section = new LevelChunkSection(sectionPos.minBlockY());
+            sections[sectionPos.y()] = section;
+        }
+        final boolean wasEmpty = section.isEmpty();
+        final Map<Heightmap.Types, Heightmap> heightmaps = ((LevelChunkAccessor) chunk).accessor$heightmaps();
+        final List<BlockPos> lightChecks = new ArrayList<>();
+
+        int changed = 0;
+        for (int i = 0; i < changes.size; i++) {
+            final @Nullable BlockState state = changes.replacements[i];
+            if (state == null) {
+                continue;
+            }
+            final int index = changes.indices[i];
+            final int x = BulkBlockWriter.x(index);
+            final int y = BulkBlockWriter.y(index);
+            final int z = BulkBlockWriter.z(index);
+            // The main thread owns the section, so the palette lock can be skipped
+            final BlockState previous = section.setBlockState(x, y, z, state, false);
+            if (previous == state) {
+                changes.replacements[i] = null;
+                continue;
+            }
+            // An event listener may have changed this position since the changes were collected
+            changes.originals[i] = previous;
+            final int blockY = sectionPos.minBlockY() + y;
+            heightmaps.get(Heightmap.Types.MOTION_BLOCKING).update(x, blockY, z, state);
+            heightmaps.get(Heightmap.Types.MOTION_BLOCKING_NO_LEAVES).update(x, blockY, z, state);
+            heightmaps.get(Heightmap.Types.OCEAN_FLOOR).update(x, blockY, z, state);
+            heightmaps.get(Heightmap.Types.WORLD_SURFACE).update(x, blockY, z, state);
+            if (this.flag.updateLighting()) {
+                final BlockPos pos = new BlockPos(sectionPos.minBlockX() + x, blockY, sectionPos.minBlockZ() + z);
+                if (state.getLightBlock(this.level, pos) != previous.getLightBlock(this.level, pos)
+                    || state.getLightEmission() != previous.getLightEmission()
+                    || state.useShapeForLightOcclusion()
+                    || previous.useShapeForLightOcclusion()) {
+                    lightChecks.add(pos);
+                }
+            }
+            changed++;
+        }
+        if (changed == 0) {
+            return 0;
+        }
+        final ThreadedLevelLightEngine lightEngine = this.level.getChunkSource().getLightEngine();
+        final boolean isEmpty = section.isEmpty();
+        if (wasEmpty != isEmpty) {
+            lightEngine.updateSectionStatus(sectionPos, isEmpty);
+        }
+        if (!lightChecks.isEmpty()) {
+            ((ThreadedLevelLightEngineBridge) lightEngine).bridge$checkBlocks(sectionPos, lightChecks);
+        }
+        chunk.markUnsaved();
+        return changed;
+    }
+
+    private void runCallbacks(final SectionChanges changes) {
+        final LevelChunk chunk = changes.chunk;
+        final SectionPos sectionPos = changes.pos;
+        final boolean notifyClients = this.flag.notifyClients() && chunk.getFullStatus().isOrAfter(ChunkHolder.FullChunkStatus.TICKING);
+        final int nestedFlag = this.flag.asNestedNeighborUpdates().getRawFlag();
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int i = 0; i < changes.size; i++) {
+            final @Nullable BlockState state = changes.replacements[i];
+            if (state == null) {
+                continue;
+            }
+            final BlockState original = changes.originals[i];
+            final int index = changes.indices[i];
+            pos.set(sectionPos.minBlockX() + BulkBlockWriter.x(index), sectionPos.minBlockY() + BulkBlockWriter.y(index),
+                sectionPos.minBlockZ() + BulkBlockWriter.z(index));
+            final BlockPos immutable = pos.immutable();
+
+            this.level.onBlockStateChange(immutable, original, state);
+            original.onRemove(this.level, immutable, state, this.flag.movingBlocks());
+            if (this.flag.performBlockPhysics()) {
+                state.onPlace(this.level, immutable, original, this.flag.movingBlocks());
+            }
+            if (((BlockStateBridge) state).bridge$hasTileEntity()) {
+                final @Nullable BlockEntity blockEntity = chunk.getBlockEntity(immutable, LevelChunk.EntityCreationType.CHECK);
+                if (blockEntity == null) {
+                    this.level.setBlockEntity(immutable, ((BlockStateBridge) state).bridge$createNewTileEntity(this.level));
+                } else {
+                    blockEntity.clearCache();
+                }
+            }
+
+            if (notifyClients) {
+                this.level.sendBlockUpdated(immutable, original, state, this.flag.getRawFlag());
+            }
+            if (this.flag.updateNeighbors()) {
+                this.level.blockUpdated(immutable, original.getBlock());
+                if (state.hasAnalogOutputSignal()) {
+                    this.level.updateNeighbourForOutputSignal(immutable, state.getBlock());
+                }
+            }
+            if (this.flag.updateNeighboringShapes()) {
+                original.updateIndirectNeighbourShapes(this.level, immutable, nestedFlag, 511);
+                state.updateNeighbourShapes(this.level, immutable, nestedFlag, 511);
+                state.updateIndirectNeighbourShapes(this.level, immutable, nestedFlag, 511);
+            }
+        }
+    }
+
+    /**
+     * The changes to a single chunk section, in palette index order.
+     */
+    static final class SectionChanges {
+
+        final LevelChunk chunk;
+        final SectionPos pos;
+        final int offset;
+        short[] indices = new short[64];
+        BlockState[] originals = new BlockState[64];
+        @Nullable BlockState[] replacements = new BlockState[64];
+        int size;
+
+        SectionChanges(final LevelChunk chunk, final SectionPos pos, final int offset) {
+            this.chunk = chunk;
+            this.pos = pos;
+            this.offset = offset;
+        }
+
+        void add(final int index, final BlockState original, final BlockState replacement) {
+            if (this.size == this.indices.length) {
+                this.indices = Arrays.copyOf(this.indices, this.size * 2);
+                this.originals = Arrays.copyOf(this.originals, this.size * 2);
+                this.replacements = Arrays.copyOf(this.replacements, this.size * 2);
+            }
+            this.indices[this.size] = (short) index;
+            this.originals[this.size] = original;
+            this.replacements[this.size] = replacement;
+            this.size++;
+        }
+
+        BlockPos blockPos(final int i) {
+            final int index = this.indices[i];
+            return new BlockPos(this.pos.minBlockX() + BulkBlockWriter.x(index), this.pos.minBlockY() + BulkBlockWriter.y(index),
+                this.pos.minBlockZ() + BulkBlockWriter.z(index));
+        }
+    }
+
+    /**
+     * The transactions of the event, created on first access. Transactions
+     * never read by a listener are applied as proposed.
+     */
+    static final class LazyTransactions extends AbstractList<BlockTransaction> implements RandomAccess {
+
+        private final SectionChanges[] sections;
+        private final BiFunction<SectionChanges, Integer, BlockTransaction> factory;
+        private final @Nullable BlockTransaction[] transactions;
+
+        LazyTransactions(final List<SectionChanges> sections, final BiFunction<SectionChanges, Integer, BlockTransaction> factory) {
+            this.sections = sections.toArray(new SectionChanges[0]);
+            this.factory = factory;
+            final SectionChanges last = this.sections[this.sections.length - 1];
+            this.transactions = new BlockTransaction[last.offset + last.size];
+        }
+
+        private SectionChanges section(final int index) {
+            int low = 0;
+            int high = this.sections.length - 1;
+            while (low < high) {
+                final int mid = (low + high + 1) >>> 1;
+                if (this.sections[mid].offset <= index) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return this.sections[low];
+        }
+
+        @Override
+        public BlockTransaction get(final int index) {
+            BlockTransaction transaction = this.transactions[index];
+            if (transaction == null) {
+                final SectionChanges section = this.section(index);
+                transaction = this.factory.apply(section, index - section.offset);
+                this.transactions[index] = transaction;
+            }
+            return transaction;
+        }
+
+        @Override
+        public int size() {
+            return this.transactions.length;
+        }
+
+        void applyResults() {
+            for (int index = 0; index < this.transactions.length; index++) {
+                final @Nullable BlockTransaction transaction = this.transactions[index];
+                if (transaction == null) {
+                    continue;
+                }
+                final SectionChanges section = this.section(index);
+                final int i = index - section.offset;
+                if (!transaction.isValid()) {
+                    section.replacements[i] = null;
+                } else if (transaction.custom().isPresent()) {
+                    final BlockState custom = ((SpongeBlockSnapshot) transaction.finalReplacement()).nativeState();
+                    section.replacements[i] = custom == section.originals[i] ? null : custom;
+                }
+            }
+        }
+    }
+}
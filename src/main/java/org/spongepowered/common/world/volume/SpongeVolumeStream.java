@@ -24,8 +24,11 @@
  */
 package org.spongepowered.common.world.volume;
 
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.event.EventContextKeys;
 import org.spongepowered.api.world.volume.MutableVolume;
 import org.spongepowered.api.world.volume.Volume;
@@ -47,6 +50,7 @@
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class SpongeVolumeStream<V extends Volume, T> implements VolumeStream<V, T> {
@@ -206,18 +210,28 @@ public Stream<VolumeElement<V, T>> toStream() {
 
     @Override
     public <W extends MutableVolume> void apply(final VolumeCollector<W, T, ?> collector) {
+        // Parallel streams are evaluated on the fork-join pool first, the
+        // mutations themselves always stay on the calling thread.
+        final PeekingIterator<VolumeElement<V, T>> elements = Iterators.peekingIterator(this.stream.isParallel()
+            ? this.stream.collect(Collectors.toList()).iterator()
+            : this.stream.iterator());
+        // Only streams of block states are written in bulk. Other applicators,
+        // like the one of block entity archetypes, read back what they set.
+        final boolean bulkBlockWrites = elements.hasNext() && elements.peek().type() instanceof BlockState;
         final PhaseTracker instance = PhaseTracker.getInstance();
         try (final @Nullable PhaseContext<@NonNull ?> context = instance.getPhaseContext().isApplyingStreams()
             ? null
             : PluginPhase.State.VOLUME_STREAM_APPLICATION
                 .createPhaseContext(instance)
                 .setVolumeStream(this)
+                .bulkBlockWrites(bulkBlockWrites)
                 .spawnType(() -> PhaseTracker.getCauseStackManager().context(EventContextKeys.SPAWN_TYPE).orElse(null))
         ) {
             if (context != null) {
                 context.buildAndSwitch();
             }
-            this.stream.forEach(element -> {
+            while (elements.hasNext()) {
+                final VolumeElement<V, T> element = elements.next();
                 final W targetVolume = collector.target().get();
                 final VolumeElement<W, T> transformed = collector.positionTransform().apply(VolumeElement.of(
                     collector.target(),
@@ -226,7 +240,7 @@ public <W extends MutableVolume> void apply(final VolumeCollector<W, T, ?> colle
                 ));
                 collector.applicator()
                     .apply(targetVolume, transformed);
-            });
+            }
         }
     }
 
@@ -249,7 +263,7 @@ public <W extends MutableVolume, R> void applyUntil(final VolumeCollector<W, T,
 
     @Override
     public void forEach(final VolumeConsumer<V, T> visitor) {
-        this.stream.forEach(element -> visitor.consume(
+        this.stream.forEachOrdered(element -> visitor.consume(
             element.volume(),
             element.type(),
             element.position().x(),
@@ -260,7 +274,7 @@ public void forEach(final VolumeConsumer<V, T> visitor) {
 
     @Override
     public void forEach(final Consumer<VolumeElement<V, T>> consumer) {
-        this.stream.forEach(consumer);
+        this.stream.forEachOrdered(consumer);
     }
 
 }
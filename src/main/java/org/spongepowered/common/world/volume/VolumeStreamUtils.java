@@ -34,6 +34,7 @@
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelReader;
 import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.ChunkAccess;
@@ -62,14 +63,17 @@
 import org.spongepowered.common.world.volume.buffer.block.ArrayMutableBlockBuffer;
 import org.spongepowered.common.world.volume.buffer.blockentity.ObjectArrayMutableBlockEntityBuffer;
 import org.spongepowered.common.world.volume.buffer.entity.ObjectArrayMutableEntityBuffer;
+import org.spongepowered.common.world.volume.stream.SpongeStreamOptions;
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
 
 import java.lang.ref.WeakReference;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -132,32 +136,27 @@ public static <T> Predicate<T> filterPositions(final Function<T, Vector3i> pos,
         final boolean shouldGenerate
     ) {
         final Supplier<LevelReader> readerSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier(worldReader, "IWorldReader");
-        return (world, chunkPos) -> {
-            final ChunkStatus chunkStatus = shouldGenerate
-                ? ChunkStatus.FULL
-                : ChunkStatus.EMPTY;
-            final @Nullable ChunkAccess ichunk = readerSupplier.get().getChunk(chunkPos.x, chunkPos.z, chunkStatus, shouldGenerate);
-            if (shouldGenerate) {
-                Objects.requireNonNull(ichunk, "Chunk was expected to load fully and generate, but somehow got a null chunk!");
-            }
-            if (ichunk instanceof ImposterProtoChunk) {
-                return ((ImposterProtoChunk) ichunk).getWrapped();
-            }
-            return (ChunkAccess) ichunk;
-        };
+        return (world, chunkPos) -> VolumeStreamUtils.getChunk(readerSupplier.get(), chunkPos.x, chunkPos.z, shouldGenerate);
     }
 
-    public static Function<ChunkAccess, Stream<Map.Entry<BlockPos, Biome>>> getBiomesForChunkByPos(final LevelReader reader, final Vector3i min,
-        final Vector3i max
-    ) {
-        return VolumeStreamUtils.getElementByPosition(VolumeStreamUtils.chunkSectionBiomeGetter().asTri(reader), min, max);
+    private static @Nullable ChunkAccess getChunk(final LevelReader reader, final int chunkX, final int chunkZ, final boolean shouldGenerate) {
+        final ChunkStatus chunkStatus = shouldGenerate
+            ? ChunkStatus.FULL
+            : ChunkStatus.EMPTY;
+        final @Nullable ChunkAccess ichunk = reader.getChunk(chunkX, chunkZ, chunkStatus, shouldGenerate);
+        if (shouldGenerate) {
+            Objects.requireNonNull(ichunk, "Chunk was expected to load fully and generate, but somehow got a null chunk!");
+        }
+        if (ichunk instanceof ImposterProtoChunk) {
+            return ((ImposterProtoChunk) ichunk).getWrapped();
+        }
+        return ichunk;
     }
 
-    public static Function<ChunkAccess, Stream<Map.Entry<BlockPos, BlockState>>> getBlockStatesForSections(
-        final Vector3i min,
+    public static Function<ChunkAccess, Stream<Map.Entry<BlockPos, Biome>>> getBiomesForChunkByPos(final LevelReader reader, final Vector3i min,
         final Vector3i max
     ) {
-        return VolumeStreamUtils.getElementByPosition(VolumeStreamUtils.chunkSectionBlockStateGetter(), min, max);
+        return VolumeStreamUtils.getElementByPosition(VolumeStreamUtils.chunkSectionBiomeGetter().asTri(reader), min, max);
     }
 
     public static boolean setBiomeOnNativeChunk(final int x, final int y, final int z,
@@ -329,6 +328,144 @@ public static boolean setBiome(@Nullable ChunkBiomeContainer biomeContainer,
         return true;
     }
 
+    /**
+     * Visits every block within the given bounds without allocating a position
+     * or element per block. Chunks that are not available under the loading
+     * style of the provided {@link StreamOptions options} are skipped.
+     *
+     * <p>Blocks are visited section by section in the same order they are laid
+     * out in the section's palette storage, y first, then z, then x.</p>
+     *
+     * @param reader The reader to iterate
+     * @param min The minimum position, inclusive
+     * @param max The maximum position, inclusive
+     * @param options The stream options, only the loading style is considered
+     * @param visitor The visitor
+     */
+    public static void forEachBlock(final LevelReader reader, final Vector3i min, final Vector3i max, final StreamOptions options,
+        final BlockStateVisitor visitor
+    ) {
+        VolumeStreamUtils.forEachBlock(reader, min, max, options, null, visitor);
+    }
+
+    /**
+     * Visits every block within the given bounds matching the given filter.
+     * Any section whose palette has no entry matching the filter is skipped
+     * without reading its block storage, as are sections that were never
+     * allocated when the filter rejects air.
+     *
+     * @param reader The reader to iterate
+     * @param min The minimum position, inclusive
+     * @param max The maximum position, inclusive
+     * @param options The stream options, only the loading style is considered
+     * @param filter The filter blocks must match to be visited, or null to visit all
+     * @param visitor The visitor
+     */
+    public static void forEachBlock(final LevelReader reader, final Vector3i min, final Vector3i max, final StreamOptions options,
+        final @Nullable Predicate<BlockState> filter, final BlockStateVisitor visitor
+    ) {
+        VolumeStreamUtils.validateStreamArgs(Objects.requireNonNull(min, "min"), Objects.requireNonNull(max, "max"),
+            Objects.requireNonNull(options, "options"));
+        Objects.requireNonNull(visitor, "visitor");
+        VolumeStreamUtils.forEachSection(reader, min, max, options.loadingStyle().generateArea(),
+            (chunkMinX, chunkMinZ, sectionY, section) -> VolumeStreamUtils.forEachBlockInSection(chunkMinX, chunkMinZ, sectionY, section,
+                min, max, filter, visitor));
+    }
+
+    /**
+     * Visits the blocks of a single section within the given bounds, y first,
+     * then z, then x. A section that was never allocated is visited as air.
+     */
+    static void forEachBlockInSection(final int chunkMinX, final int chunkMinZ, final int sectionY,
+        final @Nullable LevelChunkSection section, final Vector3i min, final Vector3i max, final @Nullable Predicate<BlockState> filter,
+        final BlockStateVisitor visitor
+    ) {
+        final BlockState air = Blocks.AIR.defaultBlockState();
+        if (filter != null && (section == null ? !filter.test(air) : !section.maybeHas(filter))) {
+            return;
+        }
+        final int xStart = Math.max(min.x(), chunkMinX) & 15;
+        final int xEnd = Math.min(max.x(), chunkMinX + 15) & 15;
+        final int yStart = Math.max(min.y(), sectionY) & 15;
+        final int yEnd = Math.min(max.y(), sectionY + 15) & 15;
+        final int zStart = Math.max(min.z(), chunkMinZ) & 15;
+        final int zEnd = Math.min(max.z(), chunkMinZ + 15) & 15;
+        for (int y = yStart; y <= yEnd; y++) {
+            for (int z = zStart; z <= zEnd; z++) {
+                for (int x = xStart; x <= xEnd; x++) {
+                    final BlockState state = section == null ? air : section.getBlockState(x, y, z);
+                    if (filter == null || filter.test(state)) {
+                        visitor.visit(chunkMinX + x, sectionY + y, chunkMinZ + z, state);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets whether at least half of the sections intersecting the given
+     * bounds hold nothing but air. Chunks that are not loaded are counted as
+     * air instead of being loaded.
+     *
+     * @param reader The reader to check
+     * @param min The minimum position, inclusive
+     * @param max The maximum position, inclusive
+     * @return Whether the bounds are mostly air
+     */
+    public static boolean isMostlyAir(final LevelReader reader, final Vector3i min, final Vector3i max) {
+        final int sectionsY = Math.min(max.y() >> 4, (reader.getMaxBuildHeight() >> 4) - 1) - Math.max(min.y() >> 4, 0) + 1;
+        if (sectionsY <= 0) {
+            return true;
+        }
+        final long sections = (long) ((max.x() >> 4) - (min.x() >> 4) + 1) * ((max.z() >> 4) - (min.z() >> 4) + 1) * sectionsY;
+        final long[] filled = new long[1];
+        VolumeStreamUtils.forEachSection(reader, min, max, false, (chunkMinX, chunkMinZ, sectionY, section) -> {
+            if (!LevelChunkSection.isEmpty(section)) {
+                filled[0]++;
+            }
+        });
+        return filled[0] * 2 <= sections;
+    }
+
+    /**
+     * Walks the sections intersecting the given bounds in the same order as
+     * {@link #generateStream}, chunks along x, then z, then sections from the
+     * bottom up. Sections that were never allocated are passed as null.
+     */
+    private static void forEachSection(final LevelReader reader, final Vector3i min, final Vector3i max, final boolean shouldGenerate,
+        final SectionVisitor visitor
+    ) {
+        for (int chunkX = min.x() >> 4; chunkX <= max.x() >> 4; chunkX++) {
+            for (int chunkZ = min.z() >> 4; chunkZ <= max.z() >> 4; chunkZ++) {
+                final @Nullable ChunkAccess chunk = VolumeStreamUtils.getChunk(reader, chunkX, chunkZ, shouldGenerate);
+                if (chunk != null) {
+                    VolumeStreamUtils.forEachSectionInChunk(chunk, min, max, visitor);
+                }
+            }
+        }
+    }
+
+    private static void forEachSectionInChunk(final ChunkAccess chunk, final Vector3i min, final Vector3i max, final SectionVisitor visitor) {
+        final int minSection = Math.max(min.y() >> 4, 0);
+        final LevelChunkSection[] sections = chunk.getSections();
+        final int maxSection = Math.min(max.y() >> 4, sections.length - 1);
+        final ChunkPos pos = chunk.getPos();
+        for (int sectionIndex = minSection; sectionIndex <= maxSection; sectionIndex++) {
+            visitor.visit(pos.x << 4, pos.z << 4, sectionIndex << 4, sections[sectionIndex]);
+        }
+    }
+
+    private interface SectionVisitor {
+
+        void visit(int chunkMinX, int chunkMinZ, int sectionY, @Nullable LevelChunkSection section);
+    }
+
+    @FunctionalInterface
+    public interface BlockStateVisitor {
+
+        void visit(int x, int y, int z, BlockState state);
+    }
+
     public interface TriFunction<A, B, C, Out> {
         Out apply(A a, B b, C c);
     }
@@ -358,13 +495,6 @@ private static QuadFunction<ChunkAccess, LevelChunkSection, BlockPos, LevelReade
         );
     }
 
-    private static TriFunction<ChunkAccess, LevelChunkSection, BlockPos, BlockState> chunkSectionBlockStateGetter() {
-        return ((chunk, chunkSection, pos) -> chunkSection.getBlockState(
-            pos.getX() - (chunk.getPos().x << 4),
-            pos.getY() & 15,
-            pos.getZ() - (chunk.getPos().z << 4)));
-    }
-
     private static <T> Function<ChunkAccess, Stream<Map.Entry<BlockPos, T>>> getElementByPosition(
         final TriFunction<ChunkAccess, LevelChunkSection, BlockPos, T> elementAccessor, final Vector3i min,
         final Vector3i max
@@ -419,31 +549,158 @@ public static <W extends Region<W>> VolumeStream<W, org.spongepowered.api.block.
         VolumeStreamUtils.validateStreamArgs(Objects.requireNonNull(min, "min"), Objects.requireNonNull(max, "max"),
             Objects.requireNonNull(options, "options"));
 
-        final boolean shouldCarbonCopy = options.carbonCopy();
-        final Vector3i size = max.sub(min).add(1, 1 ,1);
-        final @MonotonicNonNull ArrayMutableBlockBuffer backingVolume;
-        if (shouldCarbonCopy) {
-            backingVolume = new ArrayMutableBlockBuffer(min, size);
-        } else {
-            backingVolume = null;
+        if (SpongeStreamOptions.isParallel(options)) {
+            return VolumeStreamUtils.generateParallelBlockStream(reader, min, max, options);
         }
-        return VolumeStreamUtils.<W, org.spongepowered.api.block.BlockState, net.minecraft.world.level.block.state.BlockState, ChunkAccess, BlockPos>generateStream(
-            min,
-            max,
-            options,
-            // Ref
-            (W) reader,
-            // IdentityFunction
-            VolumeStreamUtils.getOrCopyBlockState(shouldCarbonCopy, backingVolume),
-            // ChunkAccessor
-            VolumeStreamUtils.getChunkAccessorByStatus(reader, options.loadingStyle().generateArea()),
-            // Biome by block position
-            (key, biome) -> key,
-            // Entity Accessor
-            VolumeStreamUtils.getBlockStatesForSections(min, max),
-            // Filtered Position Entity Accessor
-            VolumeStreamUtils.getBlockStateFromThisOrCopiedVolume(shouldCarbonCopy, backingVolume)
-        );
+        final boolean shouldGenerate = options.loadingStyle().generateArea();
+        // Chunks along x, then z, like every other volume stream
+        final Stream<@Nullable ChunkAccess> chunks = IntStream.rangeClosed(min.x() >> 4, max.x() >> 4)
+            .mapToObj(chunkX -> IntStream.rangeClosed(min.z() >> 4, max.z() >> 4)
+                .mapToObj(chunkZ -> VolumeStreamUtils.getChunk(reader, chunkX, chunkZ, shouldGenerate)))
+            .flatMap(Function.identity());
+        return VolumeStreamUtils.generateSectionBlockStream((W) reader, chunks, min, max, options);
+    }
+
+    /**
+     * Generates a block stream reading the states straight from the sections
+     * of the given chunks, without allocating a position or an entry per
+     * block. Sections that were never allocated are skipped. Within each
+     * section the blocks are streamed in storage order, y first, then z, then
+     * x.
+     *
+     * <p>With carbon copying, each section is copied into the backing volume
+     * before its first element is created. With immediate loading, the
+     * chunks are loaded and copied when the stream is created.</p>
+     *
+     * @param ref The volume the elements belong to
+     * @param chunks The chunks to stream, null entries are skipped
+     * @param min The minimum position, inclusive
+     * @param max The maximum position, inclusive
+     * @param options The stream options
+     * @param <R> The volume type
+     * @return The stream
+     */
+    public static <R extends Volume> VolumeStream<R, org.spongepowered.api.block.BlockState> generateSectionBlockStream(final R ref,
+        final Stream<@Nullable ChunkAccess> chunks, final Vector3i min, final Vector3i max, final StreamOptions options
+    ) {
+        final Supplier<R> worldSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier(ref, "World");
+        final @Nullable ArrayMutableBlockBuffer backingVolume = options.carbonCopy()
+            ? new ArrayMutableBlockBuffer(min, max.sub(min).add(1, 1, 1))
+            : null;
+        Stream<SectionSlice> sections = chunks
+            .filter(Objects::nonNull)
+            .flatMap(chunk -> {
+                final List<SectionSlice> slices = new ArrayList<>();
+                VolumeStreamUtils.forEachSectionInChunk(chunk, min, max, (chunkMinX, chunkMinZ, sectionY, section) -> {
+                    if (section != null) {
+                        slices.add(new SectionSlice(chunkMinX, chunkMinZ, section, min, max));
+                    }
+                });
+                return slices.stream();
+            });
+        if (backingVolume != null) {
+            sections = sections.map(slice -> slice.copyTo(backingVolume));
+        }
+        if (options.loadingStyle().immediateLoading()) {
+            final List<SectionSlice> loaded = new ArrayList<>();
+            sections.forEach(loaded::add);
+            sections = loaded.stream();
+        }
+        final Stream<VolumeElement<R, org.spongepowered.api.block.BlockState>> elements = sections
+            .flatMap(slice -> slice.elements(worldSupplier, backingVolume));
+        return new SpongeVolumeStream<>(elements, worldSupplier);
+    }
+
+    /**
+     * The part of a chunk section within the bounds of a block stream.
+     */
+    private static final class SectionSlice {
+
+        private final int chunkMinX;
+        private final int chunkMinZ;
+        private final LevelChunkSection section;
+        private final Vector3i min;
+        private final Vector3i max;
+        private final int xStart;
+        private final int yStart;
+        private final int zStart;
+        private final int sizeX;
+        private final int sizeY;
+        private final int sizeZ;
+
+        SectionSlice(final int chunkMinX, final int chunkMinZ, final LevelChunkSection section, final Vector3i min, final Vector3i max) {
+            this.chunkMinX = chunkMinX;
+            this.chunkMinZ = chunkMinZ;
+            this.section = section;
+            this.min = min;
+            this.max = max;
+            final int sectionY = section.bottomBlockY();
+            this.xStart = Math.max(min.x(), chunkMinX);
+            this.yStart = Math.max(min.y(), sectionY);
+            this.zStart = Math.max(min.z(), chunkMinZ);
+            this.sizeX = Math.min(max.x(), chunkMinX + 15) - this.xStart + 1;
+            this.sizeY = Math.min(max.y(), sectionY + 15) - this.yStart + 1;
+            this.sizeZ = Math.min(max.z(), chunkMinZ + 15) - this.zStart + 1;
+        }
+
+        SectionSlice copyTo(final ArrayMutableBlockBuffer backingVolume) {
+            VolumeStreamUtils.forEachBlockInSection(this.chunkMinX, this.chunkMinZ, this.section.bottomBlockY(), this.section,
+                this.min, this.max, null, (x, y, z, state) -> backingVolume.setBlock(x, y, z, (org.spongepowered.api.block.BlockState) state));
+            return this;
+        }
+
+        <R extends Volume> Stream<VolumeElement<R, org.spongepowered.api.block.BlockState>> elements(final Supplier<R> worldSupplier,
+            final @Nullable ArrayMutableBlockBuffer backingVolume
+        ) {
+            return IntStream.range(0, this.sizeX * this.sizeY * this.sizeZ)
+                .mapToObj(index -> {
+                    final int x = this.xStart + index % this.sizeX;
+                    final int y = this.yStart + index / (this.sizeX * this.sizeZ);
+                    final int z = this.zStart + (index / this.sizeX) % this.sizeZ;
+                    final org.spongepowered.api.block.BlockState state = backingVolume != null
+                        ? backingVolume.block(x, y, z)
+                        : (org.spongepowered.api.block.BlockState) this.section.getBlockState(x & 15, y & 15, z & 15);
+                    return VolumeElement.of(worldSupplier, () -> state, new Vector3d(x, y, z));
+                });
+        }
+    }
+
+    /**
+     * Generates a block stream whose sections are processed on the common
+     * fork-join pool. The calling thread only copies the packed storage and
+     * palette of every section intersecting the bounds into a
+     * {@link BlockSectionSnapshot}, so the stream is always loaded immediately
+     * and already detached from the world, regardless of carbon copying. Each
+     * worker then decodes the states of its own sections, and as the
+     * snapshots are kept in chunk order the elements retain the same
+     * encounter order as the sequential stream.
+     *
+     * <p>Applying the stream to a volume happens back on the calling thread,
+     * see {@link SpongeVolumeStream#apply}.</p>
+     */
+    @SuppressWarnings("unchecked")
+    private static <W extends Region<W>> VolumeStream<W, org.spongepowered.api.block.BlockState> generateParallelBlockStream(
+        final LevelReader reader, final Vector3i min, final Vector3i max, final StreamOptions options
+    ) {
+        final Supplier<W> worldSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier((W) reader, "World");
+        final List<BlockSectionSnapshot> snapshots = new ArrayList<>();
+        VolumeStreamUtils.forEachSection(reader, min, max, options.loadingStyle().generateArea(),
+            (chunkMinX, chunkMinZ, sectionY, section) -> {
+                if (section != null) {
+                    snapshots.add(new BlockSectionSnapshot(chunkMinX, chunkMinZ, section, min, max));
+                }
+            });
+
+        final Stream<VolumeElement<W, org.spongepowered.api.block.BlockState>> elements = snapshots.parallelStream()
+            .flatMap(snapshot -> {
+                final BlockState[] states = snapshot.read();
+                return IntStream.range(0, states.length)
+                    .mapToObj(index -> {
+                        final org.spongepowered.api.block.BlockState state = (org.spongepowered.api.block.BlockState) states[index];
+                        return VolumeElement.of(worldSupplier, () -> state, new Vector3d(snapshot.x(index), snapshot.y(index), snapshot.z(index)));
+                    });
+            });
+        return new SpongeVolumeStream<>(elements, worldSupplier);
     }
 
     public static <R extends Region<R>> VolumeStream<R, BlockEntity> getBlockEntityStream(final LevelReader reader, final Vector3i min, final Vector3i max, final StreamOptions options) {
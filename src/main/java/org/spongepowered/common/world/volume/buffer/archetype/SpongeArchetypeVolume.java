@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.world.volume.buffer.archetype;
 
+import net.minecraft.server.level.ServerLevel;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockState;
@@ -52,6 +53,7 @@
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.common.world.volume.BulkBlockWriter;
 import org.spongepowered.common.world.volume.SpongeVolumeStream;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 import org.spongepowered.common.world.volume.buffer.AbstractVolumeBuffer;
@@ -59,6 +61,7 @@
 import org.spongepowered.common.world.volume.buffer.archetype.entity.ObjectArrayMutableEntityArchetypeBuffer;
 import org.spongepowered.common.world.volume.buffer.biome.ByteArrayMutableBiomeBuffer;
 import org.spongepowered.common.world.volume.buffer.block.ArrayMutableBlockBuffer;
+import org.spongepowered.common.world.volume.buffer.block.BlockBackingData;
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
 
@@ -80,8 +83,14 @@ public class SpongeArchetypeVolume extends AbstractVolumeBuffer implements Arche
     private final ObjectArrayMutableEntityArchetypeBuffer entities;
 
     public SpongeArchetypeVolume(final Vector3i start, final Vector3i size, final RegistryHolder registries) {
+        this(start, size, registries, BlockBackingData.Factory.PACKED);
+    }
+
+    public SpongeArchetypeVolume(final Vector3i start, final Vector3i size, final RegistryHolder registries,
+        final BlockBackingData.Factory blockData
+    ) {
         super(start, size);
-        final ArrayMutableBlockBuffer blocks = new ArrayMutableBlockBuffer(start, size);
+        final ArrayMutableBlockBuffer blocks = new ArrayMutableBlockBuffer(start, size, blockData);
         this.blocks = blocks;
         this.blockEntities = new MutableMapBlockEntityArchetypeBuffer(blocks);
         this.biomes = new ByteArrayMutableBiomeBuffer(
@@ -92,6 +101,25 @@ public SpongeArchetypeVolume(final Vector3i start, final Vector3i size, final Re
         this.entities = new ObjectArrayMutableEntityArchetypeBuffer(start, size);
     }
 
+    /**
+     * Creates a volume around already populated block and biome buffers,
+     * which must both span the given start and size.
+     *
+     * @param start The start position
+     * @param size The size
+     * @param blocks The block buffer
+     * @param biomes The biome buffer
+     */
+    public SpongeArchetypeVolume(final Vector3i start, final Vector3i size, final ArrayMutableBlockBuffer blocks,
+        final ByteArrayMutableBiomeBuffer biomes
+    ) {
+        super(start, size);
+        this.blocks = blocks;
+        this.blockEntities = new MutableMapBlockEntityArchetypeBuffer(blocks);
+        this.biomes = biomes;
+        this.entities = new ObjectArrayMutableEntityArchetypeBuffer(start, size);
+    }
+
     private SpongeArchetypeVolume(final Vector3i start, final Vector3i size, final Palette<Biome, Biome> biomePalette) {
         super(start, size);
         final ArrayMutableBlockBuffer blocks = new ArrayMutableBlockBuffer(start, size);
@@ -271,12 +299,18 @@ public void applyToWorld(
             .spawnType(spawnContext)
             .source(this)) {
             context.buildAndSwitch();
-            this.blockStateStream(this.min(), this.max(), StreamOptions.lazily())
-                .apply(VolumeCollectors.of(
-                    target,
-                    VolumePositionTranslators.relativeTo(placement),
-                    VolumeApplicators.applyBlocks(BlockChangeFlags.DEFAULT_PLACEMENT)
-                ));
+            final BulkBlockWriter writer = new BulkBlockWriter((ServerLevel) target, BlockChangeFlags.DEFAULT_PLACEMENT);
+            final Vector3i min = this.min();
+            final Vector3i max = this.max();
+            for (int y = min.y(); y <= max.y(); y++) {
+                for (int z = min.z(); z <= max.z(); z++) {
+                    for (int x = min.x(); x <= max.x(); x++) {
+                        writer.set(x + placement.x(), y + placement.y(), z + placement.z(),
+                            (net.minecraft.world.level.block.state.BlockState) this.blocks.block(x, y, z));
+                    }
+                }
+            }
+            writer.apply();
 
             this.biomeStream(this.min(), this.max(), StreamOptions.lazily())
                 .apply(VolumeCollectors.of(
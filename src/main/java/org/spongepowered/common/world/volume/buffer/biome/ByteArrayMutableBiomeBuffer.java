@@ -36,6 +36,7 @@
 import org.spongepowered.api.world.volume.stream.VolumeStream;
 import org.spongepowered.common.world.volume.SpongeVolumeStream;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
+import org.spongepowered.common.world.volume.buffer.block.BlockBackingData;
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
 
@@ -46,11 +47,16 @@
 import java.util.stream.Stream;
 
 /**
- * Mutable biome volume backed by a byte array.
+ * Mutable biome volume backed by a byte array. Once the palette assigns an
+ * id above 255 the ids are widened into {@link BlockBackingData}, the same
+ * way block buffers grow their id width.
  */
 public final class ByteArrayMutableBiomeBuffer extends AbstractBiomeBuffer implements BiomeVolume.Mutable {
 
-    private final byte[] biomes;
+    private static final int MAX_BYTE_ID = 255;
+
+    private byte @Nullable [] biomes;
+    private @Nullable BlockBackingData wideBiomes;
     private final Palette.Mutable<Biome, Biome> palette;
 
     public ByteArrayMutableBiomeBuffer(final Palette<Biome, Biome> palette, final Vector3i start, final Vector3i size) {
@@ -63,20 +69,63 @@ public ByteArrayMutableBiomeBuffer(final Palette<Biome, Biome> palette, final by
         this.palette = palette.asMutable(Sponge.game());
     }
 
+    /**
+     * Does not clone!
+     *
+     * @param palette The palette
+     * @param biomes The backing data
+     * @param start The start block position
+     * @param size The block size
+     */
+    public ByteArrayMutableBiomeBuffer(final Palette<Biome, Biome> palette, final BlockBackingData biomes, final Vector3i start, final Vector3i size) {
+        super(start, size);
+        this.wideBiomes = biomes;
+        this.palette = palette.asMutable(Sponge.game());
+    }
+
     @Override
     public boolean setBiome(final int x, final int y, final int z, final Biome biome) {
         this.checkRange(x, y, z);
 
-        this.biomes[this.getIndex(x, y, z)] = (byte) this.palette.orAssign(biome);
+        final int id = this.palette.orAssign(biome);
+        final int index = this.getIndex(x, y, z);
+        if (this.wideBiomes == null && id > ByteArrayMutableBiomeBuffer.MAX_BYTE_ID) {
+            this.widen();
+        }
+        if (this.wideBiomes != null) {
+            if (id > this.wideBiomes.getMax()) {
+                this.wideBiomes = this.wideBiomes.withMax(this.palette.highestId());
+            }
+            this.wideBiomes.set(index, id);
+        } else {
+            this.biomes[index] = (byte) id;
+        }
         return true;
     }
 
+    private void widen() {
+        final byte[] biomes = this.biomes;
+        final BlockBackingData wideBiomes = new BlockBackingData.PackedBackingData(biomes.length, this.palette.highestId());
+        for (int i = 0; i < biomes.length; i++) {
+            wideBiomes.set(i, biomes[i] & ByteArrayMutableBiomeBuffer.MAX_BYTE_ID);
+        }
+        this.wideBiomes = wideBiomes;
+        this.biomes = null;
+    }
+
+    private static int biomeId(final byte @Nullable [] biomes, final @Nullable BlockBackingData wideBiomes, final int index) {
+        if (wideBiomes != null) {
+            return wideBiomes.get(index);
+        }
+        return biomes[index] & ByteArrayMutableBiomeBuffer.MAX_BYTE_ID;
+    }
+
     @Override
     public Biome biome(final int x, final int y, final int z) {
         this.checkRange(x, y, z);
 
-        final byte biomeId = this.biomes[this.getIndex(x, y, z)];
-        return this.palette.get(biomeId & 255, Sponge.server())
+        final int biomeId = ByteArrayMutableBiomeBuffer.biomeId(this.biomes, this.wideBiomes, this.getIndex(x, y, z));
+        return this.palette.get(biomeId, Sponge.server())
             .orElseGet(() -> Biomes.OCEAN.get(Sponge.server())
             );
     }
@@ -94,6 +143,7 @@ public boolean equals(final @Nullable Object o) {
         }
         final ByteArrayMutableBiomeBuffer that = (ByteArrayMutableBiomeBuffer) o;
         return Arrays.equals(this.biomes, that.biomes) &&
+               Objects.equals(this.wideBiomes, that.wideBiomes) &&
                this.palette.equals(that.palette);
     }
 
@@ -101,6 +151,7 @@ public boolean equals(final @Nullable Object o) {
     public int hashCode() {
         int result = Objects.hash(super.hashCode(), this.palette);
         result = 31 * result + Arrays.hashCode(this.biomes);
+        result = 31 * result + Objects.hashCode(this.wideBiomes);
         return result;
     }
 
@@ -113,18 +164,21 @@ public VolumeStream<BiomeVolume.Mutable, Biome> biomeStream(
         final Vector3i blockMin = this.min();
         final Vector3i blockMax = this.max();
         VolumeStreamUtils.validateStreamArgs(min, max, blockMin, blockMax, options);
-        final byte[] biomes;
+        final byte @Nullable [] biomes;
+        final @Nullable BlockBackingData wideBiomes;
         if (options.carbonCopy()) {
-            biomes = Arrays.copyOf(this.biomes, this.biomes.length);
+            biomes = this.biomes == null ? null : Arrays.copyOf(this.biomes, this.biomes.length);
+            wideBiomes = this.wideBiomes == null ? null : this.wideBiomes.copyOf();
         } else {
             biomes = this.biomes;
+            wideBiomes = this.wideBiomes;
         }
         final Stream<VolumeElement<BiomeVolume.Mutable, Biome>> stateStream = IntStream.range(min.x(), max.x() + 1)
             .mapToObj(x -> IntStream.range(min.z(), max.z() + 1)
                 .mapToObj(z -> IntStream.range(min.y(), max.y() + 1)
                     .mapToObj(y -> VolumeElement.of((BiomeVolume.Mutable) this, () -> {
-                        final byte biomeId = biomes[this.getIndex(x, y, z)];
-                        return this.palette.get(biomeId & 255, Sponge.server())
+                        final int biomeId = ByteArrayMutableBiomeBuffer.biomeId(biomes, wideBiomes, this.getIndex(x, y, z));
+                        return this.palette.get(biomeId, Sponge.server())
                             .orElseGet(() -> Sponge.server()
                                 .registry(RegistryTypes.BIOME)
                                 .value(Biomes.OCEAN)
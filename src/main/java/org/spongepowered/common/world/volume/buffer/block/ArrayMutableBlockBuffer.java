@@ -61,6 +61,10 @@ public class ArrayMutableBlockBuffer extends AbstractBlockBuffer implements Bloc
     private final RegistryHolder registries;
 
     public ArrayMutableBlockBuffer(final Vector3i start, final Vector3i size) {
+        this(start, size, BlockBackingData.Factory.PACKED);
+    }
+
+    public ArrayMutableBlockBuffer(final Vector3i start, final Vector3i size, final BlockBackingData.Factory factory) {
         this(
             new MutableBimapPalette<>(
                 PaletteTypes.BLOCK_STATE_PALETTE.get(),
@@ -68,12 +72,19 @@ public ArrayMutableBlockBuffer(final Vector3i start, final Vector3i size) {
             ),
             BlockTypes.AIR,
             start,
-            size
+            size,
+            factory
         );
     }
 
     public ArrayMutableBlockBuffer(final Palette<BlockState, BlockType> palette, final RegistryReference<BlockType> defaultState,
         final Vector3i start, final Vector3i size
+    ) {
+        this(palette, defaultState, start, size, BlockBackingData.Factory.PACKED);
+    }
+
+    public ArrayMutableBlockBuffer(final Palette<BlockState, BlockType> palette, final RegistryReference<BlockType> defaultState,
+        final Vector3i start, final Vector3i size, final BlockBackingData.Factory factory
     ) {
         super(start, size);
         final Palette.Mutable<BlockState, BlockType> mutablePalette = palette.asMutable(Sponge.game());
@@ -82,7 +93,7 @@ public ArrayMutableBlockBuffer(final Palette<BlockState, BlockType> palette, fin
 
         final int dataSize = this.area();
         this.defaultState = defaultState;
-        this.data = new BlockBackingData.PackedBackingData(dataSize, palette.highestId());
+        this.data = factory.create(dataSize, palette.highestId());
 
         // all blocks default to air
         if (airId != 0) {
@@ -109,7 +120,7 @@ public ArrayMutableBlockBuffer(final Palette<BlockState, BlockType> palette, fin
      * @param start The start block position
      * @param size The block size
      */
-    ArrayMutableBlockBuffer(final Palette<BlockState, BlockType> palette, final BlockBackingData blocks, final Vector3i start, final Vector3i size) {
+    public ArrayMutableBlockBuffer(final Palette<BlockState, BlockType> palette, final BlockBackingData blocks, final Vector3i start, final Vector3i size) {
         super(start, size);
         this.palette = palette.asMutable(Sponge.game());
         this.data = blocks;
@@ -127,14 +138,7 @@ public boolean setBlock(final int x, final int y, final int z, final BlockState
         this.checkRange(x, y, z);
         final int id = this.palette.orAssign(block);
         if (id > this.data.getMax()) {
-
-            final int highId = this.palette.highestId();
-            final int dataSize = this.area();
-            final BlockBackingData newdata = new BlockBackingData.PackedBackingData(dataSize, highId);
-            for (int i = 0; i < dataSize; i++) {
-                newdata.set(i, this.data.get(i));
-            }
-            this.data = newdata;
+            this.data = this.data.withMax(this.palette.highestId());
         }
         this.data.set(this.getIndex(x, y, z), id);
         return true;
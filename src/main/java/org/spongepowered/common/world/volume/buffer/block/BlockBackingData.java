@@ -26,7 +26,15 @@
 
 import net.minecraft.util.Mth;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -55,6 +63,71 @@ public interface BlockBackingData {
      */
     int getMax();
 
+    /**
+     * Gets a BackingData holding the same ids that supports ids up to the
+     * given value, which may be this BackingData if it already does.
+     */
+    default BlockBackingData withMax(final int highestValue) {
+        if (highestValue <= this.getMax()) {
+            return this;
+        }
+        final int size = this.size();
+        final BlockBackingData data = new PackedBackingData(size, highestValue);
+        for (int i = 0; i < size; i++) {
+            data.set(i, this.get(i));
+        }
+        return data;
+    }
+
+    /**
+     * Gets the number of ids in this BackingData
+     */
+    int size();
+
+    /**
+     * Creates the BackingData of a buffer, allowing buffers to be kept off
+     * heap or sparse instead of in a packed array.
+     */
+    @FunctionalInterface
+    interface Factory {
+
+        Factory PACKED = PackedBackingData::new;
+        Factory DIRECT = DirectBackingData::allocate;
+        Factory SPARSE = SparseBackingData::new;
+
+        BlockBackingData create(int size, int highestValue);
+
+        /**
+         * Picks the BackingData for a buffer of the given number of ids, using
+         * the off heap threshold of the world config.
+         *
+         * @param size The number of ids
+         * @param mostlyZero Whether most ids are expected to stay zero
+         * @return The factory
+         */
+        static Factory forBuffer(final int size, final boolean mostlyZero) {
+            return Factory.forBuffer(size, mostlyZero, SpongeConfigs.getCommon().get().world.offHeapArchetypeVolumeThreshold);
+        }
+
+        /**
+         * Picks the BackingData for a buffer of the given number of ids. A
+         * buffer that is expected to be mostly zero is sparse, otherwise it
+         * is kept off heap from the given size on.
+         *
+         * @param size The number of ids
+         * @param mostlyZero Whether most ids are expected to stay zero
+         * @param offHeapThreshold The size from which ids are kept off heap,
+         *     or zero to always keep them on the heap
+         * @return The factory
+         */
+        static Factory forBuffer(final int size, final boolean mostlyZero, final int offHeapThreshold) {
+            if (mostlyZero) {
+                return Factory.SPARSE;
+            }
+            return offHeapThreshold > 0 && size >= offHeapThreshold ? Factory.DIRECT : Factory.PACKED;
+        }
+    }
+
     class CharBackingData implements BlockBackingData {
 
         private final char[] data;
@@ -83,6 +156,11 @@ public int getMax() {
             return Character.MAX_VALUE;
         }
 
+        @Override
+        public int size() {
+            return this.data.length;
+        }
+
         @Override
         public boolean equals(final @Nullable Object o) {
             if (this == o) {
@@ -183,6 +261,11 @@ public int getMax() {
             return (int) this.maxValue;
         }
 
+        @Override
+        public int size() {
+            return this.arraySize;
+        }
+
         @Override
         public boolean equals(final @Nullable Object o) {
             if (this == o) {
@@ -205,4 +288,300 @@ public int hashCode() {
             return result;
         }
     }
+
+    /**
+     * Stores ids outside of the heap in a direct {@link ByteBuffer}, or in a
+     * file mapped into memory, using one, two or four bytes per id depending
+     * on the highest id it has to hold.
+     */
+    final class DirectBackingData implements BlockBackingData {
+
+        private final ByteBuffer buffer;
+        private final int size;
+        private final int width;
+        private final @Nullable Path file;
+
+        private DirectBackingData(final ByteBuffer buffer, final int size, final int width, final @Nullable Path file) {
+            this.buffer = buffer.order(ByteOrder.nativeOrder());
+            this.size = size;
+            this.width = width;
+            this.file = file;
+        }
+
+        public static DirectBackingData allocate(final int size, final int highestValue) {
+            final int width = DirectBackingData.width(highestValue);
+            return new DirectBackingData(ByteBuffer.allocateDirect(DirectBackingData.capacity(size, width)), size, width, null);
+        }
+
+        /**
+         * Creates BackingData mapped to the given file, which is created or
+         * resized as needed. Existing contents of the file are not cleared.
+         */
+        public static DirectBackingData map(final Path file, final int size, final int highestValue) throws IOException {
+            final int width = DirectBackingData.width(highestValue);
+            return new DirectBackingData(DirectBackingData.mapFile(file, DirectBackingData.capacity(size, width)), size, width, file);
+        }
+
+        private static int capacity(final int size, final int width) {
+            final long capacity = (long) size * width;
+            if (capacity > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(String.format("%d ids of %d bytes do not fit in a single buffer", size, width));
+            }
+            return (int) capacity;
+        }
+
+        private static ByteBuffer mapFile(final Path file, final int length) throws IOException {
+            try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                // The mapping stays valid after the channel is closed
+                return channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+            }
+        }
+
+        private static int width(final int highestValue) {
+            if (highestValue <= 0xFF) {
+                return 1;
+            }
+            return highestValue <= 0xFFFF ? 2 : 4;
+        }
+
+        @Override
+        public int get(final int index) {
+            switch (this.width) {
+                case 1:
+                    return this.buffer.get(index) & 0xFF;
+                case 2:
+                    return this.buffer.getShort(index << 1) & 0xFFFF;
+                default:
+                    return this.buffer.getInt(index << 2);
+            }
+        }
+
+        @Override
+        public void set(final int index, final int val) {
+            switch (this.width) {
+                case 1:
+                    this.buffer.put(index, (byte) val);
+                    break;
+                case 2:
+                    this.buffer.putShort(index << 1, (short) val);
+                    break;
+                default:
+                    this.buffer.putInt(index << 2, val);
+            }
+        }
+
+        /**
+         * Copies the ids into a new direct buffer, mapped BackingData is not
+         * copied to another file.
+         */
+        @Override
+        public BlockBackingData copyOf() {
+            final ByteBuffer copy = ByteBuffer.allocateDirect(this.buffer.capacity());
+            final ByteBuffer source = this.buffer.duplicate();
+            source.clear();
+            copy.put(source);
+            return new DirectBackingData(copy, this.size, this.width, null);
+        }
+
+        @Override
+        public int getMax() {
+            switch (this.width) {
+                case 1:
+                    return 0xFF;
+                case 2:
+                    return 0xFFFF;
+                default:
+                    return Integer.MAX_VALUE;
+            }
+        }
+
+        @Override
+        public int size() {
+            return this.size;
+        }
+
+        /**
+         * Widens the ids, mapped BackingData is widened in place within its
+         * file. Working from the last id down means every id is read before
+         * the wider ids written after it can overlap it.
+         */
+        @Override
+        public BlockBackingData withMax(final int highestValue) {
+            if (highestValue <= this.getMax()) {
+                return this;
+            }
+            final int width = DirectBackingData.width(highestValue);
+            final DirectBackingData data;
+            if (this.file != null) {
+                try {
+                    data = new DirectBackingData(DirectBackingData.mapFile(this.file, DirectBackingData.capacity(this.size, width)), this.size, width, this.file);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                final DirectBackingData old = new DirectBackingData(data.buffer.duplicate(), this.size, this.width, this.file);
+                for (int i = this.size - 1; i >= 0; i--) {
+                    data.set(i, old.get(i));
+                }
+            } else {
+                data = new DirectBackingData(ByteBuffer.allocateDirect(DirectBackingData.capacity(this.size, width)), this.size, width, null);
+                for (int i = 0; i < this.size; i++) {
+                    data.set(i, this.get(i));
+                }
+            }
+            return data;
+        }
+
+        @Override
+        public boolean equals(final @Nullable Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || this.getClass() != o.getClass()) {
+                return false;
+            }
+            final DirectBackingData that = (DirectBackingData) o;
+            if (this.size != that.size || this.width != that.width) {
+                return false;
+            }
+            final ByteBuffer left = this.buffer.duplicate();
+            final ByteBuffer right = that.buffer.duplicate();
+            left.clear();
+            right.clear();
+            return left.equals(right);
+        }
+
+        @Override
+        public int hashCode() {
+            final ByteBuffer contents = this.buffer.duplicate();
+            contents.clear();
+            return Objects.hash(this.size, this.width, contents);
+        }
+    }
+
+    /**
+     * Stores ids in sections of {@link #SECTION_SIZE} consecutive indices,
+     * only allocating the sections that hold an id other than zero. Suited to
+     * volumes that are mostly empty, where zero is usually air.
+     */
+    final class SparseBackingData implements BlockBackingData {
+
+        static final int SECTION_BITS = 12;
+        static final int SECTION_SIZE = 1 << SparseBackingData.SECTION_BITS;
+        private static final int SECTION_MASK = SparseBackingData.SECTION_SIZE - 1;
+
+        private final @Nullable BlockBackingData[] sections;
+        private final int size;
+        private int highestValue;
+
+        public SparseBackingData(final int size, final int highestValue) {
+            this(new BlockBackingData[(size + SparseBackingData.SECTION_MASK) >>> SparseBackingData.SECTION_BITS], size, highestValue);
+        }
+
+        private SparseBackingData(final @Nullable BlockBackingData[] sections, final int size, final int highestValue) {
+            this.sections = sections;
+            this.size = size;
+            this.highestValue = highestValue;
+        }
+
+        @Override
+        public int get(final int index) {
+            final @Nullable BlockBackingData section = this.sections[index >>> SparseBackingData.SECTION_BITS];
+            return section == null ? 0 : section.get(index & SparseBackingData.SECTION_MASK);
+        }
+
+        @Override
+        public void set(final int index, final int val) {
+            final int sectionIndex = index >>> SparseBackingData.SECTION_BITS;
+            @Nullable BlockBackingData section = this.sections[sectionIndex];
+            if (section == null) {
+                if (val == 0) {
+                    return;
+                }
+                section = new PackedBackingData(SparseBackingData.SECTION_SIZE, this.highestValue);
+                this.sections[sectionIndex] = section;
+            }
+            section.set(index & SparseBackingData.SECTION_MASK, val);
+        }
+
+        @Override
+        public BlockBackingData copyOf() {
+            final @Nullable BlockBackingData[] sections = new BlockBackingData[this.sections.length];
+            for (int i = 0; i < sections.length; i++) {
+                final @Nullable BlockBackingData section = this.sections[i];
+                sections[i] = section == null ? null : section.copyOf();
+            }
+            return new SparseBackingData(sections, this.size, this.highestValue);
+        }
+
+        @Override
+        public int getMax() {
+            return (1 << Mth.ceillog2(this.highestValue + 1)) - 1;
+        }
+
+        @Override
+        public int size() {
+            return this.size;
+        }
+
+        /**
+         * Widens the allocated sections in place, as only this BackingData
+         * holds references to them.
+         */
+        @Override
+        public BlockBackingData withMax(final int highestValue) {
+            if (highestValue <= this.getMax()) {
+                return this;
+            }
+            for (int i = 0; i < this.sections.length; i++) {
+                final @Nullable BlockBackingData section = this.sections[i];
+                if (section != null) {
+                    this.sections[i] = section.withMax(highestValue);
+                }
+            }
+            this.highestValue = highestValue;
+            return this;
+        }
+
+        /**
+         * Gets the number of sections that have been allocated.
+         */
+        public int allocatedSections() {
+            int allocated = 0;
+            for (final @Nullable BlockBackingData section : this.sections) {
+                if (section != null) {
+                    allocated++;
+                }
+            }
+            return allocated;
+        }
+
+        @Override
+        public boolean equals(final @Nullable Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || this.getClass() != o.getClass()) {
+                return false;
+            }
+            final SparseBackingData that = (SparseBackingData) o;
+            if (this.size != that.size) {
+                return false;
+            }
+            for (int i = 0; i < this.size; i++) {
+                if (this.get(i) != that.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = this.size;
+            for (int i = 0; i < this.size; i++) {
+                result = 31 * result + this.get(i);
+            }
+            return result;
+        }
+    }
 }
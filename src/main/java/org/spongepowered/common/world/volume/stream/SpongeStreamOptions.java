@@ -34,11 +34,13 @@ public class SpongeStreamOptions implements StreamOptions {
 
     private final boolean copies;
     private final LoadingStyle loadingStyle;
+    private final boolean parallel;
 
     SpongeStreamOptions(final SpongeStreamOptionsBuilder builder) {
         Objects.requireNonNull(builder, "Builder cannot be null!");
         this.loadingStyle = builder.loadingStyle;
         this.copies = builder.copies;
+        this.parallel = builder.parallel;
     }
 
     @Override
@@ -51,6 +53,21 @@ public LoadingStyle loadingStyle() {
         return this.loadingStyle;
     }
 
+    /**
+     * Gets whether the stream is allowed to split its work by chunk section
+     * and process the sections on the common fork-join pool. Only the block
+     * state stream currently honours this, other streams remain sequential.
+     *
+     * @return True if the stream may be processed in parallel
+     */
+    public boolean parallel() {
+        return this.parallel;
+    }
+
+    public static boolean isParallel(final StreamOptions options) {
+        return options instanceof SpongeStreamOptions && ((SpongeStreamOptions) options).parallel;
+    }
+
     @Override
     public boolean equals(final @Nullable Object o) {
         if (this == o) {
@@ -60,12 +77,12 @@ public boolean equals(final @Nullable Object o) {
             return false;
         }
         final SpongeStreamOptions that = (SpongeStreamOptions) o;
-        return this.copies == that.copies && this.loadingStyle == that.loadingStyle;
+        return this.copies == that.copies && this.loadingStyle == that.loadingStyle && this.parallel == that.parallel;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.copies, this.loadingStyle);
+        return Objects.hash(this.copies, this.loadingStyle, this.parallel);
     }
 
     @Override
@@ -77,6 +94,7 @@ public String toString() {
         )
             .add("copies=" + this.copies)
             .add("loadingStyle=" + this.loadingStyle)
+            .add("parallel=" + this.parallel)
             .toString();
     }
 }
@@ -32,6 +32,7 @@ public class SpongeStreamOptionsBuilder implements StreamOptions.Builder {
 
     boolean copies = false;
     StreamOptions.LoadingStyle loadingStyle = StreamOptions.LoadingStyle.LAZILY_UNGENERATED;
+    boolean parallel = false;
 
     @Override
     public StreamOptions.Builder setCarbonCopy(final boolean copies) {
@@ -45,9 +46,15 @@ public StreamOptions.Builder setLoadingStyle(final StreamOptions.LoadingStyle st
         return this;
     }
 
+    public StreamOptions.Builder setParallel(final boolean parallel) {
+        this.parallel = parallel;
+        return this;
+    }
+
     @Override
     public StreamOptions.Builder reset() {
         this.copies = false;
+        this.parallel = false;
         this.loadingStyle = StreamOptions.LoadingStyle.LAZILY_UNGENERATED;
         return this;
     }
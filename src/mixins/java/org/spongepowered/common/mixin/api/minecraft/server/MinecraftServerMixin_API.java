@@ -36,6 +36,7 @@
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import net.minecraft.commands.Commands;
 import net.minecraft.core.RegistryAccess;
+import net.minecraft.network.protocol.game.ClientboundChatPacket;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.ServerResources;
 import net.minecraft.server.ServerScoreboard;
@@ -82,6 +83,7 @@
 import org.spongepowered.common.command.manager.SpongeCommandManager;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.map.SpongeMapStorage;
+import org.spongepowered.common.network.LocalizedPacketBroadcaster;
 import org.spongepowered.common.profile.SpongeGameProfileManager;
 import org.spongepowered.common.registry.RegistryHolderLogic;
 import org.spongepowered.common.registry.SpongeRegistryHolder;
@@ -437,7 +439,10 @@ public UsernameCache getUsernameCache() {
 
     @Override
     public void sendMessage(final Identity identity, final Component message, final MessageType type) {
-        this.shadow$getPlayerList().broadcastMessage(SpongeAdventure.asVanilla(message), SpongeAdventure.asVanilla(type), identity.uuid());
+        final net.minecraft.network.chat.Component component = SpongeAdventure.asVanilla(message);
+        ((MinecraftServer) (Object) this).sendMessage(component, identity.uuid());
+        LocalizedPacketBroadcaster.broadcast(this.shadow$getPlayerList().getPlayers(),
+            new ClientboundChatPacket(component, SpongeAdventure.asVanilla(type), identity.uuid()));
     }
 
     @Override
@@ -25,6 +25,7 @@
 package org.spongepowered.common.mixin.api.minecraft.world.level;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.LevelReader;
@@ -51,6 +52,7 @@
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
+import org.spongepowered.common.world.volume.BulkBlockWriter;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 import org.spongepowered.math.vector.Vector3i;
 
@@ -144,6 +146,13 @@ default boolean setBlock(final int x, final int y, final int z, final org.sponge
         if (!Level.isInWorldBounds(new BlockPos(x, y, z))) {
             throw new PositionOutOfBoundsException(new Vector3i(x, y, z), Constants.World.BLOCK_MIN, Constants.World.BLOCK_MAX);
         }
+        if (this instanceof ServerLevel && PhaseTracker.SERVER.onSidedThread()) {
+            // Volume streams applied to this world write their blocks once they are done
+            final @Nullable BulkBlockWriter writer = PhaseTracker.getInstance().getPhaseContext().getBulkBlockWriter((ServerLevel) this, flag);
+            if (writer != null) {
+                return writer.set(x, y, z, (BlockState) blockState);
+            }
+        }
         try (final @Nullable PhaseContext<@NonNull ?> context = PluginPhase.State.BLOCK_WORKER.switchIfNecessary(PhaseTracker.SERVER)) {
             if (context != null) {
                 context.buildAndSwitch();
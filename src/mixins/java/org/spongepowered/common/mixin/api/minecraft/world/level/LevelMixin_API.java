@@ -90,6 +90,7 @@
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 import org.spongepowered.common.world.volume.buffer.archetype.SpongeArchetypeVolume;
+import org.spongepowered.common.world.volume.buffer.block.BlockBackingData;
 import org.spongepowered.common.world.volume.buffer.entity.ObjectArrayMutableEntityBuffer;
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
@@ -355,7 +356,10 @@ public ArchetypeVolume createArchetypeVolume(final Vector3i min, final Vector3i
         final Vector3i volMax = max.max(min);
         final Vector3i size = volMax.sub(rawVolMin).add(1, 1, 1);
         final Vector3i relativeMin = rawVolMin.sub(Objects.requireNonNull(origin, "origin"));
-        final SpongeArchetypeVolume volume = new SpongeArchetypeVolume(relativeMin, size, this);
+        // Air is the first block the volume assigns an id, so regions that are mostly air are kept sparse
+        final BlockBackingData.Factory blockData = BlockBackingData.Factory.forBuffer(size.x() * size.y() * size.z(),
+            VolumeStreamUtils.isMostlyAir((LevelReader) this, rawVolMin, volMax));
+        final SpongeArchetypeVolume volume = new SpongeArchetypeVolume(relativeMin, size, this, blockData);
 
         this.blockStateStream(min, max, StreamOptions.lazily())
             .apply(VolumeCollectors.of(
@@ -73,7 +73,6 @@
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 import org.spongepowered.common.world.volume.buffer.biome.ObjectArrayMutableBiomeBuffer;
-import org.spongepowered.common.world.volume.buffer.block.ArrayMutableBlockBuffer;
 import org.spongepowered.common.world.volume.buffer.blockentity.ObjectArrayMutableBlockEntityBuffer;
 import org.spongepowered.common.world.volume.buffer.entity.ObjectArrayMutableEntityBuffer;
 import org.spongepowered.math.vector.Vector3d;
@@ -195,38 +194,7 @@ public VolumeStream<WorldChunk, BlockState> blockStateStream(
         VolumeStreamUtils.validateStreamArgs(Objects.requireNonNull(min, "min"), Objects.requireNonNull(max, "max"),
             Objects.requireNonNull(options, "options"));
 
-        final boolean shouldCarbonCopy = options.carbonCopy();
-        final Vector3i size = max.sub(min).add(1, 1 ,1);
-        final @MonotonicNonNull ArrayMutableBlockBuffer backingVolume;
-        if (shouldCarbonCopy) {
-            backingVolume = new ArrayMutableBlockBuffer(min, size);
-        } else {
-            backingVolume = null;
-        }
-
-        return VolumeStreamUtils.<WorldChunk, BlockState, net.minecraft.world.level.block.state.BlockState, ChunkAccess, BlockPos>generateStream(
-            options,
-            // Ref
-            (WorldChunk) this,
-            (LevelChunk) (Object) this,
-            // Entity Accessor
-            VolumeStreamUtils.getBlockStatesForSections(min, max),
-            // IdentityFunction
-            (pos, blockState) -> {
-                if (shouldCarbonCopy) {
-                    backingVolume.setBlock(pos, blockState);
-                }
-            },
-            // Biome by block position
-            (key, biome) -> key,
-            // Filtered Position Entity Accessor
-            (blockPos, world) -> {
-                final net.minecraft.world.level.block.state.BlockState tileEntity = shouldCarbonCopy
-                    ? backingVolume.getBlock(blockPos)
-                    : ((LevelReader) world).getBlockState(blockPos);
-                return new Tuple<>(blockPos, tileEntity);
-            }
-        );
+        return VolumeStreamUtils.generateSectionBlockStream((WorldChunk) this, Stream.of((ChunkAccess) (Object) this), min, max, options);
     }
 
     @Override
@@ -36,8 +36,12 @@
 import net.minecraft.commands.Commands;
 import net.minecraft.commands.SharedSuggestionProvider;
 import net.minecraft.commands.synchronization.SuggestionProviders;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientboundCommandsPacket;
 import net.minecraft.server.commands.AdvancementCommands;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.network.ServerGamePacketListenerImpl;
+import org.spongepowered.api.Server;
 import org.spongepowered.api.command.CommandCause;
 import org.spongepowered.api.event.CauseStackManager;
 import org.spongepowered.api.event.EventContextKeys;
@@ -49,6 +53,7 @@
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.Slice;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.bridge.commands.CommandSourceStackBridge;
 import org.spongepowered.common.bridge.commands.CommandsBridge;
 import org.spongepowered.common.bridge.commands.arguments.CompletionsArgumentTypeBridge;
@@ -57,6 +62,7 @@
 import org.spongepowered.common.command.brigadier.tree.SpongeArgumentCommandNode;
 import org.spongepowered.common.command.brigadier.tree.SpongeNode;
 import org.spongepowered.common.command.brigadier.tree.SuggestionArgumentNode;
+import org.spongepowered.common.command.manager.CommandTreePacketCache;
 import org.spongepowered.common.command.manager.SpongeCommandManager;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.launch.Launch;
@@ -240,8 +246,7 @@ public abstract class CommandsMixin implements CommandsBridge {
             return false;
         // If we have already processed this node and it appears in the suggestion node list, prevent a potentially costly
         // canUse check as we know we can already use it.
-        } else if (!commandNodeToSuggestionNode.containsKey(commandNode) && !SpongeNodePermissionCache.canUse(
-                rootCommandNode instanceof RootCommandNode, this.impl$commandManager.getDispatcher(), commandNode, sourceButTyped)) {
+        } else if (!commandNodeToSuggestionNode.containsKey(commandNode) && !this.impl$canUse(rootCommandNode, commandNode, sourceButTyped)) {
             playerNodes.put(commandNode, Collections.emptyList());
             return false;
         }
@@ -289,6 +294,21 @@ public abstract class CommandsMixin implements CommandsBridge {
         return requiredArgumentBuilder;
     }
 
+    @Inject(method = "sendCommands", at = @At("HEAD"), cancellable = true)
+    private void impl$sendCachedCommandTree(final ServerPlayer playerEntity, final CallbackInfo ci) {
+        try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame()) {
+            frame.pushCause(playerEntity);
+            frame.addContext(EventContextKeys.SUBJECT, (Subject) playerEntity);
+            final CommandCause cause = ((CommandSourceStackBridge) playerEntity.createCommandSourceStack()).bridge$withCurrentCause();
+            final ClientboundCommandsPacket packet = this.impl$commandManager.commandTreePacketCache()
+                    .find(cause, ((Server) SpongeCommon.server()).serviceProvider().permissionService());
+            if (packet != null) {
+                playerEntity.connection.send(packet);
+                ci.cancel();
+            }
+        }
+    }
+
     @Redirect(method = "sendCommands", at = @At(value = "INVOKE", target = "Lnet/minecraft/commands/Commands;fillUsableCommands(Lcom/mojang/brigadier/tree/CommandNode;Lcom/mojang/brigadier/tree/CommandNode;Lnet/minecraft/commands/CommandSourceStack;Ljava/util/Map;)V"))
     private void impl$addNonBrigSuggestions(
             final Commands commands,
@@ -301,20 +321,36 @@ public abstract class CommandsMixin implements CommandsBridge {
             frame.pushCause(playerEntity);
             frame.addContext(EventContextKeys.SUBJECT, (Subject) playerEntity);
             final CommandCause sourceToUse = ((CommandSourceStackBridge) p_197052_3_).bridge$withCurrentCause();
+            final CommandTreePacketCache packetCache = this.impl$commandManager.commandTreePacketCache();
+            packetCache.beginRecording();
             try {
-                this.impl$playerNodeCache.put(playerEntity, new IdentityHashMap<>());
-                // We use this because the redirects should be a 1:1 mapping (which is what this map is for).
-                final IdentityHashMap<CommandNode<CommandSourceStack>, CommandNode<SharedSuggestionProvider>> idMap = new IdentityHashMap<>(p_197052_4_);
-                this.shadow$fillUsableCommands(p_197052_1_, p_197052_2_, (CommandSourceStack) sourceToUse, idMap);
+                try {
+                    this.impl$playerNodeCache.put(playerEntity, new IdentityHashMap<>());
+                    // We use this because the redirects should be a 1:1 mapping (which is what this map is for).
+                    final IdentityHashMap<CommandNode<CommandSourceStack>, CommandNode<SharedSuggestionProvider>> idMap = new IdentityHashMap<>(p_197052_4_);
+                    this.shadow$fillUsableCommands(p_197052_1_, p_197052_2_, (CommandSourceStack) sourceToUse, idMap);
+                } finally {
+                    this.impl$playerNodeCache.remove(playerEntity);
+                }
+                for (final CommandNode<SharedSuggestionProvider> node : this.impl$commandManager.getNonBrigadierSuggestions(sourceToUse)) {
+                    p_197052_2_.addChild(node);
+                }
             } finally {
-                this.impl$playerNodeCache.remove(playerEntity);
-            }
-            for (final CommandNode<SharedSuggestionProvider> node : this.impl$commandManager.getNonBrigadierSuggestions(sourceToUse)) {
-                p_197052_2_.addChild(node);
+                packetCache.endRecording();
             }
         }
     }
 
+    /*
+     * Players whose requirements resolve the same way will be sent this same packet instance
+     */
+    @Redirect(method = "sendCommands", at = @At(value = "INVOKE",
+            target = "Lnet/minecraft/server/network/ServerGamePacketListenerImpl;send(Lnet/minecraft/network/protocol/Packet;)V"))
+    private void impl$storeCommandTreePacket(final ServerGamePacketListenerImpl connection, final Packet<?> packet) {
+        this.impl$commandManager.commandTreePacketCache().store((ClientboundCommandsPacket) packet);
+        connection.send(packet);
+    }
+
     @SuppressWarnings("unchecked")
     @Redirect(method = "fillUsableCommands",
             at = @At(value = "INVOKE", target = "Lcom/mojang/brigadier/builder/ArgumentBuilder;build()Lcom/mojang/brigadier/tree/CommandNode;", remap = false))
@@ -330,6 +366,13 @@ public abstract class CommandsMixin implements CommandsBridge {
         return this.impl$commandManager;
     }
 
+    private boolean impl$canUse(final CommandNode<CommandSourceStack> rootCommandNode, final CommandNode<CommandSourceStack> commandNode,
+            final CommandSourceStack source) {
+        final boolean isRoot = rootCommandNode instanceof RootCommandNode;
+        return CommandTreePacketCache.test(cause -> SpongeNodePermissionCache.canUse(
+                isRoot, this.impl$commandManager.getDispatcher(), commandNode, (CommandSourceStack) cause), (CommandCause) source);
+    }
+
     private Collection<CommandNode<CommandSourceStack>> impl$getChildrenFromNode(final CommandNode<CommandSourceStack> parentNode) {
         final Collection<CommandNode<CommandSourceStack>> nodes;
         if (parentNode instanceof SpongeNode) {
@@ -25,19 +25,28 @@
 package org.spongepowered.common.mixin.core.network.chat;
 
 import net.kyori.adventure.text.Component;
+import net.minecraft.network.chat.MutableComponent;
+import net.minecraft.network.chat.Style;
 import net.minecraft.network.chat.TranslatableComponent;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.adventure.LocaleRenderCache;
 import org.spongepowered.common.adventure.SpongeAdventure;
+import org.spongepowered.common.bridge.network.chat.TranslatableComponentBridge;
 
 @Mixin(TranslatableComponent.class)
-public class TranslatableComponentMixin {
+public class TranslatableComponentMixin implements TranslatableComponentBridge {
     @Shadow @Final private Object[] args;
 
+    private volatile @Nullable LocaleRenderCache<net.minecraft.network.chat.Component> impl$renderCache;
+    // The style of the component when it was last rendered without a cache
+    private volatile @Nullable Style impl$uncachedStyle;
+
     @Inject(method = "<init>(Ljava/lang/String;[Ljava/lang/Object;)V", at = @At("TAIL"))
     private void sponge$convertAdventureToVanilla(final String key, final Object[] args, final CallbackInfo ci) {
         for (int i = 0, length = this.args.length; i < length; i++) {
@@ -47,4 +56,35 @@ public class TranslatableComponentMixin {
             }
         }
     }
+
+    @Override
+    public @Nullable LocaleRenderCache<net.minecraft.network.chat.Component> bridge$renderCache() {
+        // Siblings and component arguments can be changed without this component noticing, so only
+        // components whose style is the only part that can be swapped out are cached
+        if (!((MutableComponent) this).getSiblings().isEmpty() || !TranslatableComponentMixin.impl$hasConstantArgs(this.args)) {
+            return null;
+        }
+        final Style style = ((MutableComponent) this).getStyle();
+        final @Nullable LocaleRenderCache<net.minecraft.network.chat.Component> cache = this.impl$renderCache;
+        if (cache != null && cache.isRenderedFrom(style)) {
+            return cache;
+        }
+        if (this.impl$uncachedStyle != style) {
+            this.impl$uncachedStyle = style;
+            return null;
+        }
+        final LocaleRenderCache<net.minecraft.network.chat.Component> created = new LocaleRenderCache<>(style);
+        this.impl$renderCache = created;
+        return created;
+    }
+
+    private static boolean impl$hasConstantArgs(final Object[] args) {
+        for (final Object arg : args) {
+            if (!(arg instanceof String || arg instanceof Integer || arg instanceof Long || arg instanceof Short || arg instanceof Byte
+                || arg instanceof Double || arg instanceof Float || arg instanceof Boolean || arg instanceof Character)) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -40,6 +40,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.adventure.SpongeAdventure;
 import org.spongepowered.common.mixin.core.world.BossEventMixin;
+import org.spongepowered.common.network.LocalizedPacketBroadcaster;
 
 import java.util.Set;
 
@@ -132,6 +133,14 @@ public void bossBarFlagsChanged(final BossBar bar, final Set<BossBar.Flag> flags
         this.broadcast(ClientboundBossEventPacket.Operation.UPDATE_PROPERTIES);
     }
 
+    @Inject(method = "broadcast", at = @At("HEAD"), cancellable = true)
+    private void impl$broadcastByLocale(final ClientboundBossEventPacket.Operation operation, final CallbackInfo ci) {
+        if (this.visible) {
+            LocalizedPacketBroadcaster.broadcast(this.players, new ClientboundBossEventPacket(operation, (ServerBossEvent) (Object) this));
+        }
+        ci.cancel();
+    }
+
     // Tracking for registration (designed for localization handling)
 
     @Inject(method = "addPlayer", at = @At("TAIL"))
@@ -0,0 +1,57 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.server.level;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ThreadedLevelLightEngine;
+import net.minecraft.world.level.chunk.LightChunkGetter;
+import net.minecraft.world.level.lighting.LevelLightEngine;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.common.bridge.server.level.ThreadedLevelLightEngineBridge;
+
+import java.util.List;
+
+@Mixin(ThreadedLevelLightEngine.class)
+public abstract class ThreadedLevelLightEngineMixin extends LevelLightEngine implements ThreadedLevelLightEngineBridge {
+
+    // @formatter:off
+    @Shadow private void shadow$addTask(final int x, final int z, final ThreadedLevelLightEngine.TaskType type, final Runnable task) { }
+    // @formatter:on
+
+    public ThreadedLevelLightEngineMixin(final LightChunkGetter chunkGetter, final boolean blockLight, final boolean skyLight) {
+        super(chunkGetter, blockLight, skyLight);
+    }
+
+    @Override
+    public void bridge$checkBlocks(final SectionPos section, final List<BlockPos> positions) {
+        this.shadow$addTask(section.x(), section.z(), ThreadedLevelLightEngine.TaskType.POST_UPDATE, () -> {
+            for (final BlockPos pos : positions) {
+                super.checkBlock(pos);
+            }
+        });
+    }
+}
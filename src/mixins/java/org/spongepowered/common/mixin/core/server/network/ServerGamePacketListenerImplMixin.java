@@ -185,6 +185,7 @@ public abstract class ServerGamePacketListenerImplMixin implements ServerGamePac
         final String[] command = CommandUtil.extractCommandString(rawCommand);
         final CommandCause cause = CommandCause.create();
         final SpongeCommandManager manager = SpongeCommandManager.get(this.server);
+        manager.completionExecutor().begin(this.player.getUUID());
         if (!rawCommand.contains(" ")) {
             final SuggestionsBuilder builder = new SuggestionsBuilder(command[0], 0);
             if (command[0].isEmpty()) {
@@ -201,8 +202,11 @@ public abstract class ServerGamePacketListenerImplMixin implements ServerGamePac
             if (mappingOptional.isPresent()) {
                 final CommandMapping mapping = mappingOptional.get();
                 if (mapping.registrar().canExecute(cause, mapping)) {
-                    final SuggestionsBuilder builder = CommandUtil.createSuggestionsForRawCommand(rawCommand, command, cause, mapping);
-                    this.connection.send(new ClientboundCommandSuggestionsPacket(packet.getId(), builder.build()));
+                    final Class<?> provider = mapping.plugin().<Class<?>>map(x -> x.instance().getClass()).orElseGet(() -> mapping.registrar().getClass());
+                    manager.completionExecutor()
+                            .complete(this.player.getUUID(), provider, () -> CommandUtil.createSuggestionsForRawCommand(rawCommand, command, cause, mapping).build(),
+                                    () -> Suggestions.empty().join())
+                            .thenAccept(suggestions -> this.connection.send(new ClientboundCommandSuggestionsPacket(packet.getId(), suggestions)));
                 } else {
                     this.connection.send(new ClientboundCommandSuggestionsPacket(packet.getId(), Suggestions.empty().join()));
                 }
@@ -509,6 +513,7 @@ public abstract class ServerGamePacketListenerImplMixin implements ServerGamePac
         }
 
         ((ServerPlayerBridge) this.player).bridge$getWorldBorderListener().onPlayerDisconnect();
+        SpongeCommandManager.get(this.server).completionExecutor().end(this.player.getUUID());
     }
 
     @Redirect(method = "handleSignUpdate", at = @At(value = "INVOKE", target = "Lnet/minecraft/server/network/ServerGamePacketListenerImpl;filterTextPacket(Ljava/util/List;Ljava/util/function/Consumer;)V"))
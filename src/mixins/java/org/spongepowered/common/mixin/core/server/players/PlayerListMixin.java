@@ -591,6 +591,7 @@ public abstract class PlayerListMixin implements PlayerListBridge {
     @Inject(method = "saveAll()V", at = @At("RETURN"))
     private void impl$saveDirtyUsersOnSaveAll(final CallbackInfo ci) {
         ((SpongeServer) SpongeCommon.server()).userManager().saveDirtyUsers();
+        ((SpongeServer) SpongeCommon.server()).getUsernameCache().save();
     }
 
 }
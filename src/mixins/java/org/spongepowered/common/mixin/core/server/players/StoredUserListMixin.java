@@ -24,11 +24,15 @@
  */
 package org.spongepowered.common.mixin.core.server.players;
 
+import net.minecraft.server.players.ServerOpList;
 import net.minecraft.server.players.StoredUserList;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.service.server.permission.SpongePermissionService;
 
 import java.util.List;
 
@@ -42,4 +46,16 @@ public abstract class StoredUserListMixin {
         return list.add(this.shadow$getKeyForUser(object)); // Mojang didn't implement this correctly, so we'll fix it
     }
 
+    @Inject(method = {
+        "add",
+        "remove(Ljava/lang/Object;)V",
+        "remove(Lnet/minecraft/server/players/StoredUserEntry;)V",
+        "load"
+    }, at = @At("RETURN"))
+    private void impl$markOpsChanged(final CallbackInfo ci) {
+        if ((Object) this instanceof ServerOpList) {
+            SpongePermissionService.markOpsChanged();
+        }
+    }
+
 }
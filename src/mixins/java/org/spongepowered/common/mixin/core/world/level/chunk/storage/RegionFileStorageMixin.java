@@ -0,0 +1,76 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.world.level.chunk.storage;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.storage.RegionFile;
+import net.minecraft.world.level.chunk.storage.RegionFileStorage;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.world.storage.RegionFileLinks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Mixin(RegionFileStorage.class)
+public abstract class RegionFileStorageMixin {
+
+    // @formatter:off
+    @Shadow @Final private Long2ObjectLinkedOpenHashMap<RegionFile> regionCache;
+    @Shadow @Final private File folder;
+    // @formatter:on
+
+    // Regions already checked to have a file of their own, only the chunk worker writes so this needs no locking
+    private final LongSet impl$unsharedRegions = new LongOpenHashSet();
+
+    @Inject(method = "write", at = @At("HEAD"))
+    private void impl$unlinkSharedRegionFile(final ChunkPos pos, final CompoundTag tag, final CallbackInfo ci) throws IOException {
+        final long region = ChunkPos.asLong(pos.getRegionX(), pos.getRegionZ());
+        if (this.impl$unsharedRegions.contains(region)) {
+            return;
+        }
+        // Copied worlds may share region files, never write through to the other copies. Reads keep using the shared file.
+        final Path file = new File(this.folder, "r." + pos.getRegionX() + "." + pos.getRegionZ() + ".mca").toPath();
+        if (RegionFileLinks.isShared(file)) {
+            // An open region file keeps its channel to the shared file, reopen it once the file has been given its own copy
+            final @Nullable RegionFile open = this.regionCache.remove(region);
+            if (open != null) {
+                open.close();
+            }
+            RegionFileLinks.unlink(file);
+        }
+        this.impl$unsharedRegions.add(region);
+    }
+}
@@ -32,13 +32,22 @@
 import org.spongepowered.asm.mixin.injection.Slice;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.bridge.activation.ActivationCapabilityBridge;
+import org.spongepowered.common.bridge.activation.ActivationTimingsBridge;
+import org.spongepowered.common.entity.activation.EntityActivationTimings;
 import org.spongepowered.common.mixin.core.world.level.LevelMixin;
 import org.spongepowered.common.mixin.plugin.entityactivation.EntityActivationRange;
 
 import java.util.function.BooleanSupplier;
 
 @Mixin(value = ServerLevel.class, priority = 1005)
-public abstract class ServerLevelMixin_EntityActivation extends LevelMixin {
+public abstract class ServerLevelMixin_EntityActivation extends LevelMixin implements ActivationTimingsBridge {
+
+    private final EntityActivationTimings activation$timings = new EntityActivationTimings();
+
+    @Override
+    public EntityActivationTimings activation$getTimings() {
+        return this.activation$timings;
+    }
 
     @Inject(method = "tick",
         at = @At(value = "INVOKE", target = "Lnet/minecraft/util/profiling/ProfilerFiller;popPush(Ljava/lang/String;)V"),
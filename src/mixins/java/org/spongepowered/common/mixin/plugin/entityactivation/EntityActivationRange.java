@@ -25,11 +25,11 @@
 package org.spongepowered.common.mixin.plugin.entityactivation;
 
 import com.google.common.collect.ImmutableMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.util.ClassInstanceMultiMap;
-import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.LightningBolt;
@@ -52,6 +52,7 @@
 import net.minecraft.world.entity.projectile.AbstractHurtingProjectile;
 import net.minecraft.world.entity.projectile.FireworkRocketEntity;
 import net.minecraft.world.entity.projectile.ThrowableProjectile;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.phys.AABB;
 import org.spongepowered.api.data.Keys;
@@ -63,6 +64,7 @@
 import org.spongepowered.common.accessor.world.phys.AABBAccessor;
 import org.spongepowered.common.bridge.TrackableBridge;
 import org.spongepowered.common.bridge.activation.ActivationCapabilityBridge;
+import org.spongepowered.common.bridge.activation.ActivationTimingsBridge;
 import org.spongepowered.common.bridge.world.entity.EntityTypeBridge;
 import org.spongepowered.common.bridge.world.entity.PlatformEntityBridge;
 import org.spongepowered.common.bridge.world.level.LevelBridge;
@@ -73,6 +75,8 @@
 import org.spongepowered.common.config.inheritable.GlobalConfig;
 import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
 import org.spongepowered.common.config.inheritable.WorldConfig;
+import org.spongepowered.common.entity.activation.ActivationGrid;
+import org.spongepowered.common.entity.activation.ActivationVolumes;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -87,12 +91,6 @@ public final class EntityActivationRange {
         .put((byte) 5, "misc")
         .build();
 
-    static AABB maxBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB miscBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB creatureBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB monsterBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB aquaticBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB ambientBB = new AABB(0, 0, 0, 0, 0, 0);
     static AABB tileEntityBB = new AABB(0, 0, 0, 0, 0, 0);
     static Map<Byte, Integer> maxActivationRanges = new HashMap<>();
 
@@ -220,46 +218,50 @@ public static void activateEntities(final ServerLevel world) {
             return;
         }
 
-        for (final ServerPlayer player : world.players()) {
-            int maxRange = 0;
-            for (final Integer range : EntityActivationRange.maxActivationRanges.values()) {
-                if (range > maxRange) {
-                    maxRange = range;
-                }
+        final long start = System.nanoTime();
+        final long currentTick = SpongeCommon.server().getTickCount();
+        int maxRange = 0;
+        for (final Integer range : EntityActivationRange.maxActivationRanges.values()) {
+            if (range > maxRange) {
+                maxRange = range;
             }
+        }
+        maxRange = Math.min((((ServerWorld) world).properties().viewDistance() << 4) - 8, maxRange);
 
-            maxRange = Math.min((((ServerWorld) world).properties().viewDistance() << 4) - 8, maxRange);
-            ((ActivationCapabilityBridge) player).activation$setActivatedTick(SpongeCommon.server().getTickCount());
-            final AABB aabb = EntityActivationRange.maxBB;
-            EntityActivationRange.growBb(aabb, player.getBoundingBox(), maxRange, 256, maxRange);
-
-            final int i = Mth.floor(aabb.minX / 16.0D);
-            final int j = Mth.floor(aabb.maxX / 16.0D);
-            final int k = Mth.floor(aabb.minZ / 16.0D);
-            final int l = Mth.floor(aabb.maxZ / 16.0D);
-
-            for (int i1 = i; i1 <= j; ++i1) {
-                for (int j1 = k; j1 <= l; ++j1) {
-                    final LevelChunk chunk = world.getChunkSource().getChunkNow(i1, j1);
-                    if (chunk != null) {
-                        EntityActivationRange.activateChunkEntities(player, chunk);
-                    }
-                }
+        final ActivationGrid grid = new ActivationGrid();
+        for (final ServerPlayer player : world.players()) {
+            ((ActivationCapabilityBridge) player).activation$setActivatedTick(currentTick);
+            grid.add(player.getBoundingBox(), maxRange);
+        }
+
+        int chunks = 0;
+        final int[] counts = new int[2];
+        for (final Long2ObjectMap.Entry<ActivationVolumes> entry : grid.chunks().long2ObjectEntrySet()) {
+            final long pos = entry.getLongKey();
+            final LevelChunk chunk = world.getChunkSource().getChunkNow(ChunkPos.getX(pos), ChunkPos.getZ(pos));
+            if (chunk != null) {
+                chunks++;
+                EntityActivationRange.activateChunkEntities(entry.getValue(), chunk, currentTick, counts);
             }
         }
+
+        ((ActivationTimingsBridge) world).activation$getTimings().record(System.nanoTime() - start, chunks, counts[0], counts[1]);
     }
 
     /**
      * Checks for the activation state of all entities in this chunk.
      *
+     * @param volumes The players in range of this chunk
      * @param chunk Chunk to check for activation
+     * @param currentTick The current tick
+     * @param counts The number of entities checked and activated so far
      */
-    private static void activateChunkEntities(final Player player, final LevelChunk chunk) {
+    private static void activateChunkEntities(final ActivationVolumes volumes, final LevelChunk chunk, final long currentTick,
+        final int[] counts) {
 
         for (final ClassInstanceMultiMap<Entity> entitySection : chunk.getEntitySections()) {
             for (final Entity entity : entitySection) {
                 final ActivationCapabilityBridge spongeEntity = (ActivationCapabilityBridge) entity;
-                final long currentTick = SpongeCommon.server().getTickCount();
                 if (!((TrackableBridge) entity).bridge$shouldTick()) {
                     continue;
                 }
@@ -277,30 +279,10 @@ private static void activateChunkEntities(final Player player, final LevelChunk
                     spongeEntity.activation$requiresActivationCacheRefresh(false);
                 }
 
-                // check for entity type overrides
-                final AABB aabb;
-                switch (spongeEntity.activation$getActivationType()) {
-                    case 5:
-                        aabb = EntityActivationRange.miscBB;
-                        break;
-                    case 4:
-                        aabb = EntityActivationRange.ambientBB;
-                        break;
-                    case 3:
-                        aabb = EntityActivationRange.aquaticBB;
-                        break;
-                    case 2:
-                        aabb = EntityActivationRange.creatureBB;
-                        break;
-                    default:
-                        aabb = EntityActivationRange.monsterBB;
-                        break;
-                }
-
-                final int bbActivationRange = spongeEntity.activation$getActivationRange();
-                EntityActivationRange.growBb(aabb, player.getBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                if (aabb.intersects(entity.getBoundingBox())) {
+                counts[0]++;
+                if (volumes.intersects(entity.getBoundingBox(), spongeEntity.activation$getActivationRange(), 256)) {
                     spongeEntity.activation$setActivatedTick(currentTick);
+                    counts[1]++;
                 }
             }
 
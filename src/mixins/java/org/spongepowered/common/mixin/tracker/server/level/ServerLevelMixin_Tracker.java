@@ -30,7 +30,6 @@
 import net.minecraft.ReportedException;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Registry;
-import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.protocol.game.ClientboundSetEntityMotionPacket;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
@@ -96,21 +95,15 @@
 import org.spongepowered.common.event.tracking.context.transaction.effect.AddTileEntityToLoadedListInWorldEffect;
 import org.spongepowered.common.event.tracking.context.transaction.effect.AddTileEntityToTickableListEffect;
 import org.spongepowered.common.event.tracking.context.transaction.effect.AddTileEntityToWorldWhileProcessingEffect;
-import org.spongepowered.common.event.tracking.context.transaction.effect.CheckBlockPostPlacementIsSameEffect;
-import org.spongepowered.common.event.tracking.context.transaction.effect.EffectResult;
-import org.spongepowered.common.event.tracking.context.transaction.effect.NotifyClientEffect;
-import org.spongepowered.common.event.tracking.context.transaction.effect.NotifyNeighborSideEffect;
 import org.spongepowered.common.event.tracking.context.transaction.effect.PerformBlockDropsFromDestruction;
 import org.spongepowered.common.event.tracking.context.transaction.effect.RemoveProposedTileEntitiesDuringSetIfWorldProcessingEffect;
 import org.spongepowered.common.event.tracking.context.transaction.effect.RemoveTileEntityFromChunkEffect;
 import org.spongepowered.common.event.tracking.context.transaction.effect.RemoveTileEntityFromWorldEffect;
 import org.spongepowered.common.event.tracking.context.transaction.effect.ReplaceTileEntityInWorldEffect;
 import org.spongepowered.common.event.tracking.context.transaction.effect.TileOnLoadDuringAddToWorldEffect;
-import org.spongepowered.common.event.tracking.context.transaction.effect.UpdateConnectingBlocksEffect;
-import org.spongepowered.common.event.tracking.context.transaction.effect.UpdateLightSideEffect;
-import org.spongepowered.common.event.tracking.context.transaction.effect.UpdateWorldRendererEffect;
 import org.spongepowered.common.event.tracking.context.transaction.effect.WorldBlockChangeCompleteEffect;
 import org.spongepowered.common.event.tracking.context.transaction.effect.WorldDestroyBlockLevelEffect;
+import org.spongepowered.common.event.tracking.context.transaction.pipeline.BlockChangeEffects;
 import org.spongepowered.common.event.tracking.context.transaction.pipeline.ChunkPipeline;
 import org.spongepowered.common.event.tracking.context.transaction.pipeline.PipelineCursor;
 import org.spongepowered.common.event.tracking.context.transaction.pipeline.TileEntityPipeline;
@@ -460,20 +453,8 @@ public abstract class ServerLevelMixin_Tracker extends LevelMixin_Tracker implem
 
         // Then build and use the BlockPipeline
         final ChunkPipeline chunkPipeline = mixinChunk.bridge$createChunkPipeline(pos, newState, currentState, spongeFlag, limit);
-        final WorldPipeline.Builder worldPipelineBuilder = WorldPipeline.builder(chunkPipeline);
-        worldPipelineBuilder.addEffect((pipeline, oldState, newState1, flag1, cursorLimit) -> {
-            if (oldState == null) {
-                return EffectResult.NULL_RETURN;
-            }
-            return EffectResult.NULL_PASS;
-        })
-            .addEffect(UpdateLightSideEffect.getInstance())
-            .addEffect(CheckBlockPostPlacementIsSameEffect.getInstance())
-            .addEffect(UpdateWorldRendererEffect.getInstance())
-            .addEffect(NotifyClientEffect.getInstance())
-            .addEffect(NotifyNeighborSideEffect.getInstance())
-            .addEffect(UpdateConnectingBlocksEffect.getInstance());
-        return worldPipelineBuilder;
+        return WorldPipeline.builder(chunkPipeline)
+            .addEffects(BlockChangeEffects.worldEffects(spongeFlag));
     }
 
     /**
@@ -510,9 +491,9 @@ public boolean setBlock(final BlockPos pos, final net.minecraft.world.level.bloc
         if (currentState == newState) {
             return false;
         }
-        final WorldPipeline pipeline = this.bridge$makePipeline(pos, currentState, newState, chunk, spongeFlag, limit)
-            .addEffect(WorldBlockChangeCompleteEffect.getInstance())
-            .build();
+        // The effects of a plain block change only depend on the flag, so reuse the ones assembled for it
+        final ChunkPipeline chunkPipeline = ((TrackedLevelChunkBridge) chunk).bridge$createChunkPipeline(pos, newState, currentState, spongeFlag, limit);
+        final WorldPipeline pipeline = BlockChangeEffects.setBlock(chunkPipeline, spongeFlag);
 
         return pipeline.processEffects(instance.getPhaseContext(), currentState, newState, pos, null, spongeFlag, limit);
     }
@@ -577,14 +558,7 @@ public boolean destroyBlock(final BlockPos pos, final boolean doDrops, @Nullable
             // We MUST only check to see if a TE exists to avoid creating a new one.
             if (tileEntity != null) {
                 // TODO - custom data.
-                final CompoundTag nbt = new CompoundTag();
-                // Some mods like OpenComputers assert if attempting to save robot while moving
-                try {
-                    tileEntity.save(nbt);
-                    builder.addUnsafeCompound(nbt);
-                } catch (final Throwable t) {
-                    // ignore
-                }
+                builder.tileEntity(tileEntity);
             }
         }
         builder.flag(updateFlag);
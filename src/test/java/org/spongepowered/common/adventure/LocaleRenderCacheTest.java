@@ -0,0 +1,61 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.adventure;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+public class LocaleRenderCacheTest {
+
+    @Test
+    public void testGetAndPut() {
+        final LocaleRenderCache<String> cache = new LocaleRenderCache<>();
+        Assertions.assertNull(cache.get(Locale.ENGLISH));
+
+        Assertions.assertEquals("hello", cache.put(Locale.ENGLISH, "hello"));
+        Assertions.assertEquals("hallo", cache.put(Locale.GERMAN, "hallo"));
+        Assertions.assertEquals("hello", cache.get(Locale.ENGLISH));
+        Assertions.assertEquals("hallo", cache.get(Locale.GERMAN));
+
+        // The first value cached for a locale wins
+        Assertions.assertEquals("hello", cache.put(Locale.ENGLISH, "howdy"));
+        Assertions.assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testEvictsOldest() {
+        final LocaleRenderCache<String> cache = new LocaleRenderCache<>();
+        final Locale[] locales = Locale.getAvailableLocales();
+        for (int i = 0; i <= LocaleRenderCache.MAX_SIZE; i++) {
+            cache.put(locales[i], locales[i].toString());
+        }
+
+        Assertions.assertEquals(LocaleRenderCache.MAX_SIZE, cache.size());
+        Assertions.assertNull(cache.get(locales[0]));
+        Assertions.assertEquals(locales[LocaleRenderCache.MAX_SIZE].toString(), cache.get(locales[LocaleRenderCache.MAX_SIZE]));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.command.manager;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class AliasTrieTest {
+
+    private static List<String> aliases(final AliasTrie<?> trie, final String prefix) {
+        final List<String> aliases = new ArrayList<>();
+        trie.forEachStartingWith(prefix, (alias, value) -> aliases.add(alias));
+        return aliases;
+    }
+
+    @Test
+    public void testPrefixEnumeration() {
+        final AliasTrie<Integer> trie = new AliasTrie<>();
+        trie.put("tp", 1);
+        trie.put("teleport", 1);
+        trie.put("minecraft:tp", 1);
+        trie.put("time", 2);
+        trie.put("t", 3);
+
+        Assertions.assertEquals(Arrays.asList("t", "teleport", "time", "tp"), AliasTrieTest.aliases(trie, "t"));
+        Assertions.assertEquals(Collections.singletonList("tp"), AliasTrieTest.aliases(trie, "tp"));
+        Assertions.assertEquals(Collections.emptyList(), AliasTrieTest.aliases(trie, "tpa"));
+        Assertions.assertEquals(5, AliasTrieTest.aliases(trie, "").size());
+    }
+
+    @Test
+    public void testPutReplaces() {
+        final AliasTrie<Integer> trie = new AliasTrie<>();
+        trie.put("help", 1);
+        trie.put("help", 2);
+
+        Assertions.assertEquals(1, trie.size());
+        Assertions.assertEquals(2, trie.get("help"));
+        Assertions.assertNull(trie.get("hel"));
+        Assertions.assertNull(trie.get("helpme"));
+    }
+}
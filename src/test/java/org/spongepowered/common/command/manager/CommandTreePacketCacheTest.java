@@ -0,0 +1,83 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.command.manager;
+
+import net.minecraft.network.protocol.game.ClientboundCommandsPacket;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.command.CommandCause;
+
+import java.util.function.Predicate;
+
+public class CommandTreePacketCacheTest {
+
+    private static ClientboundCommandsPacket build(final CommandTreePacketCache cache, final CommandCause cause,
+            final Predicate<CommandCause> first, final Predicate<CommandCause> second) {
+        cache.beginRecording();
+        if (CommandTreePacketCache.test(first, cause)) {
+            CommandTreePacketCache.test(second, cause);
+        }
+        cache.endRecording();
+        final ClientboundCommandsPacket packet = Mockito.mock(ClientboundCommandsPacket.class);
+        cache.store(packet);
+        return packet;
+    }
+
+    @Test
+    public void testSharesPacketsForSameResults() {
+        final CommandTreePacketCache cache = new CommandTreePacketCache();
+        final Object service = new Object();
+        final CommandCause admin = Mockito.mock(CommandCause.class);
+        final CommandCause moderator = Mockito.mock(CommandCause.class);
+        final CommandCause guest = Mockito.mock(CommandCause.class);
+        final Predicate<CommandCause> first = cause -> cause != guest;
+        final Predicate<CommandCause> second = cause -> cause == admin;
+
+        Assertions.assertNull(cache.find(admin, service));
+        final ClientboundCommandsPacket adminPacket = CommandTreePacketCacheTest.build(cache, admin, first, second);
+        Assertions.assertSame(adminPacket, cache.find(admin, service));
+        Assertions.assertNull(cache.find(moderator, service));
+        Assertions.assertNull(cache.find(guest, service));
+
+        final ClientboundCommandsPacket guestPacket = CommandTreePacketCacheTest.build(cache, guest, first, second);
+        Assertions.assertSame(guestPacket, cache.find(guest, service));
+        Assertions.assertSame(adminPacket, cache.find(admin, service));
+        Assertions.assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testInvalidatesOnPermissionServiceChange() {
+        final CommandTreePacketCache cache = new CommandTreePacketCache();
+        final CommandCause cause = Mockito.mock(CommandCause.class);
+        final Object service = new Object();
+
+        Assertions.assertNull(cache.find(cause, service));
+        final ClientboundCommandsPacket packet = CommandTreePacketCacheTest.build(cache, cause, c -> true, c -> true);
+        Assertions.assertSame(packet, cache.find(cause, service));
+        Assertions.assertNull(cache.find(cause, new Object()));
+        Assertions.assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity.activation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import net.minecraft.util.Mth;
+import net.minecraft.world.phys.AABB;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class ActivationGridTest {
+
+    private static final int MAX_RANGE = 32;
+    private static final int HEIGHT = 256;
+
+    private static AABB player(final double x, final double y, final double z) {
+        return new AABB(x - 0.3D, y, z - 0.3D, x + 0.3D, y + 1.8D, z + 0.3D);
+    }
+
+    /**
+     * Whether the entity is activated by the per player loop, which grew
+     * each player box and checked the entities of every chunk in range.
+     */
+    private static boolean activatedPerPlayer(final List<AABB> players, final AABB entity, final int range) {
+        final int chunkX = Mth.floor(entity.minX) >> 4;
+        final int chunkZ = Mth.floor(entity.minZ) >> 4;
+        for (final AABB player : players) {
+            if (chunkX < Mth.floor((player.minX - ActivationGridTest.MAX_RANGE) / 16.0D)
+                || chunkX > Mth.floor((player.maxX + ActivationGridTest.MAX_RANGE) / 16.0D)
+                || chunkZ < Mth.floor((player.minZ - ActivationGridTest.MAX_RANGE) / 16.0D)
+                || chunkZ > Mth.floor((player.maxZ + ActivationGridTest.MAX_RANGE) / 16.0D)) {
+                continue;
+            }
+            if (player.inflate(range, ActivationGridTest.HEIGHT, range).intersects(entity)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean activated(final ActivationGrid grid, final AABB entity, final int range) {
+        final ActivationVolumes volumes = grid.volumes(Mth.floor(entity.minX) >> 4, Mth.floor(entity.minZ) >> 4);
+        return volumes != null && volumes.intersects(entity, range, ActivationGridTest.HEIGHT);
+    }
+
+    @Test
+    void matchesPerPlayerActivation() {
+        final Random random = new Random(42L);
+        final List<AABB> players = new ArrayList<>();
+        // A crowd around spawn and a few players further out
+        for (int i = 0; i < 40; i++) {
+            players.add(ActivationGridTest.player(random.nextGaussian() * 6.0D, 64.0D + random.nextInt(4), random.nextGaussian() * 6.0D));
+        }
+        for (int i = 0; i < 10; i++) {
+            players.add(ActivationGridTest.player(random.nextDouble() * 400.0D - 200.0D, 64.0D, random.nextDouble() * 400.0D - 200.0D));
+        }
+        final ActivationGrid grid = new ActivationGrid();
+        players.forEach(player -> grid.add(player, ActivationGridTest.MAX_RANGE));
+
+        int activated = 0;
+        for (int i = 0; i < 20000; i++) {
+            final double x = random.nextDouble() * 480.0D - 240.0D;
+            final double z = random.nextDouble() * 480.0D - 240.0D;
+            final AABB entity = new AABB(x, 60.0D, z, x + 0.9D, 61.4D, z + 0.9D);
+            final int range = random.nextBoolean() ? 16 : ActivationGridTest.MAX_RANGE;
+
+            final boolean expected = ActivationGridTest.activatedPerPlayer(players, entity, range);
+            assertEquals(expected, ActivationGridTest.activated(grid, entity, range), entity + " in range " + range);
+            if (expected) {
+                activated++;
+            }
+        }
+        assertTrue(activated > 0);
+    }
+
+    @Test
+    void activationRangeIsExclusive() {
+        final ActivationGrid grid = new ActivationGrid();
+        grid.add(new AABB(0.0D, 64.0D, 0.0D, 1.0D, 66.0D, 1.0D), ActivationGridTest.MAX_RANGE);
+
+        assertFalse(ActivationGridTest.activated(grid, new AABB(17.0D, 64.0D, 0.0D, 18.0D, 65.0D, 1.0D), 16));
+        assertTrue(ActivationGridTest.activated(grid, new AABB(16.9D, 64.0D, 0.0D, 17.9D, 65.0D, 1.0D), 16));
+    }
+
+    @Test
+    void skipsContainedBoxes() {
+        final ActivationVolumes volumes = new ActivationVolumes();
+        volumes.add(new AABB(0.0D, 0.0D, 0.0D, 2.0D, 2.0D, 2.0D));
+        volumes.add(new AABB(0.5D, 0.5D, 0.5D, 1.5D, 1.5D, 1.5D));
+        volumes.add(new AABB(100.0D, 0.0D, 0.0D, 101.0D, 1.0D, 1.0D));
+
+        assertEquals(2, volumes.count());
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.entity.DamageEntityEvent;
+import org.spongepowered.api.event.lifecycle.StoppedGameEvent;
+import org.spongepowered.common.test.TestEventManager;
+import org.spongepowered.common.test.UnitTestExtension;
+import org.spongepowered.plugin.PluginContainer;
+
+@ExtendWith(UnitTestExtension.class)
+public class HandlerCacheInvalidationTest {
+
+    @Test
+    public void unrelatedRegistrationKeepsCache() {
+        final SpongeEventManager eventManager = new TestEventManager();
+        final PluginContainer plugin = Mockito.mock(PluginContainer.class);
+        final StoppedGameEvent event = Mockito.mock(StoppedGameEvent.class);
+        eventManager.registerListeners(plugin, new StoppedListener());
+
+        final RegisteredListener.Cache baked = eventManager.getHandlerCache(event);
+        assertEquals(1, baked.getListeners().size());
+
+        eventManager.registerListeners(plugin, new DamageListener());
+        assertSame(baked, eventManager.getHandlerCache(event));
+    }
+
+    @Test
+    public void relatedRegistrationInvalidatesCache() {
+        final SpongeEventManager eventManager = new TestEventManager();
+        final PluginContainer plugin = Mockito.mock(PluginContainer.class);
+        final StoppedGameEvent event = Mockito.mock(StoppedGameEvent.class);
+        eventManager.registerListeners(plugin, new StoppedListener());
+
+        final RegisteredListener.Cache baked = eventManager.getHandlerCache(event);
+        final StoppedListener second = new StoppedListener();
+        eventManager.registerListeners(plugin, second);
+        final RegisteredListener.Cache rebaked = eventManager.getHandlerCache(event);
+        assertNotSame(baked, rebaked);
+        assertEquals(2, rebaked.getListeners().size());
+
+        eventManager.unregisterListeners(second);
+        assertEquals(1, eventManager.getHandlerCache(event).getListeners().size());
+    }
+
+    public static class StoppedListener {
+
+        @Listener
+        public void onStopped(final StoppedGameEvent event) {
+        }
+    }
+
+    public static class DamageListener {
+
+        @Listener
+        public void onDamage(final DamageEntityEvent event) {
+        }
+    }
+}
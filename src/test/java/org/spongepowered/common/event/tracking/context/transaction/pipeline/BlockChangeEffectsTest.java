@@ -0,0 +1,66 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.context.transaction.pipeline;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.common.event.tracking.BlockChangeFlagManager;
+import org.spongepowered.common.event.tracking.context.transaction.effect.NotifyClientEffect;
+import org.spongepowered.common.event.tracking.context.transaction.effect.NotifyNeighborSideEffect;
+import org.spongepowered.common.event.tracking.context.transaction.effect.UpdateConnectingBlocksEffect;
+import org.spongepowered.common.event.tracking.context.transaction.effect.UpdateLightSideEffect;
+import org.spongepowered.common.util.Constants;
+import org.spongepowered.common.world.SpongeBlockChangeFlag;
+
+class BlockChangeEffectsTest {
+
+    @Test
+    void verifyEffectsAreShared() {
+        final SpongeBlockChangeFlag flag = BlockChangeFlagManager.fromNativeInt(Constants.BlockChangeFlags.DEFAULT);
+        Assertions.assertSame(BlockChangeEffects.worldEffects(flag), BlockChangeEffects.worldEffects(flag));
+    }
+
+    @Test
+    void verifyDefaultFlagRunsAllEffects() {
+        final SpongeBlockChangeFlag flag = BlockChangeFlagManager.fromNativeInt(Constants.BlockChangeFlags.DEFAULT);
+        Assertions.assertEquals(7, BlockChangeEffects.worldEffects(flag).size());
+    }
+
+    @Test
+    void verifyNoneFlagSkipsFlaggedEffects() {
+        final SpongeBlockChangeFlag none = BlockChangeFlagManager.fromNativeInt(Constants.BlockChangeFlags.NONE);
+        Assertions.assertFalse(BlockChangeEffects.worldEffects(none).contains(UpdateLightSideEffect.getInstance()));
+        Assertions.assertFalse(BlockChangeEffects.worldEffects(none).contains(NotifyClientEffect.getInstance()));
+        Assertions.assertFalse(BlockChangeEffects.worldEffects(none).contains(NotifyNeighborSideEffect.getInstance()));
+        Assertions.assertFalse(BlockChangeEffects.worldEffects(none).contains(UpdateConnectingBlocksEffect.getInstance()));
+    }
+
+    @Test
+    void verifyFlagsOutsideOfPrecomputedRange() {
+        final SpongeBlockChangeFlag flag = BlockChangeFlagManager.fromNativeInt(
+            BlockChangeEffects.PRECOMPUTED_FLAGS | Constants.BlockChangeFlags.DEFAULT);
+        Assertions.assertEquals(7, BlockChangeEffects.worldEffects(flag).size());
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.inventory.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.item.inventory.Inventory;
+import org.spongepowered.api.item.inventory.Slot;
+import org.spongepowered.common.inventory.lens.Lens;
+import org.spongepowered.common.inventory.query.type.TypeQuery;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class QueryPlansTest {
+
+    private static Object plan(final Lens root, final Object query, final AtomicInteger compiled) {
+        return QueryPlans.get(root, query, () -> {
+            compiled.incrementAndGet();
+            return "plan " + query;
+        });
+    }
+
+    @Test
+    void compilesEachQueryOnce() {
+        final Lens root = mock(Lens.class);
+        final AtomicInteger compiled = new AtomicInteger();
+
+        assertEquals("plan a", QueryPlansTest.plan(root, "a", compiled));
+        assertEquals("plan a", QueryPlansTest.plan(root, "a", compiled));
+        assertEquals("plan b", QueryPlansTest.plan(root, "b", compiled));
+
+        assertEquals(2, compiled.get());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedPlan() {
+        final Lens root = mock(Lens.class);
+        final AtomicInteger compiled = new AtomicInteger();
+        for (int query = 0; query < QueryPlans.MAX_PLANS_PER_ROOT; query++) {
+            QueryPlansTest.plan(root, query, compiled);
+        }
+        QueryPlansTest.plan(root, 0, compiled);
+        QueryPlansTest.plan(root, QueryPlans.MAX_PLANS_PER_ROOT, compiled);
+        compiled.set(0);
+
+        // The plan used last stays, the oldest one is compiled again
+        QueryPlansTest.plan(root, 0, compiled);
+        assertEquals(0, compiled.get());
+        QueryPlansTest.plan(root, 1, compiled);
+        assertEquals(1, compiled.get());
+    }
+
+    @Test
+    void structuralMatchesAreCopied() {
+        final Lens root = mock(Lens.class);
+        final Lens first = mock(Lens.class);
+        final Lens second = mock(Lens.class);
+        when(root.getAdapterType()).then(invocation -> Inventory.class);
+        when(first.getAdapterType()).then(invocation -> Slot.class);
+        when(second.getAdapterType()).then(invocation -> Slot.class);
+        when(root.getChildren()).thenReturn(Arrays.asList(first, second));
+        when(first.getChildren()).thenReturn(Collections.emptyList());
+        when(second.getChildren()).thenReturn(Collections.emptyList());
+
+        final Map<Lens, Integer> matches = new TypeQuery(Slot.class).findMatches(null, root);
+        matches.clear();
+
+        final Map<Lens, Integer> again = new TypeQuery(Slot.class).findMatches(null, root);
+        assertNotSame(matches, again);
+        assertEquals(Arrays.asList(first, second), Arrays.asList(again.keySet().toArray()));
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import net.minecraft.network.chat.ChatType;
+import net.minecraft.world.entity.player.ChatVisiblity;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.util.locale.Locales;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+class LocalizedPacketBroadcasterTest {
+
+    @Test
+    void fullVisibilityShowsAllChat() {
+        for (final ChatType type : ChatType.values()) {
+            assertTrue(LocalizedPacketBroadcaster.acceptsChat(ChatVisiblity.FULL, type), type.name());
+        }
+    }
+
+    @Test
+    void systemVisibilityOnlyShowsSystemChat() {
+        assertFalse(LocalizedPacketBroadcaster.acceptsChat(ChatVisiblity.SYSTEM, ChatType.CHAT));
+        assertTrue(LocalizedPacketBroadcaster.acceptsChat(ChatVisiblity.SYSTEM, ChatType.SYSTEM));
+        assertTrue(LocalizedPacketBroadcaster.acceptsChat(ChatVisiblity.SYSTEM, ChatType.GAME_INFO));
+    }
+
+    @Test
+    void hiddenVisibilityOnlyShowsGameInfo() {
+        assertFalse(LocalizedPacketBroadcaster.acceptsChat(ChatVisiblity.HIDDEN, ChatType.CHAT));
+        assertFalse(LocalizedPacketBroadcaster.acceptsChat(ChatVisiblity.HIDDEN, ChatType.SYSTEM));
+        assertTrue(LocalizedPacketBroadcaster.acceptsChat(ChatVisiblity.HIDDEN, ChatType.GAME_INFO));
+    }
+
+    @Test
+    void groupsRecipientsByLocaleInEncounterOrder() {
+        final Map<String, Locale> locales = new HashMap<>();
+        locales.put("a", Locale.GERMANY);
+        locales.put("b", Locale.FRANCE);
+        locales.put("c", Locale.GERMANY);
+        locales.put("d", Locale.FRANCE);
+        locales.put("e", Locale.JAPAN);
+
+        final Map<Locale, List<String>> groups = LocalizedPacketBroadcaster.groupByLocale(Arrays.asList("a", "b", "c", "d", "e"), locales::get);
+
+        assertEquals(Arrays.asList(Locale.GERMANY, Locale.FRANCE, Locale.JAPAN), new ArrayList<>(groups.keySet()));
+        assertEquals(Arrays.asList("a", "c"), groups.get(Locale.GERMANY));
+        assertEquals(Arrays.asList("b", "d"), groups.get(Locale.FRANCE));
+        assertEquals(Collections.singletonList("e"), groups.get(Locale.JAPAN));
+    }
+
+    @Test
+    void recipientsWithoutLocaleUseDefault() {
+        final Map<Locale, List<String>> groups = LocalizedPacketBroadcaster.groupByLocale(Arrays.asList("a", "b"),
+            recipient -> recipient.equals("a") ? null : Locales.DEFAULT);
+
+        assertEquals(Collections.singleton(Locales.DEFAULT), groups.keySet());
+        assertEquals(Arrays.asList("a", "b"), groups.get(Locales.DEFAULT));
+    }
+
+}
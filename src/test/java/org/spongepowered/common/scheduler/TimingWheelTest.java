@@ -0,0 +1,94 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class TimingWheelTest {
+
+    private static List<Long> advance(final TimingWheel<Long> wheel, final long tick) {
+        final List<Long> due = new ArrayList<>();
+        wheel.advance(tick, due::add);
+        return due;
+    }
+
+    @Test
+    void releasesOnExactTick() {
+        final TimingWheel<Long> wheel = new TimingWheel<>(0L);
+        final long[] ticks = {1, 63, 64, 65, 4095, 4096, 4097, 262_144, 300_000, 16_777_216, 20_000_000};
+        for (final long tick : ticks) {
+            wheel.schedule(tick, tick);
+        }
+        assertEquals(ticks.length, wheel.size());
+        for (long tick = 1; tick <= 20_000_000; tick++) {
+            for (final long released : TimingWheelTest.advance(wheel, tick)) {
+                assertEquals(tick, released, "Element released on the wrong tick");
+            }
+        }
+        assertTrue(wheel.isEmpty());
+    }
+
+    @Test
+    void pastTicksAreReleasedOnNextAdvance() {
+        final TimingWheel<Long> wheel = new TimingWheel<>(100L);
+        wheel.schedule(5L, 5L);
+        wheel.schedule(100L, 100L);
+        assertEquals(Arrays.asList(5L, 100L), TimingWheelTest.advance(wheel, 101L));
+        assertTrue(wheel.isEmpty());
+    }
+
+    @Test
+    void releasesEverythingWhenSkippingAhead() {
+        final TimingWheel<Long> wheel = new TimingWheel<>(0L);
+        for (long tick = 1; tick <= 10_000; tick += 7) {
+            wheel.schedule(tick, tick);
+        }
+        final int scheduled = wheel.size();
+        final List<Long> due = TimingWheelTest.advance(wheel, 10_000L);
+        assertEquals(scheduled, due.size());
+        for (int i = 1; i < due.size(); i++) {
+            assertTrue(due.get(i - 1) < due.get(i), "Elements released out of order");
+        }
+    }
+
+    @Test
+    void schedulesRelativeToCurrentTick() {
+        final TimingWheel<Long> wheel = new TimingWheel<>(0L);
+        TimingWheelTest.advance(wheel, 5_000L);
+        wheel.schedule(5_100L, 5_100L);
+        wheel.schedule(9_200L, 9_200L);
+        assertTrue(TimingWheelTest.advance(wheel, 5_099L).isEmpty());
+        assertEquals(Arrays.asList(5_100L), TimingWheelTest.advance(wheel, 5_100L));
+        assertTrue(TimingWheelTest.advance(wheel, 9_199L).isEmpty());
+        assertEquals(Arrays.asList(9_200L), TimingWheelTest.advance(wheel, 9_200L));
+    }
+}
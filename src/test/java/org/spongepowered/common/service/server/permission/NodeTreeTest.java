@@ -110,4 +110,26 @@ public void testCreateFromValues() throws Exception {
         Assertions.assertEquals(Tristate.FALSE, nodes.get("generate.thunderstorm.explosive"));
         Assertions.assertEquals(Tristate.UNDEFINED, nodes.get("random.perm"));
     }
+
+    @Test
+    public void testGetIgnoresCase() {
+        final Map<String, Boolean> testPermissions = new HashMap<>();
+        testPermissions.put("Generate.Rainbow", true);
+        testPermissions.put("generate.sunset", false);
+        for (int i = 0; i < 64; i++) {
+            testPermissions.put("generate.weather" + i, i % 2 == 0);
+        }
+
+        final NodeTree nodes = NodeTreeTest.FACTORY.ofBooleans(testPermissions, Tristate.UNDEFINED);
+
+        Assertions.assertEquals(Tristate.TRUE, nodes.get("generate.rainbow"));
+        Assertions.assertEquals(Tristate.TRUE, nodes.get("GENERATE.RAINBOW.double"));
+        Assertions.assertEquals(Tristate.FALSE, nodes.get("generate.SunSet"));
+        for (int i = 0; i < 64; i++) {
+            Assertions.assertEquals(Tristate.fromBoolean(i % 2 == 0), nodes.get("generate.Weather" + i));
+        }
+        Assertions.assertEquals(Tristate.UNDEFINED, nodes.get("generate.weather64"));
+        Assertions.assertEquals(Tristate.UNDEFINED, nodes.get("generate."));
+        Assertions.assertEquals(Tristate.UNDEFINED, nodes.get(""));
+    }
 }
@@ -0,0 +1,71 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.user;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.profile.GameProfile;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+public class UserNameIndexTest {
+
+    private static List<String> names(final UserNameIndex index, final String prefix) {
+        return index.matches(prefix).map(profile -> profile.name().orElse(null)).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testPrefixMatches() {
+        final UserNameIndex index = new UserNameIndex();
+        index.put(UUID.randomUUID(), "Notch");
+        index.put(UUID.randomUUID(), "notchy");
+        index.put(UUID.randomUUID(), "jeb_");
+        index.put(UUID.randomUUID(), null);
+
+        Assertions.assertEquals(Arrays.asList("Notch", "notchy"), UserNameIndexTest.names(index, "NOT"));
+        Assertions.assertEquals(Collections.singletonList("jeb_"), UserNameIndexTest.names(index, "jeb_"));
+        Assertions.assertEquals(Collections.emptyList(), UserNameIndexTest.names(index, "notchyy"));
+        Assertions.assertEquals(3, UserNameIndexTest.names(index, "").size());
+    }
+
+    @Test
+    public void testRenameAndRemove() {
+        final UserNameIndex index = new UserNameIndex();
+        final UUID uniqueId = UUID.randomUUID();
+        index.put(uniqueId, "Dinnerbone");
+        index.put(uniqueId, "Grumm");
+
+        Assertions.assertEquals(Collections.emptyList(), UserNameIndexTest.names(index, "dinner"));
+        Assertions.assertEquals(uniqueId, index.matches("grumm").map(GameProfile::uniqueId).findFirst().orElse(null));
+
+        index.remove(uniqueId);
+        Assertions.assertEquals(0, index.size());
+        Assertions.assertEquals(Collections.emptyList(), UserNameIndexTest.names(index, ""));
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class RegionFileLinksTest {
+
+    @Test
+    public void testUnlinkLeavesOriginalUntouched(@TempDir final Path directory) throws IOException {
+        Assumptions.assumeTrue(RegionFileLinks.canLink(directory));
+        final Path original = directory.resolve("r.0.0.mca");
+        final Path copy = directory.resolve("r.0.1.mca");
+        Files.write(original, new byte[] {1, 2, 3});
+
+        Assertions.assertTrue(RegionFileLinks.linkOrCopy(original, copy));
+        Assertions.assertTrue(Files.isSameFile(original, copy));
+        Assertions.assertTrue(RegionFileLinks.isShared(copy));
+
+        RegionFileLinks.unlink(copy);
+        Assertions.assertFalse(Files.isSameFile(original, copy));
+        Assertions.assertFalse(RegionFileLinks.isShared(copy));
+        Files.write(copy, new byte[] {4});
+        Assertions.assertArrayEquals(new byte[] {1, 2, 3}, Files.readAllBytes(original));
+
+        // A file that is not shared is left alone
+        RegionFileLinks.unlink(original);
+        Assertions.assertArrayEquals(new byte[] {1, 2, 3}, Files.readAllBytes(original));
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.block.state.BlockState;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.block.BlockSnapshot;
+import org.spongepowered.api.block.transaction.BlockTransaction;
+import org.spongepowered.common.block.SpongeBlockSnapshot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+class BulkBlockWriterTest {
+
+    @Test
+    void indexRoundTrips() {
+        for (int y = 0; y < 16; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    final int index = BulkBlockWriter.index(x, y, z);
+                    Assertions.assertTrue(index >= 0 && index < 4096);
+                    Assertions.assertEquals(x, BulkBlockWriter.x(index));
+                    Assertions.assertEquals(y, BulkBlockWriter.y(index));
+                    Assertions.assertEquals(z, BulkBlockWriter.z(index));
+                }
+            }
+        }
+        Assertions.assertEquals(BulkBlockWriter.index(1, 2, 3), BulkBlockWriter.index(-15, 18, 35));
+    }
+
+    @Test
+    void transactionsAreCreatedOnlyWhenRead() {
+        final BlockState original = Mockito.mock(BlockState.class);
+        final BlockState replacement = Mockito.mock(BlockState.class);
+        final BulkBlockWriter.SectionChanges first = BulkBlockWriterTest.section(0, 2, original, replacement);
+        final BulkBlockWriter.SectionChanges second = BulkBlockWriterTest.section(2, 3, original, replacement);
+        final List<Integer> created = new ArrayList<>();
+        final BulkBlockWriter.LazyTransactions transactions = new BulkBlockWriter.LazyTransactions(Arrays.asList(first, second),
+            (section, i) -> {
+                created.add(section.offset + i);
+                return BulkBlockWriterTest.transaction(true, null);
+            });
+
+        Assertions.assertEquals(5, transactions.size());
+        Assertions.assertSame(transactions.get(3), transactions.get(3));
+        transactions.get(1);
+        Assertions.assertEquals(Arrays.asList(3, 1), created);
+
+        transactions.applyResults();
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertSame(replacement, second.replacements[i]);
+        }
+        Assertions.assertSame(replacement, first.replacements[0]);
+        Assertions.assertSame(replacement, first.replacements[1]);
+    }
+
+    @Test
+    void invalidatedTransactionsAreSkipped() {
+        final BlockState original = Mockito.mock(BlockState.class);
+        final BlockState replacement = Mockito.mock(BlockState.class);
+        final BulkBlockWriter.SectionChanges section = BulkBlockWriterTest.section(0, 2, original, replacement);
+        final BlockTransaction invalid = BulkBlockWriterTest.transaction(false, null);
+        final BulkBlockWriter.LazyTransactions transactions = new BulkBlockWriter.LazyTransactions(Arrays.asList(section),
+            (s, i) -> i == 0 ? invalid : BulkBlockWriterTest.transaction(true, null));
+
+        transactions.get(0);
+        transactions.get(1);
+        transactions.applyResults();
+        Assertions.assertNull(section.replacements[0]);
+        Assertions.assertSame(replacement, section.replacements[1]);
+    }
+
+    @Test
+    void customReplacementsAreApplied() {
+        final BlockState original = Mockito.mock(BlockState.class);
+        final BlockState replacement = Mockito.mock(BlockState.class);
+        final BlockState custom = Mockito.mock(BlockState.class);
+        final BulkBlockWriter.SectionChanges section = BulkBlockWriterTest.section(0, 2, original, replacement);
+        final BulkBlockWriter.LazyTransactions transactions = new BulkBlockWriter.LazyTransactions(Arrays.asList(section),
+            (s, i) -> BulkBlockWriterTest.transaction(true, i == 0 ? custom : original));
+
+        transactions.get(0);
+        transactions.get(1);
+        transactions.applyResults();
+        Assertions.assertSame(custom, section.replacements[0]);
+        // A custom replacement equal to the original is not a change
+        Assertions.assertNull(section.replacements[1]);
+    }
+
+    private static BulkBlockWriter.SectionChanges section(final int offset, final int size, final BlockState original,
+        final BlockState replacement) {
+        final BulkBlockWriter.SectionChanges section = new BulkBlockWriter.SectionChanges(null, SectionPos.of(0, 0, 0), offset);
+        for (int i = 0; i < size; i++) {
+            section.add(BulkBlockWriter.index(i, 0, 0), original, replacement);
+        }
+        return section;
+    }
+
+    private static BlockTransaction transaction(final boolean valid, final @Nullable BlockState custom) {
+        final BlockTransaction transaction = Mockito.mock(BlockTransaction.class);
+        Mockito.when(transaction.isValid()).thenReturn(valid);
+        if (custom == null) {
+            Mockito.when(transaction.custom()).thenReturn(Optional.empty());
+        } else {
+            final SpongeBlockSnapshot snapshot = Mockito.mock(SpongeBlockSnapshot.class);
+            Mockito.when(snapshot.nativeState()).thenReturn(custom);
+            Mockito.when(transaction.custom()).thenReturn(Optional.<BlockSnapshot>of(snapshot));
+            Mockito.when(transaction.finalReplacement()).thenReturn(snapshot);
+        }
+        return transaction;
+    }
+}
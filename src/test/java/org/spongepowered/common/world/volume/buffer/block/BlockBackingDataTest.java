@@ -0,0 +1,106 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume.buffer.block;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+class BlockBackingDataTest {
+
+    private static final int SIZE = 3 * BlockBackingData.SparseBackingData.SECTION_SIZE + 17;
+
+    private static void assertWidens(final BlockBackingData data) {
+        for (int i = 0; i < BlockBackingDataTest.SIZE; i += 7) {
+            data.set(i, i % 200);
+        }
+        final BlockBackingData widened = data.withMax(70_000);
+        assertTrue(widened.getMax() >= 70_000);
+        for (int i = 0; i < BlockBackingDataTest.SIZE; i++) {
+            assertEquals(i % 7 == 0 ? i % 200 : 0, widened.get(i), "Id changed while widening");
+        }
+        widened.set(BlockBackingDataTest.SIZE - 1, 70_000);
+        assertEquals(70_000, widened.get(BlockBackingDataTest.SIZE - 1));
+        assertEquals(widened, widened.copyOf());
+    }
+
+    @Test
+    void directWidens() {
+        BlockBackingDataTest.assertWidens(BlockBackingData.DirectBackingData.allocate(BlockBackingDataTest.SIZE, 255));
+    }
+
+    @Test
+    void mappedWidensInPlace(@TempDir final Path directory) throws IOException {
+        BlockBackingDataTest.assertWidens(BlockBackingData.DirectBackingData.map(directory.resolve("blocks.dat"), BlockBackingDataTest.SIZE, 255));
+    }
+
+    @Test
+    void directRejectsOverflowingCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> BlockBackingData.DirectBackingData.allocate(Integer.MAX_VALUE / 2, 0x10000));
+    }
+
+    @Test
+    void sparseWidens() {
+        BlockBackingDataTest.assertWidens(new BlockBackingData.SparseBackingData(BlockBackingDataTest.SIZE, 255));
+    }
+
+    @Test
+    void sparseOnlyAllocatesWrittenSections() {
+        final BlockBackingData.SparseBackingData data = new BlockBackingData.SparseBackingData(BlockBackingDataTest.SIZE, 15);
+        data.set(5, 0);
+        assertEquals(0, data.allocatedSections());
+        data.set(BlockBackingData.SparseBackingData.SECTION_SIZE + 5, 9);
+        assertEquals(1, data.allocatedSections());
+        assertEquals(9, data.get(BlockBackingData.SparseBackingData.SECTION_SIZE + 5));
+        assertEquals(0, data.get(5));
+        assertSame(data, data.withMax(15));
+    }
+
+    @Test
+    void copiesAreIndependent() {
+        final BlockBackingData data = BlockBackingData.DirectBackingData.allocate(BlockBackingDataTest.SIZE, 1000);
+        data.set(10, 999);
+        final BlockBackingData copy = data.copyOf();
+        assertNotSame(data, copy);
+        copy.set(10, 1);
+        assertEquals(999, data.get(10));
+    }
+
+    @Test
+    void factoryPicksBackingBySize() {
+        assertSame(BlockBackingData.Factory.SPARSE, BlockBackingData.Factory.forBuffer(1 << 24, true, 1 << 20));
+        assertSame(BlockBackingData.Factory.DIRECT, BlockBackingData.Factory.forBuffer(1 << 20, false, 1 << 20));
+        assertSame(BlockBackingData.Factory.PACKED, BlockBackingData.Factory.forBuffer((1 << 20) - 1, false, 1 << 20));
+        assertSame(BlockBackingData.Factory.PACKED, BlockBackingData.Factory.forBuffer(1 << 24, false, 0));
+    }
+}